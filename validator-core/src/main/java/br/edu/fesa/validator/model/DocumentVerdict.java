@@ -0,0 +1,141 @@
+package br.edu.fesa.validator.model;
+
+/**
+ * Packs the outcome of a document validation into a single flag word that fits in a byte, so that
+ * batches can be reported as a {@code byte[]}. Messages are looked up from a precomputed table
+ * instead of being built for every document.
+ */
+public final class DocumentVerdict {
+
+  /** Set when the document format is valid. */
+  public static final int VALID_FORMAT = 1;
+
+  /** Set when the document digits are all the same. */
+  public static final int REPEATED_DIGITS = 1 << 1;
+
+  /** Set when the check digits are valid. */
+  public static final int CHECK_DIGITS_VALID = 1 << 2;
+
+  /** Set when the document passed every validation. */
+  public static final int VALIDATED = 1 << 3;
+
+  /** Bits holding the detected document type. */
+  public static final int TYPE_MASK = 3 << 4;
+
+  /** Type bits of a document recognized as a CPF. */
+  public static final int TYPE_CPF = 1 << 4;
+
+  /** Type bits of a document recognized as an RG. */
+  public static final int TYPE_RG = 2 << 4;
+
+  /** Type bits of a document recognized as a CNPJ. */
+  public static final int TYPE_CNPJ = 3 << 4;
+
+  /** Set when a CPF that passed every other validation is rejected by the CPF list. */
+  public static final int BLOCKED = 1 << 6;
+
+  /** Number of distinct verdict words; every verdict is below it. */
+  public static final int VERDICT_COUNT = 1 << 7;
+
+  // Bits that decide the message
+  private static final int MESSAGE_MASK =
+      VALID_FORMAT | REPEATED_DIGITS | CHECK_DIGITS_VALID | VALIDATED | BLOCKED;
+
+  // Every distinct message and failure reason, indexed by the message bits of a verdict
+  private static final String[] MESSAGES = new String[MESSAGE_MASK + 1];
+  private static final String[] REASONS = new String[MESSAGE_MASK + 1];
+
+  static {
+    for (int verdict = 0; verdict < MESSAGES.length; verdict++) {
+      REASONS[verdict] = generateReason(verdict);
+      MESSAGES[verdict] =
+          has(verdict, VALIDATED) ? "Documento válido" : "Documento inválido: " + REASONS[verdict];
+    }
+  }
+
+  private DocumentVerdict() {}
+
+  /**
+   * Returns the validation message of a verdict. The message remains in Portuguese.
+   *
+   * @param verdict the verdict word
+   * @return a message describing the validation result
+   */
+  public static String message(int verdict) {
+    return MESSAGES[verdict & MESSAGE_MASK];
+  }
+
+  /**
+   * Returns the reasons a verdict failed validation, without the prefix of {@link #message}. The
+   * reasons remain in Portuguese.
+   *
+   * @param verdict the verdict word
+   * @return the failure reasons joined by " + ", or an empty string for a valid document
+   */
+  public static String reason(int verdict) {
+    return REASONS[verdict & MESSAGE_MASK];
+  }
+
+  /**
+   * Returns the detected document type of a verdict.
+   *
+   * @param verdict the verdict word
+   * @return "CPF", "RG", "CNPJ", or null when the format was not recognized
+   */
+  public static String type(int verdict) {
+    switch (verdict & TYPE_MASK) {
+      case TYPE_CPF:
+        return "CPF";
+      case TYPE_RG:
+        return "RG";
+      case TYPE_CNPJ:
+        return "CNPJ";
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Checks whether a verdict has all the given flags set.
+   *
+   * @param verdict the verdict word
+   * @param flags the flags to check
+   * @return true if every flag is set
+   */
+  public static boolean has(int verdict, int flags) {
+    return (verdict & flags) == flags;
+  }
+
+  /**
+   * Generates the failure reasons for a combination of flags.
+   *
+   * @param verdict the verdict word
+   * @return the failure reasons, or an empty string for a valid document
+   */
+  private static String generateReason(int verdict) {
+    if (has(verdict, VALIDATED)) {
+      return "";
+    }
+
+    StringBuilder reason = new StringBuilder();
+    String separator = "";
+
+    if (has(verdict, REPEATED_DIGITS)) {
+      reason.append(separator).append("dígitos repetidos");
+      separator = " + ";
+    }
+    if (!has(verdict, VALID_FORMAT)) {
+      reason.append(separator).append("formato inválido");
+      separator = " + ";
+    }
+    if (has(verdict, VALID_FORMAT) && !has(verdict, CHECK_DIGITS_VALID)) {
+      reason.append(separator).append("dígitos verificadores incorretos");
+      separator = " + ";
+    }
+    if (has(verdict, BLOCKED)) {
+      reason.append(separator).append("CPF bloqueado");
+    }
+
+    return reason.toString();
+  }
+}
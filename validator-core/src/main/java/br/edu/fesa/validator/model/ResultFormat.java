@@ -0,0 +1,137 @@
+package br.edu.fesa.validator.model;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/** Line-oriented formats used to stream validation results, one result per line. */
+public enum ResultFormat {
+  /** One JSON object per line. */
+  NDJSON("application/x-ndjson") {
+    @Override
+    public void writeHeader(Writer writer) {
+      // NDJSON has no header
+    }
+
+    @Override
+    public void writeResult(Writer writer, CharSequence document, int verdict) throws IOException {
+      String type = DocumentVerdict.type(verdict);
+      writer.write("{\"document\":\"");
+      writeJsonEscaped(writer, document);
+      writer.write("\",\"type\":");
+      writer.write(type == null ? "null" : '"' + type + '"');
+      writer.write(",\"validated\":");
+      writer.write(flag(verdict, DocumentVerdict.VALIDATED));
+      writer.write(",\"validFormat\":");
+      writer.write(flag(verdict, DocumentVerdict.VALID_FORMAT));
+      writer.write(",\"repeatedDigits\":");
+      writer.write(flag(verdict, DocumentVerdict.REPEATED_DIGITS));
+      writer.write(",\"checkDigitsValid\":");
+      writer.write(flag(verdict, DocumentVerdict.CHECK_DIGITS_VALID));
+      writer.write(",\"message\":\"");
+      writer.write(DocumentVerdict.message(verdict));
+      writer.write("\"}\n");
+    }
+  },
+
+  /** Comma-separated values with a header row. */
+  CSV("text/csv") {
+    @Override
+    public void writeHeader(Writer writer) throws IOException {
+      writer.write("document,type,validated,validFormat,repeatedDigits,checkDigitsValid,message\n");
+    }
+
+    @Override
+    public void writeResult(Writer writer, CharSequence document, int verdict) throws IOException {
+      String type = DocumentVerdict.type(verdict);
+      writeCsvEscaped(writer, document);
+      writer.write(',');
+      writer.write(type == null ? "" : type);
+      writer.write(',');
+      writer.write(flag(verdict, DocumentVerdict.VALIDATED));
+      writer.write(',');
+      writer.write(flag(verdict, DocumentVerdict.VALID_FORMAT));
+      writer.write(',');
+      writer.write(flag(verdict, DocumentVerdict.REPEATED_DIGITS));
+      writer.write(',');
+      writer.write(flag(verdict, DocumentVerdict.CHECK_DIGITS_VALID));
+      writer.write(',');
+      writer.write(DocumentVerdict.message(verdict));
+      writer.write('\n');
+    }
+  };
+
+  private final String mediaType;
+
+  ResultFormat(String mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  /**
+   * Returns the media type of the format.
+   *
+   * @return the media type sent as the response content type
+   */
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Writes the header of the format, if it has one.
+   *
+   * @param writer the destination
+   * @throws IOException if the destination cannot be written
+   */
+  public abstract void writeHeader(Writer writer) throws IOException;
+
+  /**
+   * Writes a single validation result as one line.
+   *
+   * @param writer the destination
+   * @param document the validated document
+   * @param verdict the {@link DocumentVerdict} word of the document
+   * @throws IOException if the destination cannot be written
+   */
+  public abstract void writeResult(Writer writer, CharSequence document, int verdict)
+      throws IOException;
+
+  private static String flag(int verdict, int flag) {
+    return DocumentVerdict.has(verdict, flag) ? "true" : "false";
+  }
+
+  private static void writeJsonEscaped(Writer writer, CharSequence value) throws IOException {
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        writer.write('\\');
+        writer.write(c);
+      } else if (c < ' ') {
+        writer.write(String.format("\\u%04x", (int) c));
+      } else {
+        writer.write(c);
+      }
+    }
+  }
+
+  private static void writeCsvEscaped(Writer writer, CharSequence value) throws IOException {
+    boolean quote = false;
+    for (int i = 0, length = value.length(); i < length && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+
+    if (!quote) {
+      writer.append(value);
+      return;
+    }
+
+    writer.write('"');
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        writer.write('"');
+      }
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+}
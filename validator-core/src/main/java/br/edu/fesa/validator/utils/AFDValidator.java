@@ -0,0 +1,216 @@
+package br.edu.fesa.validator.utils;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * AFDValidator is responsible for validating the format of documents (CPF, RG and CNPJ) using a
+ * deterministic finite automaton, compiled from the accepted format patterns into a minimized
+ * transition table.
+ */
+public class AFDValidator {
+
+  /** Verdict returned by {@link #classify} when the input ends outside a final state. */
+  public static final int INCOMPLETE = FormatAutomaton.NO_VERDICT;
+
+  /** Verdict returned by {@link #classify} when the input is a well-formed CPF. */
+  public static final int CPF = 1;
+
+  /** Verdict returned by {@link #classify} when the input is a well-formed RG. */
+  public static final int RG = 2;
+
+  /** Verdict returned by {@link #classify} when the input is a well-formed CNPJ. */
+  public static final int CNPJ = 3;
+
+  /** Accepted CPF formats: 11 digits, optionally punctuated as 111.111.111-11. */
+  public static final List<String> CPF_FORMATS = List.of("###.?###.?###-?##");
+
+  /** Accepted RG formats: 9 digits or 8 digits and 'X', optionally punctuated as 11.111.111-1. */
+  public static final List<String> RG_FORMATS = List.of("##.?###.?###-?[0-9Xx]");
+
+  /**
+   * Accepted CNPJ formats: 12 digits or uppercase letters (alphanumeric CNPJ) and 2 check digits,
+   * optionally punctuated as 11.111.111/1111-11.
+   */
+  public static final List<String> CNPJ_FORMATS =
+      List.of("[0-9A-Z]{2}.?[0-9A-Z]{3}.?[0-9A-Z]{3}/?[0-9A-Z]{4}-?##");
+
+  private static final int REJECT = FormatAutomaton.REJECT;
+
+  private final FormatAutomaton automaton;
+
+  /** Creates a validator for the accepted CPF, RG and CNPJ formats. */
+  public AFDValidator() {
+    this(
+        new FormatCompiler()
+            .addAll(CPF_FORMATS, CPF)
+            .addAll(RG_FORMATS, RG)
+            .addAll(CNPJ_FORMATS, CNPJ)
+            .compile());
+  }
+
+  /**
+   * Creates a validator running a compiled automaton.
+   *
+   * @param automaton the automaton, whose verdicts are {@link #CPF}, {@link #RG} and {@link
+   *     #CNPJ}
+   */
+  public AFDValidator(FormatAutomaton automaton) {
+    this.automaton = automaton;
+  }
+
+  /**
+   * Runs the automaton over the input without copying or boxing any character.
+   *
+   * @param document the document characters to classify
+   * @return {@link #CPF}, {@link #RG}, {@link #CNPJ} or {@link #INCOMPLETE}; a negative value
+   *     {@code -(i + 1)} means the character at index {@code i} is not allowed
+   */
+  public int classify(CharSequence document) {
+    int state = start();
+
+    for (int i = 0, length = document.length(); i < length; i++) {
+      int next = next(state, document.charAt(i));
+
+      if (next == REJECT) {
+        return -(i + 1);
+      }
+
+      state = next;
+    }
+
+    return automaton.verdict(state);
+  }
+
+  /**
+   * Classifies the ASCII document held in a range of a byte array, without decoding it. Bytes are
+   * read as ISO-8859-1, so any non-ASCII byte is rejected.
+   *
+   * @param bytes the bytes holding the document
+   * @param offset the index of the first byte of the document
+   * @param length the number of bytes of the document
+   * @return {@link #CPF}, {@link #RG}, {@link #CNPJ} or {@link #INCOMPLETE}; a negative value
+   *     {@code -(i + 1)} means the byte at {@code offset + i} is not allowed
+   */
+  public int classify(byte[] bytes, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return classify(ByteBuffer.wrap(bytes), offset, offset + length);
+  }
+
+  /**
+   * Classifies the ASCII document held between the position and the limit of a byte buffer,
+   * without decoding it and without moving the buffer position.
+   *
+   * @param buffer the bytes holding the document, heap or direct
+   * @return {@link #CPF}, {@link #RG}, {@link #CNPJ} or {@link #INCOMPLETE}; a negative value
+   *     {@code -(i + 1)} means the byte at {@code position + i} is not allowed
+   */
+  public int classify(ByteBuffer buffer) {
+    return classify(buffer, buffer.position(), buffer.limit());
+  }
+
+  private int classify(ByteBuffer buffer, int start, int end) {
+    int state = start();
+
+    for (int i = start; i < end; i++) {
+      int next = next(state, (char) (buffer.get(i) & 0xFF));
+
+      if (next == REJECT) {
+        return -(i - start + 1);
+      }
+
+      state = next;
+    }
+
+    return automaton.verdict(state);
+  }
+
+  /**
+   * Returns the initial state of the automaton, for callers that drive it one character at a time.
+   *
+   * @return the initial state
+   */
+  int start() {
+    return automaton.start();
+  }
+
+  /**
+   * Performs a single transition of the automaton.
+   *
+   * @param state the current state
+   * @param c the input character
+   * @return the next state, or a negative value if the character is not allowed
+   */
+  int next(int state, char c) {
+    return automaton.next(state, c);
+  }
+
+  /**
+   * Returns the verdict reported when the input ends in the given state.
+   *
+   * @param state the state
+   * @return {@link #CPF}, {@link #RG}, {@link #CNPJ} or {@link #INCOMPLETE}
+   */
+  int verdict(int state) {
+    return automaton.verdict(state);
+  }
+
+  /**
+   * Validates the format of a document using the deterministic finite automaton.
+   *
+   * @param document the document string to validate
+   * @return a message in Portuguese indicating the result of the validation
+   */
+  public String validateDocument(String document) {
+    int verdict = classify(document);
+    return message(verdict, verdict < 0 ? document.charAt(-verdict - 1) : 0);
+  }
+
+  /**
+   * Validates the format of an ASCII document held in a range of a byte array.
+   *
+   * @param bytes the bytes holding the document
+   * @param offset the index of the first byte of the document
+   * @param length the number of bytes of the document
+   * @return a message in Portuguese indicating the result of the validation
+   */
+  public String validateDocument(byte[] bytes, int offset, int length) {
+    int verdict = classify(bytes, offset, length);
+    return message(verdict, verdict < 0 ? (char) (bytes[offset - verdict - 1] & 0xFF) : 0);
+  }
+
+  /**
+   * Validates the format of an ASCII document held between the position and the limit of a byte
+   * buffer, without moving the buffer position.
+   *
+   * @param buffer the bytes holding the document, heap or direct
+   * @return a message in Portuguese indicating the result of the validation
+   */
+  public String validateDocument(ByteBuffer buffer) {
+    int verdict = classify(buffer);
+    return message(
+        verdict, verdict < 0 ? (char) (buffer.get(buffer.position() - verdict - 1) & 0xFF) : 0);
+  }
+
+  /**
+   * Builds the validation message of a classification.
+   *
+   * @param verdict the result of {@link #classify}
+   * @param rejected the rejected character, when the verdict is negative
+   * @return a message in Portuguese indicating the result of the validation
+   */
+  private static String message(int verdict, char rejected) {
+    if (verdict < 0) {
+      char c = Character.toLowerCase(rejected);
+      return "Formato inválido: caractere '" + c + "' não permitido";
+    }
+
+    // Check for final states
+    if (verdict == CPF) return "CPF válido";
+    if (verdict == RG) return "RG válido";
+    if (verdict == CNPJ) return "CNPJ válido";
+
+    return "Formato inválido: documento incompleto ou formato incorreto";
+  }
+}
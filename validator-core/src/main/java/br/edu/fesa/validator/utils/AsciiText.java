@@ -0,0 +1,78 @@
+package br.edu.fesa.validator.utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads documents from any of the holders they arrive in: a {@link CharSequence}, or the ASCII
+ * bytes of a {@code byte[]} or a {@link ByteBuffer}. Validation loops are written once against
+ * {@link #charAt} instead of once per holder, and bytes are read in place, without wrapping or
+ * decoding them.
+ *
+ * <p>A loop resolves the {@link #kind} of its holder once, before the first character, and
+ * passes it to every read. Each read then goes to the branch of that kind, where the holder has
+ * a single type: the shared loop sees strings, byte arrays and buffers without mixing their type
+ * profiles in one call, and since the kind does not change inside the loop the compiler can split
+ * the loop into one copy per holder.
+ */
+public final class AsciiText {
+
+  /** Any {@link CharSequence} other than a {@link String}. */
+  public static final int CHARS = 0;
+
+  /** A {@link String}. */
+  public static final int STRING = 1;
+
+  /** The ASCII bytes of a {@code byte[]}. */
+  public static final int BYTES = 2;
+
+  /** The ASCII bytes of a {@link ByteBuffer}, heap or direct. */
+  public static final int BUFFER = 3;
+
+  private AsciiText() {}
+
+  /**
+   * Resolves the kind of a document holder.
+   *
+   * @param text a {@link CharSequence}, {@code byte[]} or {@link ByteBuffer}
+   * @return {@link #CHARS}, {@link #STRING}, {@link #BYTES} or {@link #BUFFER}
+   * @throws IllegalArgumentException if the holder is of any other type
+   */
+  public static int kind(Object text) {
+    if (text instanceof String) {
+      return STRING;
+    }
+    if (text instanceof byte[]) {
+      return BYTES;
+    }
+    if (text instanceof ByteBuffer) {
+      return BUFFER;
+    }
+    if (text instanceof CharSequence) {
+      return CHARS;
+    }
+    throw new IllegalArgumentException("Tipo de texto não suportado: " + text.getClass());
+  }
+
+  /**
+   * Reads one character of a document holder. Bytes are read as ISO-8859-1, so any non-ASCII
+   * byte becomes a character no document accepts; buffers are read with absolute reads, leaving
+   * their position untouched.
+   *
+   * @param text the holder
+   * @param kind the {@link #kind} of the holder
+   * @param index the index of the character
+   * @return the character at the index
+   */
+  public static char charAt(Object text, int kind, int index) {
+    switch (kind) {
+      case STRING:
+        return ((String) text).charAt(index);
+      case BYTES:
+        return (char) (((byte[]) text)[index] & 0xFF);
+      case BUFFER:
+        return (char) (((ByteBuffer) text).get(index) & 0xFF);
+      default:
+        return ((CharSequence) text).charAt(index);
+    }
+  }
+}
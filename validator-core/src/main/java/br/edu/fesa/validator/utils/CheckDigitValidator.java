@@ -0,0 +1,443 @@
+package br.edu.fesa.validator.utils;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * CheckDigitValidator is responsible for validating the check digits of CPF, RG and CNPJ
+ * documents.
+ */
+public class CheckDigitValidator {
+
+  /** Weights of the first CPF check digit, applied to the first nine digits. */
+  static final int[] CPF_FIRST_WEIGHTS = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+
+  /** Weights of the second CPF check digit, applied to the first ten digits. */
+  static final int[] CPF_SECOND_WEIGHTS = {11, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+
+  /** Weights of the first CNPJ check digit, applied to the first twelve characters. */
+  static final int[] CNPJ_FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+  /** Weights of the second CNPJ check digit, applied to the first thirteen characters. */
+  static final int[] CNPJ_SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+  /** Number of characters of a CNPJ, check digits included. */
+  static final int CNPJ_LENGTH = 14;
+
+  /** Value of the RG check digit 'X'. */
+  static final int RG_X = 10;
+
+  /** Largest number with eleven digits. */
+  private static final long MAX_CPF = 99_999_999_999L;
+
+  /** Largest number with eight digits. */
+  private static final long MAX_RG_BASE = 99_999_999L;
+
+  /** Every CPF made of a single repeated digit is a multiple of 11111111111. */
+  private static final long REPEATED_CPF_DIVISOR = 11_111_111_111L;
+
+  private static final String CPF_ERROR = "Dígitos verificadores do CPF inválidos";
+  private static final String RG_ERROR = "Dígito verificador do RG inválido";
+  private static final String CNPJ_ERROR = "Dígitos verificadores do CNPJ inválidos";
+
+  /**
+   * Computes a CPF check digit from the weighted sum of the digits preceding it.
+   *
+   * @param weightedSum the weighted sum of the preceding digits
+   * @return the expected check digit (0-9)
+   */
+  static int cpfCheckDigit(int weightedSum) {
+    int digit = 11 - (weightedSum % 11);
+    return digit >= 10 ? 0 : digit;
+  }
+
+  /**
+   * Computes the RG check digit from the weighted sum of the eight base digits.
+   *
+   * @param weightedSum the weighted sum of the base digits
+   * @return the expected check digit (0-9), {@link #RG_X} for 'X', or 11 when no check digit can
+   *     match
+   */
+  static int rgCheckDigit(int weightedSum) {
+    return 11 - (weightedSum % 11);
+  }
+
+  /**
+   * Computes a CNPJ check digit from the weighted sum of the character values preceding it.
+   *
+   * @param weightedSum the weighted sum of the preceding character values
+   * @return the expected check digit (0-9)
+   */
+  static int cnpjCheckDigit(int weightedSum) {
+    int remainder = weightedSum % 11;
+    return remainder < 2 ? 0 : 11 - remainder;
+  }
+
+  /**
+   * Validates the check digits of a numeric CNPJ packed into a long, most significant digit
+   * first.
+   *
+   * @param cnpj the fourteen CNPJ digits as a number
+   * @return true if both check digits match
+   */
+  static boolean cnpjCheckDigitsValid(long cnpj) {
+    int secondDigit = (int) (cnpj % 10);
+    cnpj /= 10;
+    int firstDigit = (int) (cnpj % 10);
+    cnpj /= 10;
+
+    // Walk the twelve base digits from the least significant one
+    int firstSum = 0;
+    int secondSum = firstDigit * CNPJ_SECOND_WEIGHTS[12];
+    for (int position = 11; position >= 0; position--) {
+      int digit = (int) (cnpj % 10);
+      cnpj /= 10;
+      firstSum += digit * CNPJ_FIRST_WEIGHTS[position];
+      secondSum += digit * CNPJ_SECOND_WEIGHTS[position];
+    }
+
+    return firstDigit == cnpjCheckDigit(firstSum) && secondDigit == cnpjCheckDigit(secondSum);
+  }
+
+  /**
+   * Validates the check digits of a CNPJ, numeric or alphanumeric, held in a range of a text.
+   * Punctuation is skipped and every other character is worth its ASCII code minus 48, so digits
+   * keep their value and 'A' to 'Z' are worth 17 to 42.
+   *
+   * @param text the {@link CharSequence}, {@code byte[]} or {@link ByteBuffer} holding the CNPJ,
+   *     see {@link AsciiText#kind}
+   * @param start the index of the first character of the CNPJ
+   * @param end the index after the last character of the CNPJ
+   * @return true if the CNPJ has fourteen characters and both check digits match
+   */
+  static boolean cnpjCheckDigitsValid(Object text, int start, int end) {
+    int count = 0;
+    int firstSum = 0;
+    int secondSum = 0;
+    int firstDigit = -1;
+    int secondDigit = -1;
+    int kind = AsciiText.kind(text);
+
+    for (int i = start; i < end; i++) {
+      int value = cnpjValue(AsciiText.charAt(text, kind, i));
+      if (value < 0) {
+        continue;
+      }
+      if (count < CNPJ_FIRST_WEIGHTS.length) firstSum += value * CNPJ_FIRST_WEIGHTS[count];
+      if (count < CNPJ_SECOND_WEIGHTS.length) secondSum += value * CNPJ_SECOND_WEIGHTS[count];
+      if (count == 12) firstDigit = value;
+      if (count == 13) secondDigit = value;
+      count++;
+    }
+
+    return count == CNPJ_LENGTH
+        && firstDigit == cnpjCheckDigit(firstSum)
+        && secondDigit == cnpjCheckDigit(secondSum);
+  }
+
+  /** Value of a CNPJ character: its ASCII code minus 48, or -1 for anything else. */
+  private static int cnpjValue(char c) {
+    return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') ? c - '0' : -1;
+  }
+
+  /**
+   * Validates the check digits of a CPF packed into a long, most significant digit first.
+   *
+   * @param cpf the eleven CPF digits as a number
+   * @return true if both check digits match
+   */
+  static boolean cpfCheckDigitsValid(long cpf) {
+    int secondDigit = (int) (cpf % 10);
+    cpf /= 10;
+    int firstDigit = (int) (cpf % 10);
+    cpf /= 10;
+
+    // Walk the nine base digits from the least significant one, whose weights are 2 and 3
+    int firstSum = 0;
+    int secondSum = firstDigit * 2;
+    for (int weight = 2; weight <= 10; weight++) {
+      int digit = (int) (cpf % 10);
+      cpf /= 10;
+      firstSum += digit * weight;
+      secondSum += digit * (weight + 1);
+    }
+
+    return firstDigit == cpfCheckDigit(firstSum) && secondDigit == cpfCheckDigit(secondSum);
+  }
+
+  /**
+   * Validates the check digit of an RG whose eight base digits are packed into a long.
+   *
+   * @param base the eight base digits as a number
+   * @param checkDigit the check digit (0-9, or {@link #RG_X} for 'X')
+   * @return true if the check digit matches
+   */
+  static boolean rgCheckDigitValid(long base, int checkDigit) {
+    // Walk the base digits from the least significant one, whose weight is 9
+    int sum = 0;
+    for (int weight = 9; weight >= 2; weight--) {
+      sum += (int) (base % 10) * weight;
+      base /= 10;
+    }
+
+    return checkDigit == rgCheckDigit(sum);
+  }
+
+  /**
+   * Validates a CPF stored as a number, as in a BIGINT column (leading zeros are implied).
+   *
+   * @param cpf the eleven CPF digits as a number, check digits included
+   * @return true if the CPF is in range, not made of a single repeated digit, and its check
+   *     digits are valid
+   */
+  public boolean validateCpf(long cpf) {
+    return cpf >= 0
+        && cpf <= MAX_CPF
+        && cpf % REPEATED_CPF_DIVISOR != 0
+        && cpfCheckDigitsValid(cpf);
+  }
+
+  /**
+   * Validates an RG stored as its eight base digits and a separate check digit.
+   *
+   * @param base the eight base digits as a number (leading zeros are implied)
+   * @param checkDigit the check digit, '0' to '9' or 'X' (either case)
+   * @return true if the base is in range and the check digit is valid
+   */
+  public boolean validateRg(long base, char checkDigit) {
+    int value;
+    if (checkDigit >= '0' && checkDigit <= '9') {
+      value = checkDigit - '0';
+    } else if (checkDigit == 'x' || checkDigit == 'X') {
+      value = RG_X;
+    } else {
+      return false;
+    }
+    return base >= 0 && base <= MAX_RG_BASE && rgCheckDigitValid(base, value);
+  }
+
+  /**
+   * Validates a column of CPFs stored as numbers.
+   *
+   * @param cpfs the CPFs, see {@link #validateCpf(long)}
+   * @return a bit set in which bit {@code i} is set when {@code cpfs[i]} is valid
+   */
+  public BitSet validateCpfs(long[] cpfs) {
+    BitSet valid = new BitSet(cpfs.length);
+    for (int i = 0; i < cpfs.length; i++) {
+      if (validateCpf(cpfs[i])) {
+        valid.set(i);
+      }
+    }
+    return valid;
+  }
+
+  /**
+   * Validates a stream of CPFs stored as numbers, in encounter order.
+   *
+   * @param cpfs the CPFs, see {@link #validateCpf(long)}
+   * @return a bit set in which bit {@code i} is set when the {@code i}-th CPF is valid
+   */
+  public BitSet validateCpfs(LongStream cpfs) {
+    BitSet valid = new BitSet();
+    PrimitiveIterator.OfLong iterator = cpfs.iterator();
+    for (int i = 0; iterator.hasNext(); i++) {
+      if (validateCpf(iterator.nextLong())) {
+        valid.set(i);
+      }
+    }
+    return valid;
+  }
+
+  /**
+   * Validates a column of RGs stored as base numbers with a parallel column of check digits.
+   *
+   * @param bases the eight base digits of each RG as numbers
+   * @param checkDigits the check digit of each RG
+   * @return a bit set in which bit {@code i} is set when the {@code i}-th RG is valid
+   * @throws IllegalArgumentException if the columns have different lengths
+   */
+  public BitSet validateRgs(long[] bases, char[] checkDigits) {
+    if (bases.length != checkDigits.length) {
+      throw new IllegalArgumentException("As colunas de RG devem ter o mesmo tamanho");
+    }
+
+    BitSet valid = new BitSet(bases.length);
+    for (int i = 0; i < bases.length; i++) {
+      if (validateRg(bases[i], checkDigits[i])) {
+        valid.set(i);
+      }
+    }
+    return valid;
+  }
+
+  /**
+   * Validates the check digits of a CPF.
+   *
+   * @param cpf the CPF string to validate
+   * @return null if valid, or an error message in Portuguese if invalid
+   */
+  public String validateCPFCheckDigits(String cpf) {
+    return cpfCheckDigits(cpf, 0, cpf.length());
+  }
+
+  /**
+   * Validates the check digit of an RG. This example is based on the RG validation for São Paulo.
+   *
+   * @param rg the RG string to validate
+   * @return null if valid, or an error message in Portuguese if invalid
+   */
+  public String validateRGCheckDigit(String rg) {
+    return rgCheckDigit(rg, 0, rg.length());
+  }
+
+  /**
+   * Validates the check digits of an ASCII CPF held in a range of a byte array, without decoding
+   * it.
+   *
+   * @param bytes the bytes holding the CPF
+   * @param offset the index of the first byte of the CPF
+   * @param length the number of bytes of the CPF
+   * @return null if valid, or an error message in Portuguese if invalid
+   */
+  public String validateCPFCheckDigits(byte[] bytes, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return cpfCheckDigits(bytes, offset, offset + length);
+  }
+
+  /**
+   * Validates the check digits of an ASCII CPF held between the position and the limit of a byte
+   * buffer, without moving the buffer position.
+   *
+   * @param buffer the bytes holding the CPF, heap or direct
+   * @return null if valid, or an error message in Portuguese if invalid
+   */
+  public String validateCPFCheckDigits(ByteBuffer buffer) {
+    return cpfCheckDigits(buffer, buffer.position(), buffer.limit());
+  }
+
+  /** Validates the check digits of the CPF held in a range of a {@link AsciiText} holder. */
+  private static String cpfCheckDigits(Object text, int start, int end) {
+    // Single pass over the digits, ignoring punctuation
+    int count = 0;
+    int first = -1;
+    boolean allSame = true;
+    int firstSum = 0;
+    int secondSum = 0;
+    int firstDigit = 0;
+    int secondDigit = 0;
+    int kind = AsciiText.kind(text);
+
+    for (int i = start; i < end; i++) {
+      char c = AsciiText.charAt(text, kind, i);
+      if (c < '0' || c > '9') {
+        continue;
+      }
+
+      int digit = c - '0';
+      if (count == 0) {
+        first = digit;
+      } else if (digit != first) {
+        allSame = false;
+      }
+
+      if (count < CPF_FIRST_WEIGHTS.length) firstSum += digit * CPF_FIRST_WEIGHTS[count];
+      if (count < CPF_SECOND_WEIGHTS.length) secondSum += digit * CPF_SECOND_WEIGHTS[count];
+      if (count == 9) firstDigit = digit;
+      if (count == 10) secondDigit = digit;
+      count++;
+    }
+
+    // Check if all digits are the same or if the CPF is incomplete
+    if (allSame || count < 11) {
+      return CPF_ERROR;
+    }
+
+    return (firstDigit == cpfCheckDigit(firstSum) && secondDigit == cpfCheckDigit(secondSum))
+        ? null
+        : CPF_ERROR;
+  }
+
+  /**
+   * Validates the check digit of an ASCII RG held in a range of a byte array, without decoding it.
+   *
+   * @param bytes the bytes holding the RG
+   * @param offset the index of the first byte of the RG
+   * @param length the number of bytes of the RG
+   * @return null if valid, or an error message in Portuguese if invalid
+   */
+  public String validateRGCheckDigit(byte[] bytes, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return rgCheckDigit(bytes, offset, offset + length);
+  }
+
+  /**
+   * Validates the check digit of an ASCII RG held between the position and the limit of a byte
+   * buffer, without moving the buffer position.
+   *
+   * @param buffer the bytes holding the RG, heap or direct
+   * @return null if valid, or an error message in Portuguese if invalid
+   */
+  public String validateRGCheckDigit(ByteBuffer buffer) {
+    return rgCheckDigit(buffer, buffer.position(), buffer.limit());
+  }
+
+  /** Validates the check digit of the RG held in a range of a {@link AsciiText} holder. */
+  private static String rgCheckDigit(Object text, int start, int end) {
+    // The last digit (or 'X') is the check digit; every digit before it is weighted from 2 up
+    int weighted = 0;
+    int sum = 0;
+    int pending = -1;
+    int kind = AsciiText.kind(text);
+
+    for (int i = start; i < end; i++) {
+      char c = AsciiText.charAt(text, kind, i);
+      int value;
+      if (c >= '0' && c <= '9') {
+        value = c - '0';
+      } else if (c == 'x' || c == 'X') {
+        value = RG_X;
+      } else {
+        continue;
+      }
+
+      if (pending >= 0) {
+        if (pending == RG_X) {
+          return RG_ERROR;
+        }
+        sum += pending * (2 + weighted++);
+      }
+      pending = value;
+    }
+
+    return (pending >= 0 && pending == rgCheckDigit(sum)) ? null : RG_ERROR;
+  }
+
+  /**
+   * Validates the check digits of a CNPJ, numeric or alphanumeric. Letters must be uppercase.
+   *
+   * @param cnpj the CNPJ string to validate
+   * @return null if valid, or an error message in Portuguese if invalid
+   */
+  public String validateCNPJCheckDigits(String cnpj) {
+    // A single repeated character is never a CNPJ, even when its check digits match
+    int first = -1;
+    boolean allSame = true;
+    for (int i = 0, length = cnpj.length(); i < length && allSame; i++) {
+      int value = cnpjValue(cnpj.charAt(i));
+      if (value < 0) {
+        continue;
+      }
+      if (first < 0) {
+        first = value;
+      } else {
+        allSame = value == first;
+      }
+    }
+
+    return !allSame && cnpjCheckDigitsValid(cnpj, 0, cnpj.length()) ? null : CNPJ_ERROR;
+  }
+}
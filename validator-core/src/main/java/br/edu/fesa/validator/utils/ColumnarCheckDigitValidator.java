@@ -0,0 +1,128 @@
+package br.edu.fesa.validator.utils;
+
+import java.util.BitSet;
+
+/**
+ * Validates check digits of many documents stored in a columnar layout: one {@code byte[]} per
+ * digit position, each holding that digit (0-9, or {@link CheckDigitValidator#RG_X} for an RG
+ * check digit 'X') for every document. When the JVM is started with {@code --add-modules
+ * jdk.incubator.vector}, the weighted sums of many documents are computed per instruction with
+ * the Vector API; otherwise a scalar loop over the same layout is used.
+ */
+public final class ColumnarCheckDigitValidator {
+
+  /** Number of digit columns of a CPF. */
+  public static final int CPF_COLUMNS = 11;
+
+  /** Number of digit columns of an RG, check digit included. */
+  public static final int RG_COLUMNS = 9;
+
+  /** Whether the Vector API module is available to this JVM and supports the species used. */
+  private static final boolean VECTOR_AVAILABLE = vectorAvailable();
+
+  private ColumnarCheckDigitValidator() {}
+
+  /**
+   * Indicates whether validation runs on the Vector API.
+   *
+   * @return true if {@code jdk.incubator.vector} is available and supports the vector shapes used
+   */
+  public static boolean isVectorized() {
+    return VECTOR_AVAILABLE;
+  }
+
+  /**
+   * Validates a column set of CPFs, rejecting CPFs made of a single repeated digit.
+   *
+   * @param digits {@value #CPF_COLUMNS} columns, one per digit position
+   * @param count number of documents in each column
+   * @return a bit set in which bit {@code i} is set when the {@code i}-th CPF is valid
+   */
+  public static BitSet validateCpfs(byte[][] digits, int count) {
+    checkColumns(digits, CPF_COLUMNS, count);
+    return VECTOR_AVAILABLE
+        ? VectorizedCheckDigits.validateCpfs(digits, count)
+        : validateCpfsScalar(digits, 0, count, new BitSet(count));
+  }
+
+  /**
+   * Validates a column set of RGs.
+   *
+   * @param digits {@value #RG_COLUMNS} columns: eight base digits, then the check digit
+   * @param count number of documents in each column
+   * @return a bit set in which bit {@code i} is set when the {@code i}-th RG is valid
+   */
+  public static BitSet validateRgs(byte[][] digits, int count) {
+    checkColumns(digits, RG_COLUMNS, count);
+    return VECTOR_AVAILABLE
+        ? VectorizedCheckDigits.validateRgs(digits, count)
+        : validateRgsScalar(digits, 0, count, new BitSet(count));
+  }
+
+  /**
+   * Validates CPFs with the scalar loop only, e.g. to compare against the vectorized path.
+   *
+   * @param digits {@value #CPF_COLUMNS} columns, one per digit position
+   * @param from index of the first document to validate
+   * @param to index after the last document to validate
+   * @param valid the bit set receiving the valid documents
+   * @return {@code valid}
+   */
+  public static BitSet validateCpfsScalar(byte[][] digits, int from, int to, BitSet valid) {
+    for (int i = from; i < to; i++) {
+      long cpf = 0;
+      for (int position = 0; position < CPF_COLUMNS; position++) {
+        cpf = cpf * 10 + digits[position][i];
+      }
+      if (cpf % 11_111_111_111L != 0 && CheckDigitValidator.cpfCheckDigitsValid(cpf)) {
+        valid.set(i);
+      }
+    }
+    return valid;
+  }
+
+  /**
+   * Validates RGs with the scalar loop only, e.g. to compare against the vectorized path.
+   *
+   * @param digits {@value #RG_COLUMNS} columns: eight base digits, then the check digit
+   * @param from index of the first document to validate
+   * @param to index after the last document to validate
+   * @param valid the bit set receiving the valid documents
+   * @return {@code valid}
+   */
+  public static BitSet validateRgsScalar(byte[][] digits, int from, int to, BitSet valid) {
+    for (int i = from; i < to; i++) {
+      long base = 0;
+      for (int position = 0; position < RG_COLUMNS - 1; position++) {
+        base = base * 10 + digits[position][i];
+      }
+      if (CheckDigitValidator.rgCheckDigitValid(base, digits[RG_COLUMNS - 1][i])) {
+        valid.set(i);
+      }
+    }
+    return valid;
+  }
+
+  private static boolean vectorAvailable() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      return false;
+    }
+    try {
+      return VectorizedCheckDigits.blockSize() > 0;
+    } catch (LinkageError | RuntimeException e) {
+      // Vector shapes this JVM does not provide; the scalar loop gives the same results
+      return false;
+    }
+  }
+
+  private static void checkColumns(byte[][] digits, int columns, int count) {
+    if (digits.length != columns) {
+      throw new IllegalArgumentException("Esperadas " + columns + " colunas de dígitos");
+    }
+    for (byte[] column : digits) {
+      if (column.length < count) {
+        throw new IllegalArgumentException("Coluna menor que o número de documentos");
+      }
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package br.edu.fesa.validator.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * Read-only set of CPFs backed by a memory-mapped bitmap with one bit per CPF base (the nine
+ * digits before the check digits), so any list fits in 125 MB outside the heap and membership is a
+ * single byte read. The mapping is released when the bitmap becomes unreachable.
+ *
+ * <p>File layout: a {@value #HEADER_SIZE}-byte header (magic {@code "CPFB"}, format version and
+ * number of entries, big-endian) followed by the bitmap, bit {@code base & 7} of byte {@code base
+ * >> 3} being set when the base is listed. A file that is being mapped must not be modified in
+ * place; {@link #write} replaces files by renaming a complete one over them.
+ */
+public final class CpfBitmap {
+
+  /** Number of CPF bases, from 000000000 to 999999999. */
+  public static final int CPF_BASES = 1_000_000_000;
+
+  /** Size of the header preceding the bitmap. */
+  public static final int HEADER_SIZE = 16;
+
+  private static final int MAGIC = 0x43504642;
+  private static final int VERSION = 1;
+  private static final int BITMAP_SIZE = CPF_BASES / 8;
+
+  private final ByteBuffer bitmap;
+  private final long size;
+
+  private CpfBitmap(ByteBuffer bitmap, long size) {
+    this.bitmap = bitmap;
+    this.size = size;
+  }
+
+  /**
+   * Maps a bitmap file read-only. Only the header is read; pages are loaded on first access.
+   *
+   * @param file the bitmap file, see {@link #write}
+   * @return the mapped bitmap
+   * @throws IOException if the file cannot be read or is not a CPF bitmap
+   */
+  public static CpfBitmap map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() != HEADER_SIZE + BITMAP_SIZE) {
+        throw new IOException("Arquivo de bitmap de CPF com tamanho inválido: " + file);
+      }
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+        throw new IOException("Arquivo não é um bitmap de CPF: " + file);
+      }
+      return new CpfBitmap(mapped, mapped.getLong(8));
+    }
+  }
+
+  /**
+   * Returns the number of distinct bases in the bitmap.
+   *
+   * @return the number of entries
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Checks whether a CPF base is listed.
+   *
+   * @param base the nine base digits as a number
+   * @return true if the base is listed
+   */
+  public boolean containsBase(int base) {
+    if (base < 0 || base >= CPF_BASES) {
+      return false;
+    }
+    return (bitmap.get(HEADER_SIZE + (base >>> 3)) & (1 << (base & 7))) != 0;
+  }
+
+  /**
+   * Checks whether a CPF is listed. Only its base is looked up, as the check digits follow from
+   * it.
+   *
+   * @param cpf the eleven CPF digits as a number
+   * @return true if the base of the CPF is listed
+   */
+  public boolean contains(long cpf) {
+    return cpf >= 0 && containsBase((int) Math.min(cpf / 100, CPF_BASES));
+  }
+
+  /**
+   * Builds a bitmap file from CPFs. The bitmap is filled in a temporary file next to the target,
+   * which then replaces the target atomically, so a running service never maps a partial file.
+   *
+   * @param file the bitmap file to create or replace
+   * @param cpfs the eleven CPF digits of each entry as numbers; out-of-range values are skipped
+   * @return the number of distinct bases written
+   * @throws IOException if the file cannot be written
+   */
+  public static long write(Path file, LongStream cpfs) throws IOException {
+    Path absolute = file.toAbsolutePath();
+    Path temporary =
+        Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+    long entries = 0;
+
+    try {
+      try (FileChannel channel =
+          FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        MappedByteBuffer mapped =
+            channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + BITMAP_SIZE);
+
+        PrimitiveIterator.OfLong iterator = cpfs.iterator();
+        while (iterator.hasNext()) {
+          long cpf = iterator.nextLong();
+          if (cpf < 0 || cpf / 100 >= CPF_BASES) {
+            continue;
+          }
+          int base = (int) (cpf / 100);
+          int index = HEADER_SIZE + (base >>> 3);
+          int bit = 1 << (base & 7);
+          byte current = mapped.get(index);
+          if ((current & bit) == 0) {
+            mapped.put(index, (byte) (current | bit));
+            entries++;
+          }
+        }
+
+        mapped.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, entries);
+        mapped.force();
+      }
+      // Temporary files are private to their owner; the service may run as another user
+      if (Files.getFileStore(temporary).supportsFileAttributeView(PosixFileAttributeView.class)) {
+        Files.setPosixFilePermissions(temporary, PosixFilePermissions.fromString("rw-r--r--"));
+      }
+      Files.move(
+          temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+    return entries;
+  }
+
+  /**
+   * Builds a bitmap file from a text list with one CPF per line, punctuated or not. Lines that do
+   * not hold exactly eleven digits are skipped.
+   *
+   * @param file the bitmap file to create or replace
+   * @param list the text list
+   * @return the number of distinct bases written
+   * @throws IOException if the list cannot be read or the file cannot be written
+   */
+  public static long write(Path file, BufferedReader list) throws IOException {
+    LongStream cpfs =
+        list.lines()
+            .mapToLong(
+                line -> {
+                  long cpf = 0;
+                  int digits = 0;
+                  for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (c >= '0' && c <= '9') {
+                      cpf = cpf * 10 + (c - '0');
+                      digits++;
+                    }
+                  }
+                  return digits == 11 ? cpf : -1;
+                });
+    return write(file, cpfs);
+  }
+}
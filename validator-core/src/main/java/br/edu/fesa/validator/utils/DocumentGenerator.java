@@ -0,0 +1,522 @@
+package br.edu.fesa.validator.utils;
+
+import static br.edu.fesa.validator.utils.CheckDigitValidator.CNPJ_FIRST_WEIGHTS;
+import static br.edu.fesa.validator.utils.CheckDigitValidator.CNPJ_SECOND_WEIGHTS;
+import static br.edu.fesa.validator.utils.CheckDigitValidator.CPF_FIRST_WEIGHTS;
+import static br.edu.fesa.validator.utils.CheckDigitValidator.CPF_SECOND_WEIGHTS;
+import static br.edu.fesa.validator.utils.CheckDigitValidator.RG_X;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates synthetic CPFs, RGs and CNPJs for load tests and benchmarks: valid documents in every
+ * accepted layout and invalid ones from every failure class, mixed at configurable weights. Check
+ * digits use the weights of {@link CheckDigitValidator}, and documents are written as ASCII
+ * straight into byte arrays, so a core generates millions of them per second.
+ *
+ * <p>A generator is not thread-safe; give each producer thread its own one through {@link
+ * #split()}. The same seed and weights always produce the same documents.
+ */
+public final class DocumentGenerator {
+
+  /** Kinds of generated documents, with their weight in the default mix. */
+  public enum Kind {
+    /** CPF with valid check digits. */
+    VALID_CPF(35),
+    /** RG with a valid check digit, 'X' included. */
+    VALID_RG(25),
+    /** Numeric CNPJ with valid check digits. */
+    VALID_CNPJ(5),
+    /** CNPJ with uppercase letters in its base and valid check digits. */
+    VALID_ALPHANUMERIC_CNPJ(5),
+    /** Well-formed CPF, RG or CNPJ whose last check digit is wrong. */
+    WRONG_CHECK_DIGIT(10),
+    /** Well-formed CPF, RG or CNPJ made of a single repeated digit. */
+    REPEATED_DIGITS(5),
+    /** Fully punctuated CPF, RG or CNPJ with one separator replaced by another. */
+    BAD_PUNCTUATION(5),
+    /** CPF, RG or CNPJ with one character replaced by a character no format accepts. */
+    INVALID_CHARACTER(5),
+    /** Prefix of a CPF, RG or CNPJ with at most seven characters. */
+    TRUNCATED(5);
+
+    private final int defaultWeight;
+
+    Kind(int defaultWeight) {
+      this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Returns the weight of this kind in the default mix, out of 100.
+     *
+     * @return the default weight
+     */
+    public int getDefaultWeight() {
+      return defaultWeight;
+    }
+
+    /**
+     * Indicates whether documents of this kind pass validation.
+     *
+     * @return true for the valid kinds
+     */
+    public boolean isValid() {
+      return ordinal() <= VALID_ALPHANUMERIC_CNPJ.ordinal();
+    }
+  }
+
+  /** Length of the longest generated document, a fully punctuated CNPJ. */
+  public static final int MAX_LENGTH = 18;
+
+  private static final int CPF = 0;
+  private static final int RG = 1;
+  private static final int CNPJ = 2;
+
+  /** Fully punctuated layout of each type, '#' being a digit (or a letter in a CNPJ base). */
+  private static final String[] PUNCTUATED = {
+    "###.###.###-##", "##.###.###-#", "##.###.###/####-##"
+  };
+
+  /** Every layout of each type: the punctuated one with each separator present or not. */
+  private static final byte[][][] LAYOUTS = {
+    layouts(PUNCTUATED[CPF]), layouts(PUNCTUATED[RG]), layouts(PUNCTUATED[CNPJ])
+  };
+
+  /** Index of each separator in the punctuated layout of each type. */
+  private static final int[][] SEPARATOR_INDEXES = {
+    separators(PUNCTUATED[CPF]), separators(PUNCTUATED[RG]), separators(PUNCTUATED[CNPJ])
+  };
+
+  private static final byte[] SEPARATORS = {'.', '-', '/'};
+
+  /** Characters accepted by no format (lowercase 'x' is left out, as it ends an RG). */
+  private static final byte[] INVALID_CHARACTERS =
+      "abcdefghijklmnopqrstuvwyz #;".getBytes(StandardCharsets.US_ASCII);
+
+  private static final int LETTERS = 26;
+
+  /** Largest CPF, RG and CNPJ bases plus one, and the divisors of their repeated-digit bases. */
+  private static final int CPF_BASES = 1_000_000_000;
+
+  private static final int REPEATED_CPF_BASE = 111_111_111;
+  private static final int RG_BASES = 100_000_000;
+  private static final long CNPJ_BASES = 1_000_000_000_000L;
+  private static final long REPEATED_CNPJ_BASE = 111_111_111_111L;
+
+  private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+  private final SplittableRandom random;
+  private final Kind[] kinds;
+  private final int[] cumulativeWeights;
+
+  // Value of each character of the document being generated, as its ASCII code minus '0'
+  private final int[] values = new int[CheckDigitValidator.CNPJ_LENGTH];
+  private final byte[] scratch = new byte[MAX_LENGTH];
+  private Kind kind;
+
+  /**
+   * Creates a generator with the default mix of {@link Kind} weights.
+   *
+   * @param seed the random seed
+   */
+  public DocumentGenerator(long seed) {
+    this(seed, defaultWeights());
+  }
+
+  /**
+   * Creates a generator with the given mix. Each document is of a kind drawn with probability
+   * proportional to its weight; kinds left out of the map are never generated.
+   *
+   * @param seed the random seed
+   * @param weights the weight of each kind
+   * @throws IllegalArgumentException if a weight is negative or none is positive
+   */
+  public DocumentGenerator(long seed, Map<Kind, Integer> weights) {
+    List<Kind> drawn = new ArrayList<>();
+    List<Integer> cumulative = new ArrayList<>();
+    long total = 0;
+    for (Kind candidate : Kind.values()) {
+      int weight = weights.getOrDefault(candidate, 0);
+      if (weight < 0) {
+        throw new IllegalArgumentException("Peso negativo para " + candidate);
+      }
+      if (weight > 0) {
+        total += weight;
+        if (total > Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("Soma dos pesos muito grande");
+        }
+        drawn.add(candidate);
+        cumulative.add((int) total);
+      }
+    }
+    if (drawn.isEmpty()) {
+      throw new IllegalArgumentException("Ao menos um tipo de documento deve ter peso positivo");
+    }
+
+    this.random = new SplittableRandom(seed);
+    this.kinds = drawn.toArray(new Kind[0]);
+    this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private DocumentGenerator(SplittableRandom random, Kind[] kinds, int[] cumulativeWeights) {
+    this.random = random;
+    this.kinds = kinds;
+    this.cumulativeWeights = cumulativeWeights;
+  }
+
+  /**
+   * Returns the weights of the default mix: 70% valid documents and 30% invalid ones.
+   *
+   * @return a mutable map of the default weight of each kind
+   */
+  public static Map<Kind, Integer> defaultWeights() {
+    Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+    for (Kind candidate : Kind.values()) {
+      weights.put(candidate, candidate.getDefaultWeight());
+    }
+    return weights;
+  }
+
+  /**
+   * Creates a generator with the same mix and an independent random sequence, for another thread.
+   *
+   * @return the new generator
+   */
+  public DocumentGenerator split() {
+    return new DocumentGenerator(random.split(), kinds, cumulativeWeights);
+  }
+
+  /**
+   * Returns the kind of the last generated document.
+   *
+   * @return the kind, or null before the first document
+   */
+  public Kind kind() {
+    return kind;
+  }
+
+  /**
+   * Writes the next document as ASCII into a byte array.
+   *
+   * @param out the array to write to, with at least {@link #MAX_LENGTH} bytes from the offset
+   * @param offset the index of the first byte to write
+   * @return the number of bytes written
+   */
+  public int next(byte[] out, int offset) {
+    kind = drawKind();
+    switch (kind) {
+      case VALID_CPF:
+        return valid(CPF, false, out, offset);
+      case VALID_RG:
+        return valid(RG, false, out, offset);
+      case VALID_CNPJ:
+        return valid(CNPJ, false, out, offset);
+      case VALID_ALPHANUMERIC_CNPJ:
+        return valid(CNPJ, true, out, offset);
+      case WRONG_CHECK_DIGIT:
+        return wrongCheckDigit(out, offset);
+      case REPEATED_DIGITS:
+        return repeatedDigits(out, offset);
+      case BAD_PUNCTUATION:
+        return badPunctuation(out, offset);
+      case INVALID_CHARACTER:
+        return invalidCharacter(out, offset);
+      default:
+        // Truncated: at most seven characters never hold the eight digits of any format
+        int length = valid(random.nextInt(3), false, out, offset);
+        return Math.min(length, 1 + random.nextInt(7));
+    }
+  }
+
+  /**
+   * Generates the next document.
+   *
+   * @return the document
+   */
+  public String next() {
+    int length = next(scratch, 0);
+    return new String(scratch, 0, length, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Generates the next documents into an array.
+   *
+   * @param count the number of documents
+   * @return the documents
+   */
+  public String[] documents(int count) {
+    String[] documents = new String[count];
+    for (int i = 0; i < count; i++) {
+      documents[i] = next();
+    }
+    return documents;
+  }
+
+  /**
+   * Returns an infinite sequential stream of the next documents, to be bounded with {@link
+   * Stream#limit(long)}. The stream draws from this generator, so it must not run in parallel.
+   *
+   * @return the documents
+   */
+  public Stream<String> stream() {
+    return Stream.generate(this::next).sequential();
+  }
+
+  /**
+   * Writes the next documents as ASCII lines, each ended by '\n', in chunks of 64 KiB. The
+   * stream is neither flushed nor closed.
+   *
+   * @param out the stream to write to
+   * @param count the number of documents
+   * @throws IOException if writing fails
+   */
+  public void write(OutputStream out, long count) throws IOException {
+    byte[] buffer = new byte[OUTPUT_BUFFER_SIZE];
+    int position = 0;
+    for (long n = 0; n < count; n++) {
+      if (position > buffer.length - MAX_LENGTH - 1) {
+        out.write(buffer, 0, position);
+        position = 0;
+      }
+      position += next(buffer, position);
+      buffer[position++] = '\n';
+    }
+    out.write(buffer, 0, position);
+  }
+
+  /**
+   * Writes the next documents to a file, one per line, replacing its content.
+   *
+   * @param file the file to write
+   * @param count the number of documents
+   * @throws IOException if the file cannot be written
+   */
+  public void write(Path file, long count) throws IOException {
+    try (OutputStream out = Files.newOutputStream(file)) {
+      write(out, count);
+    }
+  }
+
+  private Kind drawKind() {
+    if (kinds.length == 1) {
+      return kinds[0];
+    }
+    int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    int k = 0;
+    while (roll >= cumulativeWeights[k]) {
+      k++;
+    }
+    return kinds[k];
+  }
+
+  /** Writes a valid document of the type in one of its layouts. */
+  private int valid(int type, boolean alphanumeric, byte[] out, int offset) {
+    generate(type, alphanumeric);
+    byte[][] layouts = LAYOUTS[type];
+    return fill(layouts[random.nextInt(layouts.length)], out, offset);
+  }
+
+  private int wrongCheckDigit(byte[] out, int offset) {
+    int type = random.nextInt(3);
+    int last = generate(type, false);
+    if (type == RG) {
+      // Any other value of 0 to 9 or 'X'
+      values[last] = rgCheckCharacter((rgCheckValue(values[last]) + 1 + random.nextInt(10)) % 11);
+    } else {
+      values[last] = (values[last] + 1 + random.nextInt(9)) % 10;
+    }
+    byte[][] layouts = LAYOUTS[type];
+    return fill(layouts[random.nextInt(layouts.length)], out, offset);
+  }
+
+  private int repeatedDigits(byte[] out, int offset) {
+    int type = random.nextInt(3);
+    int digit = random.nextInt(10);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = digit;
+    }
+    byte[][] layouts = LAYOUTS[type];
+    return fill(layouts[random.nextInt(layouts.length)], out, offset);
+  }
+
+  private int badPunctuation(byte[] out, int offset) {
+    int type = random.nextInt(3);
+    generate(type, false);
+    byte[][] layouts = LAYOUTS[type];
+    int length = fill(layouts[layouts.length - 1], out, offset);
+
+    int[] separators = SEPARATOR_INDEXES[type];
+    int index = offset + separators[random.nextInt(separators.length)];
+    int separator = indexOf(SEPARATORS, out[index]);
+    out[index] = SEPARATORS[(separator + 1 + random.nextInt(SEPARATORS.length - 1)) % 3];
+    return length;
+  }
+
+  private int invalidCharacter(byte[] out, int offset) {
+    int length = valid(random.nextInt(3), false, out, offset);
+    out[offset + random.nextInt(length)] =
+        INVALID_CHARACTERS[random.nextInt(INVALID_CHARACTERS.length)];
+    return length;
+  }
+
+  /**
+   * Fills {@link #values} with a valid document of the type whose base is not a single repeated
+   * digit.
+   *
+   * @return the index of the last check digit
+   */
+  private int generate(int type, boolean alphanumeric) {
+    switch (type) {
+      case CPF:
+        return cpf();
+      case RG:
+        return rg();
+      default:
+        return alphanumeric ? alphanumericCnpj() : cnpj();
+    }
+  }
+
+  private int cpf() {
+    int base;
+    do {
+      base = random.nextInt(CPF_BASES);
+    } while (base % REPEATED_CPF_BASE == 0);
+
+    int firstSum = 0;
+    int secondSum = 0;
+    for (int i = CPF_FIRST_WEIGHTS.length - 1; i >= 0; i--) {
+      int digit = base % 10;
+      base /= 10;
+      values[i] = digit;
+      firstSum += digit * CPF_FIRST_WEIGHTS[i];
+      secondSum += digit * CPF_SECOND_WEIGHTS[i];
+    }
+
+    int firstDigit = CheckDigitValidator.cpfCheckDigit(firstSum);
+    values[9] = firstDigit;
+    values[10] = CheckDigitValidator.cpfCheckDigit(secondSum + firstDigit * CPF_SECOND_WEIGHTS[9]);
+    return 10;
+  }
+
+  private int rg() {
+    // Repeated-digit bases weigh a multiple of 11, so they have no check digit and are redrawn
+    int checkDigit;
+    do {
+      int base = random.nextInt(RG_BASES);
+      int sum = 0;
+      for (int i = 7; i >= 0; i--) {
+        int digit = base % 10;
+        base /= 10;
+        values[i] = digit;
+        sum += digit * (2 + i);
+      }
+      checkDigit = CheckDigitValidator.rgCheckDigit(sum);
+    } while (checkDigit > RG_X);
+
+    values[8] = rgCheckCharacter(checkDigit);
+    return 8;
+  }
+
+  private int cnpj() {
+    long base;
+    do {
+      base = random.nextLong(CNPJ_BASES);
+    } while (base % REPEATED_CNPJ_BASE == 0);
+
+    for (int i = CNPJ_FIRST_WEIGHTS.length - 1; i >= 0; i--) {
+      values[i] = (int) (base % 10);
+      base /= 10;
+    }
+    return cnpjCheckDigits();
+  }
+
+  private int alphanumericCnpj() {
+    for (int i = 0; i < CNPJ_FIRST_WEIGHTS.length; i++) {
+      int symbol = random.nextInt(10 + LETTERS);
+      values[i] = symbol < 10 ? symbol : 'A' - '0' + symbol - 10;
+    }
+    // At least one letter, so that the base is neither numeric nor repeated
+    int letter = random.nextInt(LETTERS);
+    values[random.nextInt(CNPJ_FIRST_WEIGHTS.length)] = 'A' - '0' + letter;
+    values[random.nextInt(CNPJ_FIRST_WEIGHTS.length)] = 'A' - '0' + (letter + 1) % LETTERS;
+    return cnpjCheckDigits();
+  }
+
+  private int cnpjCheckDigits() {
+    int firstSum = 0;
+    int secondSum = 0;
+    for (int i = 0; i < CNPJ_FIRST_WEIGHTS.length; i++) {
+      firstSum += values[i] * CNPJ_FIRST_WEIGHTS[i];
+      secondSum += values[i] * CNPJ_SECOND_WEIGHTS[i];
+    }
+
+    int firstDigit = CheckDigitValidator.cnpjCheckDigit(firstSum);
+    values[12] = firstDigit;
+    values[13] =
+        CheckDigitValidator.cnpjCheckDigit(secondSum + firstDigit * CNPJ_SECOND_WEIGHTS[12]);
+    return 13;
+  }
+
+  /** Character value of an RG check digit, drawing the case of 'X'. */
+  private int rgCheckCharacter(int checkDigit) {
+    if (checkDigit < RG_X) {
+      return checkDigit;
+    }
+    return (random.nextBoolean() ? 'X' : 'x') - '0';
+  }
+
+  private static int rgCheckValue(int character) {
+    return character < 10 ? character : RG_X;
+  }
+
+  /** Writes the layout, taking the character of each '#' from {@link #values} in order. */
+  private int fill(byte[] layout, byte[] out, int offset) {
+    for (int i = 0, v = 0; i < layout.length; i++) {
+      byte c = layout[i];
+      out[offset + i] = c == '#' ? (byte) ('0' + values[v++]) : c;
+    }
+    return layout.length;
+  }
+
+  /** Every subset of the separators of a punctuated layout, the punctuated layout last. */
+  private static byte[][] layouts(String punctuated) {
+    int[] separators = separators(punctuated);
+    byte[][] layouts = new byte[1 << separators.length][];
+    for (int kept = 0; kept < layouts.length; kept++) {
+      StringBuilder layout = new StringBuilder();
+      for (int i = 0, s = 0; i < punctuated.length(); i++) {
+        char c = punctuated.charAt(i);
+        if (c == '#' || (kept & (1 << s++)) != 0) {
+          layout.append(c);
+        }
+      }
+      layouts[kept] = layout.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+    return layouts;
+  }
+
+  private static int[] separators(String punctuated) {
+    return IntStream.range(0, punctuated.length())
+        .filter(i -> punctuated.charAt(i) != '#')
+        .toArray();
+  }
+
+  private static int indexOf(byte[] bytes, byte b) {
+    int i = 0;
+    while (bytes[i] != b) {
+      i++;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,268 @@
+package br.edu.fesa.validator.utils;
+
+import static br.edu.fesa.validator.model.DocumentVerdict.CHECK_DIGITS_VALID;
+import static br.edu.fesa.validator.model.DocumentVerdict.REPEATED_DIGITS;
+import static br.edu.fesa.validator.model.DocumentVerdict.TYPE_CNPJ;
+import static br.edu.fesa.validator.model.DocumentVerdict.TYPE_CPF;
+import static br.edu.fesa.validator.model.DocumentVerdict.TYPE_RG;
+import static br.edu.fesa.validator.model.DocumentVerdict.VALIDATED;
+import static br.edu.fesa.validator.model.DocumentVerdict.VALID_FORMAT;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * DocumentScanner validates a document in a single left-to-right pass: the format automaton and
+ * repeated-digit detection advance on the same character while the digits are packed into a long
+ * for the check digit calculation, so no regex, intermediate string or digit array is needed.
+ */
+public class DocumentScanner {
+
+  // Longest digit run of an accepted format (numeric CNPJ)
+  private static final int MAX_DIGITS = CheckDigitValidator.CNPJ_LENGTH;
+
+  // Type tags stored in the two low bits of a key
+  private static final int KEY_CNPJ = 0;
+  private static final int KEY_CPF = 1;
+  private static final int KEY_RG = 2;
+  private static final int KEY_RG_X = 3;
+
+  private final AFDValidator afdValidator;
+
+  public DocumentScanner(AFDValidator afdValidator) {
+    this.afdValidator = afdValidator;
+  }
+
+  /**
+   * Validates a document in a single pass.
+   *
+   * @param document the document characters to validate
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int scan(CharSequence document) {
+    return scan(document, 0, document.length());
+  }
+
+  /**
+   * Validates the document held in a range of a character sequence, so that batches can be
+   * validated line by line without extracting each line.
+   *
+   * @param text the characters holding the document
+   * @param start the index of the first character of the document
+   * @param end the index after the last character of the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int scan(CharSequence text, int start, int end) {
+    return scanText(text, start, end);
+  }
+
+  /**
+   * Validates the ASCII document held in a range of a byte array, without decoding it.
+   *
+   * @param bytes the bytes holding the document
+   * @param offset the index of the first byte of the document
+   * @param length the number of bytes of the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int scan(byte[] bytes, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return scanText(bytes, offset, offset + length);
+  }
+
+  /**
+   * Validates the ASCII document held in a range of a byte buffer, using absolute reads so that
+   * the buffer position is left untouched. Bytes are read as ISO-8859-1, so any non-ASCII byte is
+   * rejected by the automaton.
+   *
+   * @param buffer the bytes holding the document
+   * @param start the index of the first byte of the document
+   * @param end the index after the last byte of the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int scan(ByteBuffer buffer, int start, int end) {
+    return scanText(buffer, start, end);
+  }
+
+  /**
+   * Runs the single pass over the document held in a range of a {@link AsciiText} holder.
+   *
+   * @param text the {@link CharSequence}, {@code byte[]} or {@link ByteBuffer} holding it
+   * @param start the index of the first character of the document
+   * @param end the index after the last character of the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  private int scanText(Object text, int start, int end) {
+    int state = afdValidator.start();
+    int count = 0;
+    int first = -1;
+    boolean allSame = true;
+    long number = 0;
+    boolean checkDigitX = false;
+    int kind = AsciiText.kind(text);
+
+    for (int i = start; i < end; i++) {
+      char c = AsciiText.charAt(text, kind, i);
+
+      if (state >= 0) {
+        state = afdValidator.next(state, c);
+      } else if (!allSame) {
+        // The format is already invalid and the digits are not repeated: nothing else can change
+        break;
+      }
+
+      if (c >= '0' && c <= '9') {
+        int digit = c - '0';
+        if (count == 0) {
+          first = digit;
+        } else if (digit != first) {
+          allSame = false;
+        }
+        if (count < MAX_DIGITS) {
+          number = number * 10 + digit;
+        }
+        count++;
+      } else if (state >= 0 && (c == 'x' || c == 'X')) {
+        // The automaton only accepts 'X' as the RG check digit
+        checkDigitX = true;
+      }
+    }
+
+    int type = state >= 0 ? afdValidator.verdict(state) : AFDValidator.INCOMPLETE;
+    if (type == AFDValidator.CNPJ && count < CheckDigitValidator.CNPJ_LENGTH) {
+      // Letters do not fit the packed number: read the alphanumeric CNPJ again
+      return alphanumericCnpjVerdict(CheckDigitValidator.cnpjCheckDigitsValid(text, start, end));
+    }
+    return verdict(type, count, allSame, number, checkDigitX);
+  }
+
+  /**
+   * Normalizes a well-formed document to a primitive key: the digits packed into a long, tagged
+   * with the document type. Documents that differ only in punctuation share the same key, and
+   * the verdict of a key is fully determined by it (see {@link #verdictForKey}). Alphanumeric
+   * CNPJs do not fit in a key.
+   *
+   * @param text the characters holding the document
+   * @param start the index of the first character of the document
+   * @param end the index after the last character of the document
+   * @return the non-negative key, or -1 if the format is invalid or the document has no key
+   */
+  public long key(CharSequence text, int start, int end) {
+    int state = afdValidator.start();
+    long number = 0;
+    boolean checkDigitX = false;
+    boolean letters = false;
+
+    for (int i = start; i < end && state >= 0; i++) {
+      char c = text.charAt(i);
+      state = afdValidator.next(state, c);
+
+      if (c >= '0' && c <= '9') {
+        number = number * 10 + (c - '0');
+      } else if (c == 'x' || c == 'X') {
+        checkDigitX = true;
+      } else if (c >= 'A' && c <= 'Z') {
+        letters = true;
+      }
+    }
+
+    int type = state >= 0 ? afdValidator.verdict(state) : AFDValidator.INCOMPLETE;
+    if (type == AFDValidator.CNPJ) {
+      return letters || checkDigitX ? -1 : number << 2 | KEY_CNPJ;
+    }
+    if (type == AFDValidator.CPF) {
+      return number << 2 | KEY_CPF;
+    }
+    if (type == AFDValidator.RG) {
+      return number << 2 | (checkDigitX ? KEY_RG_X : KEY_RG);
+    }
+    return -1;
+  }
+
+  /**
+   * Computes the verdict of a key produced by {@link #key}, without the original characters.
+   *
+   * @param key a non-negative key
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int verdictForKey(long key) {
+    long number = key >>> 2;
+    int tag = (int) (key & 3);
+    int digits;
+    int type;
+    if (tag == KEY_CNPJ) {
+      digits = CheckDigitValidator.CNPJ_LENGTH;
+      type = AFDValidator.CNPJ;
+    } else if (tag == KEY_CPF) {
+      digits = 11;
+      type = AFDValidator.CPF;
+    } else {
+      digits = tag == KEY_RG ? 9 : 8;
+      type = AFDValidator.RG;
+    }
+
+    // Repeated digits: every digit, including leading zeros, equals the last one
+    long last = number % 10;
+    boolean allSame = true;
+    for (int i = 0; i < digits && allSame; i++, number /= 10) {
+      allSame = number % 10 == last;
+    }
+
+    return verdict(type, digits, allSame, key >>> 2, tag == KEY_RG_X);
+  }
+
+  /**
+   * Builds the verdict of a well-formed CNPJ containing letters, which cannot have repeated
+   * digits.
+   *
+   * @param checkDigitsValid whether both check digits match
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  private static int alphanumericCnpjVerdict(boolean checkDigitsValid) {
+    return checkDigitsValid
+        ? VALID_FORMAT | TYPE_CNPJ | CHECK_DIGITS_VALID | VALIDATED
+        : VALID_FORMAT | TYPE_CNPJ;
+  }
+
+  /**
+   * Combines the outcome of a scan into a verdict word.
+   *
+   * @param type the format recognized by the automaton
+   * @param count the number of digits read
+   * @param allSame whether every digit read was the same
+   * @param number the first {@value #MAX_DIGITS} digits packed into a long
+   * @param checkDigitX whether the RG check digit is 'X'
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  private static int verdict(
+      int type, int count, boolean allSame, long number, boolean checkDigitX) {
+    int verdict = (count >= 2 && allSame) ? REPEATED_DIGITS : 0;
+
+    if (type == AFDValidator.CPF) {
+      verdict |= VALID_FORMAT | TYPE_CPF;
+      if (!allSame && CheckDigitValidator.cpfCheckDigitsValid(number)) {
+        verdict |= CHECK_DIGITS_VALID;
+      }
+    } else if (type == AFDValidator.CNPJ) {
+      verdict |= VALID_FORMAT | TYPE_CNPJ;
+      if (!allSame && CheckDigitValidator.cnpjCheckDigitsValid(number)) {
+        verdict |= CHECK_DIGITS_VALID;
+      }
+    } else if (type == AFDValidator.RG) {
+      verdict |= VALID_FORMAT | TYPE_RG;
+      boolean valid =
+          checkDigitX
+              ? CheckDigitValidator.rgCheckDigitValid(number, CheckDigitValidator.RG_X)
+              : CheckDigitValidator.rgCheckDigitValid(number / 10, (int) (number % 10));
+      if (valid) {
+        verdict |= CHECK_DIGITS_VALID;
+      }
+    }
+
+    if ((verdict & (VALID_FORMAT | REPEATED_DIGITS | CHECK_DIGITS_VALID))
+        == (VALID_FORMAT | CHECK_DIGITS_VALID)) {
+      verdict |= VALIDATED;
+    }
+
+    return verdict;
+  }
+}
@@ -0,0 +1,172 @@
+package br.edu.fesa.validator.utils;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import java.nio.ByteBuffer;
+
+/**
+ * Static entry points to the single-pass validation, for programs that embed it without a
+ * container, such as batch and stream processing jobs. Every method is stateless and thread-safe:
+ * they share one {@link DocumentScanner}, whose compiled automaton is immutable, and report each
+ * document as a {@link DocumentVerdict} word, so validating a document allocates nothing. Use
+ * {@link DocumentVerdict#has}, {@link DocumentVerdict#type} and {@link DocumentVerdict#message} to
+ * read a verdict.
+ */
+public final class DocumentValidator {
+
+  private static final DocumentScanner SCANNER = new DocumentScanner(new AFDValidator());
+
+  private DocumentValidator() {}
+
+  /** Receives the bounds of a trimmed, non-blank line. */
+  @FunctionalInterface
+  public interface LineConsumer {
+    void accept(int start, int end);
+  }
+
+  /**
+   * Returns the scanner behind the static entry points, for callers that need its key methods or
+   * want to hold it as a dependency.
+   *
+   * @return the shared scanner
+   */
+  public static DocumentScanner scanner() {
+    return SCANNER;
+  }
+
+  /**
+   * Validates a document.
+   *
+   * @param document the document characters
+   * @return a {@link DocumentVerdict} word
+   */
+  public static int verdict(CharSequence document) {
+    return SCANNER.scan(document, 0, document.length());
+  }
+
+  /**
+   * Validates the document held in a range of a text, without extracting it.
+   *
+   * @param text the characters holding the document
+   * @param start the index of the first character of the document
+   * @param end the index after the last character of the document
+   * @return a {@link DocumentVerdict} word
+   */
+  public static int verdict(CharSequence text, int start, int end) {
+    return SCANNER.scan(text, start, end);
+  }
+
+  /**
+   * Validates an ASCII document held in a range of a byte array, without decoding it.
+   *
+   * @param bytes the bytes holding the document
+   * @param offset the index of the first byte of the document
+   * @param length the number of bytes of the document
+   * @return a {@link DocumentVerdict} word
+   */
+  public static int verdict(byte[] bytes, int offset, int length) {
+    return SCANNER.scan(bytes, offset, length);
+  }
+
+  /**
+   * Validates an ASCII document held between the position and the limit of a byte buffer, without
+   * decoding it or moving the buffer position.
+   *
+   * @param buffer the bytes holding the document
+   * @return a {@link DocumentVerdict} word
+   */
+  public static int verdict(ByteBuffer buffer) {
+    return SCANNER.scan(buffer, buffer.position(), buffer.limit());
+  }
+
+  /**
+   * Checks whether a document passes every validation.
+   *
+   * @param document the document characters
+   * @return true if the verdict of the document has {@link DocumentVerdict#VALIDATED}
+   */
+  public static boolean isValid(CharSequence document) {
+    return DocumentVerdict.has(verdict(document), DocumentVerdict.VALIDATED);
+  }
+
+  /**
+   * Validates an array of documents into an array of verdicts supplied by the caller, which can
+   * be reused across batches.
+   *
+   * @param documents the documents
+   * @param verdicts receives the verdict of {@code documents[i]} at index {@code i}
+   * @throws IllegalArgumentException if {@code verdicts} is shorter than {@code documents}
+   */
+  public static void verdicts(CharSequence[] documents, byte[] verdicts) {
+    if (verdicts.length < documents.length) {
+      throw new IllegalArgumentException(
+          "Vetor de resultados menor que o de documentos: " + verdicts.length);
+    }
+    for (int i = 0; i < documents.length; i++) {
+      CharSequence document = documents[i];
+      verdicts[i] = (byte) SCANNER.scan(document, 0, document.length());
+    }
+  }
+
+  /**
+   * Validates the newline-separated documents of a text, without extracting the lines. Blank
+   * lines are skipped and the others are trimmed.
+   *
+   * @param text the newline-separated documents
+   * @return one verdict per non-blank line, in order
+   */
+  public static byte[] verdicts(CharSequence text) {
+    int[] count = new int[1];
+    forEachLine(text, (start, end) -> count[0]++);
+
+    byte[] verdicts = new byte[count[0]];
+    int[] next = new int[1];
+    forEachLine(text, (start, end) -> verdicts[next[0]++] = (byte) SCANNER.scan(text, start, end));
+    return verdicts;
+  }
+
+  /**
+   * Walks the newline-separated lines of a text, skipping blank lines and trimming the others,
+   * without extracting them.
+   *
+   * @param text the newline-separated text
+   * @param consumer receives the bounds of each trimmed, non-blank line
+   */
+  public static void forEachLine(CharSequence text, LineConsumer consumer) {
+    int length = text.length();
+    int lineStart = 0;
+
+    while (lineStart < length) {
+      int lineEnd = lineStart;
+      while (lineEnd < length && text.charAt(lineEnd) != '\n') {
+        lineEnd++;
+      }
+
+      int start = lineStart;
+      int end = lineEnd;
+      while (start < end && text.charAt(start) <= ' ') start++;
+      while (end > start && text.charAt(end - 1) <= ' ') end--;
+
+      if (!isBlank(text, start, end)) {
+        consumer.accept(start, end);
+      }
+      lineStart = lineEnd + 1;
+    }
+  }
+
+  /**
+   * Checks whether a range of a text holds only whitespace.
+   *
+   * @param text the characters
+   * @param start the index of the first character of the range
+   * @param end the index after the last character of the range
+   * @return true if the range is empty or every character is whitespace
+   */
+  public static boolean isBlank(CharSequence text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,81 @@
+package br.edu.fesa.validator.utils;
+
+/**
+ * Minimized deterministic automaton produced by {@link FormatCompiler}, stored as flat primitive
+ * tables: a character class per ASCII character and a transition per (state, class) pair. State 0
+ * is the initial state, and a negative transition means the character is rejected.
+ */
+public final class FormatAutomaton {
+
+  /** Transition and character class marking a rejected character. */
+  public static final int REJECT = -1;
+
+  /** Verdict of a state in which no format ends. */
+  public static final int NO_VERDICT = 0;
+
+  // Maps each ASCII character to its class, or REJECT
+  private final byte[] charClasses;
+  private final int classCount;
+
+  // Flat transition table indexed by (state * classCount + character class)
+  private final byte[] transitions;
+
+  // Verdict reported when the input ends in each state
+  private final byte[] verdicts;
+
+  FormatAutomaton(byte[] charClasses, int classCount, byte[] transitions, byte[] verdicts) {
+    this.charClasses = charClasses;
+    this.classCount = classCount;
+    this.transitions = transitions;
+    this.verdicts = verdicts;
+  }
+
+  /**
+   * Returns the initial state.
+   *
+   * @return 0
+   */
+  public int start() {
+    return 0;
+  }
+
+  /**
+   * Performs a single transition.
+   *
+   * @param state the current state
+   * @param c the input character
+   * @return the next state, or {@link #REJECT} if the character is not allowed
+   */
+  public int next(int state, char c) {
+    int charClass = c < charClasses.length ? charClasses[c] : REJECT;
+    return charClass == REJECT ? REJECT : transitions[state * classCount + charClass];
+  }
+
+  /**
+   * Returns the verdict reported when the input ends in a state.
+   *
+   * @param state a state
+   * @return the verdict of the format ending in the state, or {@link #NO_VERDICT}
+   */
+  public int verdict(int state) {
+    return verdicts[state];
+  }
+
+  /**
+   * Returns the number of states of the minimized automaton.
+   *
+   * @return the number of states
+   */
+  public int stateCount() {
+    return verdicts.length;
+  }
+
+  /**
+   * Returns the number of character classes, i.e. the width of a transition table row.
+   *
+   * @return the number of character classes
+   */
+  public int classCount() {
+    return classCount;
+  }
+}
@@ -0,0 +1,377 @@
+package br.edu.fesa.validator.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles document format patterns into a minimized {@link FormatAutomaton}, so that a format is
+ * added by writing its pattern instead of wiring states by hand.
+ *
+ * <p>Pattern syntax, over ASCII characters:
+ *
+ * <ul>
+ *   <li>{@code #} matches a digit;
+ *   <li>{@code [...]} matches one of the listed characters or ranges, e.g. {@code [0-9Xx]};
+ *   <li>{@code ?} makes the preceding element optional, e.g. {@code ###.?###};
+ *   <li>{@code {n}} repeats the preceding element {@code n} times, e.g. {@code [0-9A-Z]{12}};
+ *   <li>{@code \} escapes the next character; any other character matches itself.
+ * </ul>
+ *
+ * <p>Every pattern is given a verdict, reported when the input ends after matching it. The
+ * compiler splits the characters into the fewest classes that the patterns can tell apart, builds
+ * the automaton by subset construction over those classes and merges equivalent states.
+ */
+public class FormatCompiler {
+
+  private static final int ASCII = 128;
+
+  // Largest number of states addressable by the byte transition table
+  private static final int MAX_STATES = Byte.MAX_VALUE;
+
+  /** One position of a pattern: the characters it accepts and whether it may be skipped. */
+  private static final class Element {
+    private final boolean[] accepts = new boolean[ASCII];
+    private boolean optional;
+  }
+
+  private final List<List<Element>> patterns = new ArrayList<>();
+  private final List<Integer> patternVerdicts = new ArrayList<>();
+
+  /**
+   * Adds a format pattern.
+   *
+   * @param pattern the pattern, see the class documentation
+   * @param verdict the positive verdict reported for inputs matching the pattern
+   * @return this compiler
+   * @throws IllegalArgumentException if the pattern is malformed or the verdict is not positive
+   */
+  public FormatCompiler add(String pattern, int verdict) {
+    if (verdict <= FormatAutomaton.NO_VERDICT || verdict > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("Veredito inválido: " + verdict);
+    }
+    patterns.add(parse(pattern));
+    patternVerdicts.add(verdict);
+    return this;
+  }
+
+  /**
+   * Adds several format patterns sharing the same verdict.
+   *
+   * @param patterns the patterns, see the class documentation
+   * @param verdict the positive verdict reported for inputs matching any of the patterns
+   * @return this compiler
+   */
+  public FormatCompiler addAll(Iterable<String> patterns, int verdict) {
+    for (String pattern : patterns) {
+      add(pattern, verdict);
+    }
+    return this;
+  }
+
+  /**
+   * Builds the minimized automaton of every pattern added so far.
+   *
+   * @return the compiled automaton
+   * @throws IllegalArgumentException if an input matches patterns with different verdicts
+   * @throws IllegalStateException if the automaton has too many states for its table
+   */
+  public FormatAutomaton compile() {
+    // Number the elements of every pattern; NFA state i is "before element i", and the end of
+    // each pattern gets a state of its own
+    List<Element> elements = new ArrayList<>();
+    int[] ends = new int[patterns.size()];
+    List<Integer> ownerOf = new ArrayList<>();
+    for (int p = 0; p < patterns.size(); p++) {
+      for (Element element : patterns.get(p)) {
+        elements.add(element);
+        ownerOf.add(p);
+      }
+      ends[p] = elements.size();
+      elements.add(null);
+      ownerOf.add(p);
+    }
+
+    byte[] charClasses = new byte[ASCII];
+    List<BitSet> classMembers = characterClasses(elements, charClasses);
+    int classCount = classMembers.size();
+
+    // Subset construction over the character classes
+    BitSet start = new BitSet();
+    for (int p = 0; p < patterns.size(); p++) {
+      start.set(p == 0 ? 0 : ends[p - 1] + 1);
+    }
+    closure(start, elements);
+
+    Map<BitSet, Integer> ids = new HashMap<>();
+    List<BitSet> subsets = new ArrayList<>();
+    List<int[]> rows = new ArrayList<>();
+    ids.put(start, 0);
+    subsets.add(start);
+
+    for (int s = 0; s < subsets.size(); s++) {
+      BitSet subset = subsets.get(s);
+      int[] row = new int[classCount];
+      for (int k = 0; k < classCount; k++) {
+        BitSet target = new BitSet();
+        for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1)) {
+          if (elements.get(i) != null && classMembers.get(k).get(i)) {
+            target.set(i + 1);
+          }
+        }
+        if (target.isEmpty()) {
+          row[k] = FormatAutomaton.REJECT;
+          continue;
+        }
+        closure(target, elements);
+        Integer id = ids.get(target);
+        if (id == null) {
+          id = subsets.size();
+          ids.put(target, id);
+          subsets.add(target);
+        }
+        row[k] = id;
+      }
+      rows.add(row);
+    }
+
+    int[] verdicts = new int[subsets.size()];
+    for (int s = 0; s < subsets.size(); s++) {
+      BitSet subset = subsets.get(s);
+      for (int p = 0; p < ends.length; p++) {
+        if (subset.get(ends[p])) {
+          int verdict = patternVerdicts.get(p);
+          if (verdicts[s] != FormatAutomaton.NO_VERDICT && verdicts[s] != verdict) {
+            throw new IllegalArgumentException(
+                "Formatos com vereditos diferentes aceitam a mesma entrada");
+          }
+          verdicts[s] = verdict;
+        }
+      }
+    }
+
+    return minimize(rows, verdicts, charClasses, classCount);
+  }
+
+  /**
+   * Splits the ASCII characters into classes of characters accepted by exactly the same
+   * elements.
+   *
+   * @param elements the elements of every pattern, with null at pattern ends
+   * @param charClasses receives the class of each character, or REJECT
+   * @return for each class, the elements accepting its characters
+   */
+  private static List<BitSet> characterClasses(List<Element> elements, byte[] charClasses) {
+    Map<BitSet, Integer> classes = new HashMap<>();
+    List<BitSet> members = new ArrayList<>();
+
+    for (char c = 0; c < ASCII; c++) {
+      BitSet acceptedBy = new BitSet();
+      for (int i = 0; i < elements.size(); i++) {
+        Element element = elements.get(i);
+        if (element != null && element.accepts[c]) {
+          acceptedBy.set(i);
+        }
+      }
+
+      if (acceptedBy.isEmpty()) {
+        charClasses[c] = FormatAutomaton.REJECT;
+        continue;
+      }
+      Integer charClass = classes.get(acceptedBy);
+      if (charClass == null) {
+        charClass = members.size();
+        classes.put(acceptedBy, charClass);
+        members.add(acceptedBy);
+      }
+      charClasses[c] = (byte) (int) charClass;
+    }
+
+    return members;
+  }
+
+  /** Adds the states reachable by skipping optional elements. */
+  private static void closure(BitSet states, List<Element> elements) {
+    for (int i = states.nextSetBit(0); i >= 0; i = states.nextSetBit(i + 1)) {
+      Element element = elements.get(i);
+      if (element != null && element.optional) {
+        states.set(i + 1);
+      }
+    }
+  }
+
+  /**
+   * Merges equivalent states by partition refinement, starting from the partition by verdict,
+   * and numbers the resulting states in breadth-first order from the initial state.
+   */
+  private static FormatAutomaton minimize(
+      List<int[]> rows, int[] verdicts, byte[] charClasses, int classCount) {
+    int count = rows.size();
+    int[] block = verdicts.clone();
+    int blocks;
+
+    while (true) {
+      Map<List<Integer>, Integer> signatures = new HashMap<>();
+      int[] refined = new int[count];
+      for (int s = 0; s < count; s++) {
+        List<Integer> signature = new ArrayList<>(classCount + 1);
+        signature.add(block[s]);
+        for (int target : rows.get(s)) {
+          signature.add(target == FormatAutomaton.REJECT ? -1 : block[target]);
+        }
+        Integer id = signatures.putIfAbsent(signature, signatures.size());
+        refined[s] = id == null ? signatures.size() - 1 : id;
+      }
+
+      boolean stable = signatures.size() == distinct(block);
+      block = refined;
+      blocks = signatures.size();
+      if (stable) {
+        break;
+      }
+    }
+
+    if (blocks > MAX_STATES) {
+      throw new IllegalStateException("Autômato com estados demais: " + blocks);
+    }
+
+    // Breadth-first numbering keeps the states read first close together in the table
+    int[] number = new int[blocks];
+    Arrays.fill(number, -1);
+    int[] representative = new int[blocks];
+    for (int s = count - 1; s >= 0; s--) {
+      representative[block[s]] = s;
+    }
+
+    ArrayDeque<Integer> queue = new ArrayDeque<>();
+    List<Integer> order = new ArrayList<>();
+    number[block[0]] = 0;
+    queue.add(block[0]);
+    while (!queue.isEmpty()) {
+      int b = queue.poll();
+      order.add(b);
+      for (int target : rows.get(representative[b])) {
+        if (target != FormatAutomaton.REJECT && number[block[target]] < 0) {
+          number[block[target]] = order.size() + queue.size();
+          queue.add(block[target]);
+        }
+      }
+    }
+
+    byte[] transitions = new byte[order.size() * classCount];
+    byte[] stateVerdicts = new byte[order.size()];
+    for (int state = 0; state < order.size(); state++) {
+      int s = representative[order.get(state)];
+      stateVerdicts[state] = (byte) verdicts[s];
+      int[] row = rows.get(s);
+      for (int k = 0; k < classCount; k++) {
+        int target =
+            row[k] == FormatAutomaton.REJECT ? FormatAutomaton.REJECT : number[block[row[k]]];
+        transitions[state * classCount + k] = (byte) target;
+      }
+    }
+
+    return new FormatAutomaton(charClasses, classCount, transitions, stateVerdicts);
+  }
+
+  private static int distinct(int[] values) {
+    return (int) Arrays.stream(values).distinct().count();
+  }
+
+  /**
+   * Parses a pattern into its elements.
+   *
+   * @param pattern the pattern
+   * @return the elements, in order
+   */
+  private static List<Element> parse(String pattern) {
+    List<Element> elements = new ArrayList<>();
+
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      Element element = new Element();
+
+      if (c == '?') {
+        if (elements.isEmpty() || elements.get(elements.size() - 1).optional) {
+          throw malformed(pattern, "'?' sem elemento anterior");
+        }
+        elements.get(elements.size() - 1).optional = true;
+        continue;
+      } else if (c == '{') {
+        int close = pattern.indexOf('}', i + 1);
+        if (elements.isEmpty() || close < 0) {
+          throw malformed(pattern, "repetição sem elemento anterior ou não fechada");
+        }
+        int times;
+        try {
+          times = Integer.parseInt(pattern.substring(i + 1, close));
+        } catch (NumberFormatException e) {
+          throw malformed(pattern, "repetição inválida");
+        }
+        if (times < 1) {
+          throw malformed(pattern, "repetição inválida");
+        }
+        Element repeated = elements.get(elements.size() - 1);
+        for (int copy = 1; copy < times; copy++) {
+          Element copied = new Element();
+          System.arraycopy(repeated.accepts, 0, copied.accepts, 0, ASCII);
+          copied.optional = repeated.optional;
+          elements.add(copied);
+        }
+        i = close;
+        continue;
+      } else if (c == '#') {
+        Arrays.fill(element.accepts, '0', '9' + 1, true);
+      } else if (c == '[') {
+        int close = pattern.indexOf(']', i + 1);
+        if (close < 0 || close == i + 1) {
+          throw malformed(pattern, "conjunto não fechado ou vazio");
+        }
+        for (int j = i + 1; j < close; j++) {
+          char from = pattern.charAt(j);
+          char to = from;
+          if (j + 2 < close && pattern.charAt(j + 1) == '-') {
+            to = pattern.charAt(j + 2);
+            j += 2;
+          }
+          if (from > to) {
+            throw malformed(pattern, "intervalo invertido");
+          }
+          for (char member = from; member <= to; member++) {
+            accept(element, member, pattern);
+          }
+        }
+        i = close;
+      } else if (c == '\\') {
+        if (++i == pattern.length()) {
+          throw malformed(pattern, "escape no final");
+        }
+        accept(element, pattern.charAt(i), pattern);
+      } else {
+        accept(element, c, pattern);
+      }
+
+      elements.add(element);
+    }
+
+    if (elements.isEmpty()) {
+      throw malformed(pattern, "padrão vazio");
+    }
+    return elements;
+  }
+
+  private static void accept(Element element, char c, String pattern) {
+    if (c >= ASCII) {
+      throw malformed(pattern, "caractere não ASCII");
+    }
+    element.accepts[c] = true;
+  }
+
+  private static IllegalArgumentException malformed(String pattern, String reason) {
+    return new IllegalArgumentException("Padrão inválido \"" + pattern + "\": " + reason);
+  }
+}
@@ -0,0 +1,109 @@
+package br.edu.fesa.validator.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative long keys to int values, with linear probing over
+ * primitive arrays, so that no key or value is ever boxed.
+ */
+public final class LongIntHashMap {
+
+  private static final long FREE = -1L;
+
+  private long[] keys;
+  private int[] values;
+  private int size;
+  private int mask;
+
+  /**
+   * Creates a map sized for the expected number of keys.
+   *
+   * @param expectedSize the number of keys expected, used to avoid rehashing
+   */
+  public LongIntHashMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+    allocate(capacity);
+  }
+
+  /**
+   * Returns the value mapped to a key.
+   *
+   * @param key the non-negative key
+   * @param missing the value returned when the key is absent
+   * @return the mapped value, or {@code missing}
+   */
+  public int get(long key, int missing) {
+    for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+      long current = keys[slot];
+      if (current == key) {
+        return values[slot];
+      }
+      if (current == FREE) {
+        return missing;
+      }
+    }
+  }
+
+  /**
+   * Maps a key to a value, replacing any previous value.
+   *
+   * @param key the non-negative key
+   * @param value the value
+   */
+  public void put(long key, int value) {
+    if (key < 0) {
+      throw new IllegalArgumentException("Keys must be non-negative: " + key);
+    }
+
+    for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+      long current = keys[slot];
+      if (current == key) {
+        values[slot] = value;
+        return;
+      }
+      if (current == FREE) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (mask + 1) / 2) {
+          rehash();
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of keys in the map.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    return size;
+  }
+
+  private int slot(long key) {
+    // Fibonacci hashing spreads the sequential keys of document numbers across the table
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new int[capacity];
+    Arrays.fill(keys, FREE);
+    mask = capacity - 1;
+  }
+
+  private void rehash() {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(oldKeys.length * 2);
+    size = 0;
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        put(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package br.edu.fesa.validator.utils;
+
+import java.util.BitSet;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@link ColumnarCheckDigitValidator}. This class references the
+ * incubator module, so it is only loaded once the module is known to be available.
+ */
+final class VectorizedCheckDigits {
+
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+  // Byte species with as many lanes as INTS where such a shape exists; below 256-bit int vectors
+  // it would be narrower than the smallest shape, so 64-bit loads widen into several int vectors
+  private static final VectorSpecies<Byte> BYTES =
+      VectorSpecies.of(
+          byte.class, VectorShape.forBitSize(Math.max(64, INTS.vectorBitSize() / 4)));
+
+  // Int vectors widened from one byte vector
+  private static final int PARTS = BYTES.length() / INTS.length();
+
+  // x / 11 == (x * 745) >>> 13 for every weighted sum below 2048
+  private static final int DIV11_MULTIPLIER = 745;
+  private static final int DIV11_SHIFT = 13;
+
+  private VectorizedCheckDigits() {}
+
+  /**
+   * Initializes the species, failing if the JVM cannot provide them.
+   *
+   * @return the number of documents validated per loop iteration
+   */
+  static int blockSize() {
+    return BYTES.length();
+  }
+
+  static BitSet validateCpfs(byte[][] digits, int count) {
+    long[] words = new long[(count + 63) >>> 6];
+    int bound = BYTES.loopBound(count);
+    int i = 0;
+
+    for (; i < bound; i += BYTES.length()) {
+      for (int part = 0; part < PARTS; part++) {
+        IntVector first = load(digits[0], i, part);
+        IntVector firstSum = IntVector.zero(INTS);
+        IntVector secondSum = IntVector.zero(INTS);
+        VectorMask<Integer> allSame = INTS.maskAll(true);
+
+        for (int position = 0; position < 9; position++) {
+          IntVector digit = position == 0 ? first : load(digits[position], i, part);
+          firstSum = firstSum.add(digit.mul(10 - position));
+          secondSum = secondSum.add(digit.mul(11 - position));
+          allSame = allSame.and(digit.eq(first));
+        }
+
+        IntVector firstDigit = load(digits[9], i, part);
+        IntVector secondDigit = load(digits[10], i, part);
+        secondSum = secondSum.add(firstDigit.mul(2));
+        allSame = allSame.and(firstDigit.eq(first)).and(secondDigit.eq(first));
+
+        VectorMask<Integer> valid =
+            cpfCheckDigit(firstSum)
+                .eq(firstDigit)
+                .and(cpfCheckDigit(secondSum).eq(secondDigit))
+                .andNot(allSame);
+        setBits(words, i + part * INTS.length(), valid.toLong());
+      }
+    }
+
+    BitSet valid = BitSet.valueOf(words);
+    return ColumnarCheckDigitValidator.validateCpfsScalar(digits, i, count, valid);
+  }
+
+  static BitSet validateRgs(byte[][] digits, int count) {
+    long[] words = new long[(count + 63) >>> 6];
+    int bound = BYTES.loopBound(count);
+    int i = 0;
+
+    for (; i < bound; i += BYTES.length()) {
+      for (int part = 0; part < PARTS; part++) {
+        IntVector sum = IntVector.zero(INTS);
+        for (int position = 0; position < 8; position++) {
+          sum = sum.add(load(digits[position], i, part).mul(2 + position));
+        }
+
+        // 11 - (sum % 11): 10 stands for 'X' and 11 never matches a check digit
+        IntVector expected = IntVector.broadcast(INTS, 11).sub(mod11(sum));
+        setBits(
+            words, i + part * INTS.length(), expected.eq(load(digits[8], i, part)).toLong());
+      }
+    }
+
+    BitSet valid = BitSet.valueOf(words);
+    return ColumnarCheckDigitValidator.validateRgsScalar(digits, i, count, valid);
+  }
+
+  private static IntVector load(byte[] column, int offset, int part) {
+    return (IntVector) ByteVector.fromArray(BYTES, column, offset).castShape(INTS, part);
+  }
+
+  private static IntVector mod11(IntVector sum) {
+    IntVector quotient = sum.mul(DIV11_MULTIPLIER).lanewise(VectorOperators.LSHR, DIV11_SHIFT);
+    return sum.sub(quotient.mul(11));
+  }
+
+  private static IntVector cpfCheckDigit(IntVector sum) {
+    IntVector digit = IntVector.broadcast(INTS, 11).sub(mod11(sum));
+    return digit.blend(0, digit.compare(VectorOperators.GE, 10));
+  }
+
+  private static void setBits(long[] words, int offset, long lanes) {
+    // Lane counts are powers of two no larger than 64, so a block never straddles two words
+    words[offset >>> 6] |= lanes << (offset & 63);
+  }
+}
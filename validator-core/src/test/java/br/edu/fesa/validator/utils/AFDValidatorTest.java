@@ -2,6 +2,8 @@ package br.edu.fesa.validator.utils;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 /** Unit tests for the AFDValidator class. */
@@ -101,4 +103,89 @@ class AFDValidatorTest {
         "Formato inválido: documento incompleto ou formato incorreto",
         validator.validateDocument("12345678"));
   }
+
+  // ====================== CNPJ Tests ======================
+
+  // Valid numeric CNPJ formats – Should be accepted as CNPJ
+  @Test
+  void testValidCNPJFormats() {
+    assertEquals("CNPJ válido", validator.validateDocument("11.222.333/0001-81"));
+    assertEquals("CNPJ válido", validator.validateDocument("11222333000181"));
+    assertEquals("CNPJ válido", validator.validateDocument("11.222.333000181"));
+    assertEquals("CNPJ válido", validator.validateDocument("11222333/0001-81"));
+  }
+
+  // Alphanumeric CNPJ (e.g.: 12.ABC.345/01DE-35) – Should be accepted as CNPJ
+  @Test
+  void testAlphanumericCNPJ() {
+    assertEquals(AFDValidator.CNPJ, validator.classify("12.ABC.345/01DE-35"));
+    assertEquals(AFDValidator.CNPJ, validator.classify("12ABC34501DE35"));
+  }
+
+  // Lowercase letters or letters in the check digits – Should be rejected
+  @Test
+  void testInvalidAlphanumericCNPJ() {
+    assertEquals(
+        "Formato inválido: caractere 'a' não permitido",
+        validator.validateDocument("12.abc.345/01DE-35"));
+    assertEquals(-18, validator.classify("12.ABC.345/01DE-3A"));
+  }
+
+  // Misplaced slash (e.g.: 11.222.33/30001-81) – Should be rejected
+  @Test
+  void testCNPJWithMisplacedSlash() {
+    assertEquals(-10, validator.classify("11.222.33/30001-81"));
+  }
+
+  // ====================== Verdict Code Tests ======================
+
+  // Well-formed documents – Should report their type
+  @Test
+  void classify_WellFormedDocuments_ShouldReportType() {
+    assertEquals(AFDValidator.CPF, validator.classify("811.835.170-09"));
+    assertEquals(AFDValidator.RG, validator.classify("33.331.427-X"));
+    assertEquals(AFDValidator.INCOMPLETE, validator.classify("12345678"));
+  }
+
+  // Rejected character (e.g.: 12a34-56b7) – Should encode the index of the first bad character
+  @Test
+  void classify_InvalidCharacter_ShouldEncodeIndex() {
+    assertEquals(-3, validator.classify("12a34-56b7"));
+    assertEquals(-1, validator.classify("\u00e9" + "1".repeat(1_000_000)));
+  }
+
+  // Uppercase rejected character (letters are only allowed in CNPJ bases) – Should be reported
+  // in lowercase
+  @Test
+  void validateDocument_UppercaseInvalidCharacter_ShouldReportLowercase() {
+    assertEquals(
+        "Formato inválido: caractere 'a' não permitido",
+        validator.validateDocument("123456789-A1"));
+  }
+
+  // ====================== Byte Input Tests ======================
+
+  // ASCII bytes inside a larger array – Should classify only the given range
+  @Test
+  void classify_ByteRange_ShouldMatchString() {
+    byte[] bytes = "xx811.835.170-09\n".getBytes(StandardCharsets.US_ASCII);
+    assertEquals(AFDValidator.CPF, validator.classify(bytes, 2, 14));
+    assertEquals(-1, validator.classify(bytes, 0, 16));
+    assertEquals("CPF válido", validator.validateDocument(bytes, 2, 14));
+  }
+
+  // Direct buffer with a rejected byte – Should report it without moving the position
+  @Test
+  void validateDocument_DirectBuffer_ShouldMatchString() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+    buffer.put("33.331.427-X".getBytes(StandardCharsets.US_ASCII)).flip();
+    assertEquals("RG válido", validator.validateDocument(buffer));
+
+    buffer.clear();
+    buffer.put("--123456789-A1".getBytes(StandardCharsets.US_ASCII)).flip().position(2);
+    assertEquals(-11, validator.classify(buffer));
+    assertEquals(
+        "Formato inválido: caractere 'a' não permitido", validator.validateDocument(buffer));
+    assertEquals(2, buffer.position());
+  }
 }
@@ -0,0 +1,202 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the CheckDigitValidator class. */
+class CheckDigitValidatorTest {
+
+  private final CheckDigitValidator validator = new CheckDigitValidator();
+
+  // ====================== CPF Tests ======================
+
+  // Case 1: CPF with full punctuation (e.g.: 811.835.170-09) – Should be valid
+  @Test
+  void validateCPFCheckDigits_FullPunctuation_ShouldBeValid() {
+    assertNull(validator.validateCPFCheckDigits("811.835.170-09"));
+  }
+
+  // Case 2: CPF with incomplete punctuation (e.g.: 811.835170-09) – Should be valid
+  @Test
+  void validateCPFCheckDigits_IncompletePunctuation_ShouldBeValid() {
+    assertNull(validator.validateCPFCheckDigits("811.835170-09"));
+  }
+
+  // Case 3: CPF without punctuation (e.g.: 81183517009) – Should be valid
+  @Test
+  void validateCPFCheckDigits_NoPunctuation_ShouldBeValid() {
+    assertNull(validator.validateCPFCheckDigits("81183517009"));
+  }
+
+  // Case 4: CPF with all digits equal (e.g.: 111.111.111-11) – Should be invalid
+  @Test
+  void validateCPFCheckDigits_AllSameDigits_ShouldBeInvalid() {
+    assertEquals(
+        "Dígitos verificadores do CPF inválidos",
+        validator.validateCPFCheckDigits("111.111.111-11"));
+  }
+
+  // Case 5: CPF with invalid check digits (e.g.: 811.835.170-00) – Should be invalid
+  @Test
+  void validateCPFCheckDigits_InvalidDigits_ShouldBeInvalid() {
+    assertEquals(
+        "Dígitos verificadores do CPF inválidos",
+        validator.validateCPFCheckDigits("811.835.170-00"));
+  }
+
+  // ====================== RG Tests ======================
+
+  // Case 1: RG with full punctuation (e.g.: 34.998.152-8) – Should be valid
+  @Test
+  void validateRGCheckDigit_FullPunctuation_ShouldBeValid() {
+    assertNull(validator.validateRGCheckDigit("34.998.152-8"));
+  }
+
+  // Case 2: RG with incomplete punctuation (e.g.: 34.998152-8) – Should be valid
+  @Test
+  void validateRGCheckDigit_IncompletePunctuation_ShouldBeValid() {
+    assertNull(validator.validateRGCheckDigit("34.998152-8"));
+  }
+
+  // Case 3: RG without punctuation (e.g.: 349981528) – Should be valid
+  @Test
+  void validateRGCheckDigit_NoPunctuation_ShouldBeValid() {
+    assertNull(validator.validateRGCheckDigit("349981528"));
+  }
+
+  // Case 4: RG with uppercase 'X' as check digit (e.g.: 33.331.427-X) – Should be valid
+  @Test
+  void validateRGCheckDigit_UppercaseX_ShouldBeValid() {
+    assertNull(validator.validateRGCheckDigit("33.331.427-X"));
+  }
+
+  // Case 5: RG with lowercase 'x' as check digit (e.g.: 33.331.427-x) – Should be valid
+  @Test
+  void validateRGCheckDigit_LowercaseX_ShouldBeValid() {
+    assertNull(validator.validateRGCheckDigit("33.331.427-x"));
+  }
+
+  // Case 6: RG with all digits equal (e.g.: 11.111.111-1) – Should be invalid
+  @Test
+  void validateRGCheckDigit_AllSameDigits_ShouldBeInvalid() {
+    assertEquals(
+        "Dígito verificador do RG inválido", validator.validateRGCheckDigit("11.111.111-1"));
+  }
+
+  // Case 7: RG with invalid check digit (e.g.: 34.998.152-9) – Should be invalid
+  @Test
+  void validateRGCheckDigit_InvalidDigit_ShouldBeInvalid() {
+    assertEquals(
+        "Dígito verificador do RG inválido", validator.validateRGCheckDigit("34.998.152-9"));
+  }
+
+  // ====================== CNPJ Tests ======================
+
+  // Valid numeric and alphanumeric CNPJs – Should be accepted
+  @Test
+  void testValidCNPJ() {
+    assertNull(validator.validateCNPJCheckDigits("11.222.333/0001-81"));
+    assertNull(validator.validateCNPJCheckDigits("11444777000161"));
+    assertNull(validator.validateCNPJCheckDigits("12.ABC.345/01DE-35"));
+  }
+
+  // Wrong check digits – Should be rejected
+  @Test
+  void testInvalidCNPJCheckDigits() {
+    assertEquals(
+        "Dígitos verificadores do CNPJ inválidos",
+        validator.validateCNPJCheckDigits("11.222.333/0001-82"));
+    assertEquals(
+        "Dígitos verificadores do CNPJ inválidos",
+        validator.validateCNPJCheckDigits("12.ABC.345/01DE-53"));
+  }
+
+  // Repeated characters with matching check digits (00000000000000) – Should be rejected
+  @Test
+  void testRepeatedCNPJ() {
+    assertEquals(
+        "Dígitos verificadores do CNPJ inválidos",
+        validator.validateCNPJCheckDigits("00.000.000/0000-00"));
+  }
+
+  // Packed numeric CNPJ – Should match the text validation
+  @Test
+  void cnpjCheckDigitsValid_Number_ShouldMatchText() {
+    assertTrue(CheckDigitValidator.cnpjCheckDigitsValid(11_222_333_000_181L));
+    assertTrue(CheckDigitValidator.cnpjCheckDigitsValid(11_444_777_000_161L));
+    assertFalse(CheckDigitValidator.cnpjCheckDigitsValid(11_444_777_000_162L));
+  }
+
+  // ====================== Numeric Column Tests ======================
+
+  // CPF as a number (e.g.: 81183517009, 00000000191 with implied leading zeros) – Should be valid
+  @Test
+  void validateCpf_Number_ShouldBeValid() {
+    assertTrue(validator.validateCpf(81183517009L));
+    assertTrue(validator.validateCpf(191L));
+  }
+
+  // CPF numbers with wrong check digits, repeated digits or out of range – Should be invalid
+  @Test
+  void validateCpf_InvalidNumbers_ShouldBeInvalid() {
+    assertFalse(validator.validateCpf(81183517000L));
+    assertFalse(validator.validateCpf(11111111111L));
+    assertFalse(validator.validateCpf(0L));
+    assertFalse(validator.validateCpf(-81183517009L));
+    assertFalse(validator.validateCpf(181183517009L));
+  }
+
+  // RG as a base number and check digit (e.g.: 34998152 / 8, 33331427 / x) – Should be valid
+  @Test
+  void validateRg_Number_ShouldBeValid() {
+    assertTrue(validator.validateRg(34998152L, '8'));
+    assertTrue(validator.validateRg(33331427L, 'x'));
+    assertFalse(validator.validateRg(34998152L, '9'));
+    assertFalse(validator.validateRg(34998152L, '?'));
+  }
+
+  // Columns of numbers – Should set one bit per valid entry, in order
+  @Test
+  void validateColumns_ShouldSetValidBits() {
+    long[] cpfs = {81183517009L, 81183517000L, 191L};
+    BitSet expected = new BitSet();
+    expected.set(0);
+    expected.set(2);
+
+    assertEquals(expected, validator.validateCpfs(cpfs));
+    assertEquals(expected, validator.validateCpfs(LongStream.of(cpfs)));
+    assertEquals(
+        expected,
+        validator.validateRgs(
+            new long[] {34998152L, 34998152L, 33331427L}, new char[] {'8', '1', 'X'}));
+  }
+
+  // ====================== Byte Input Tests ======================
+
+  // ASCII bytes inside a larger array – Should validate only the given range
+  @Test
+  void validateCPFCheckDigits_ByteRange_ShouldMatchString() {
+    byte[] bytes = "9811.835.170-09".getBytes(StandardCharsets.US_ASCII);
+    assertNull(validator.validateCPFCheckDigits(bytes, 1, 14));
+    assertEquals(
+        validator.validateCPFCheckDigits("9811.835.170-09"),
+        validator.validateCPFCheckDigits(bytes, 0, bytes.length));
+  }
+
+  // Direct buffers – Should match the String validation
+  @Test
+  void validateRGCheckDigit_DirectBuffer_ShouldMatchString() {
+    for (String rg : new String[] {"33.331.427-X", "34.998.152-8", "34.998.152-1", "X1"}) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(rg.length());
+      buffer.put(rg.getBytes(StandardCharsets.US_ASCII)).flip();
+      assertEquals(validator.validateRGCheckDigit(rg), validator.validateRGCheckDigit(buffer));
+      assertEquals(
+          validator.validateCPFCheckDigits(rg), validator.validateCPFCheckDigits(buffer));
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the ColumnarCheckDigitValidator class. */
+class ColumnarCheckDigitValidatorTest {
+
+  private final CheckDigitValidator checkDigitValidator = new CheckDigitValidator();
+
+  // Vector API module – Should be available to the tests, so the vectorized path is exercised
+  @Test
+  void isVectorized_ShouldBeTrueWhenModuleIsAdded() {
+    assertTrue(ColumnarCheckDigitValidator.isVectorized());
+  }
+
+  // Random and valid CPFs, with a count that is not a multiple of the lane count – Should match
+  // the scalar loop and the numeric validation
+  @Test
+  void validateCpfs_ShouldMatchScalarAndNumericValidation() {
+    SplittableRandom random = new SplittableRandom(11L);
+    int count = 100_003;
+    byte[][] digits = new byte[ColumnarCheckDigitValidator.CPF_COLUMNS][count];
+    long[] cpfs = new long[count];
+
+    for (int i = 0; i < count; i++) {
+      long cpf;
+      switch (i % 4) {
+        case 0:
+          cpf = withCpfCheckDigits(random.nextLong(1_000_000_000L));
+          break;
+        case 1:
+          cpf = random.nextInt(10) * 11_111_111_111L;
+          break;
+        default:
+          cpf = random.nextLong(100_000_000_000L);
+      }
+      cpfs[i] = cpf;
+      for (int position = ColumnarCheckDigitValidator.CPF_COLUMNS - 1; position >= 0; position--) {
+        digits[position][i] = (byte) (cpf % 10);
+        cpf /= 10;
+      }
+    }
+
+    BitSet valid = ColumnarCheckDigitValidator.validateCpfs(digits, count);
+
+    assertEquals(checkDigitValidator.validateCpfs(cpfs), valid);
+    assertEquals(
+        valid, ColumnarCheckDigitValidator.validateCpfsScalar(digits, 0, count, new BitSet()));
+    assertTrue(valid.cardinality() >= count / 4 - 10);
+  }
+
+  // Random RGs, including 'X' check digits – Should match the scalar loop and the numeric
+  // validation
+  @Test
+  void validateRgs_ShouldMatchScalarAndNumericValidation() {
+    SplittableRandom random = new SplittableRandom(12L);
+    int count = 50_001;
+    byte[][] digits = new byte[ColumnarCheckDigitValidator.RG_COLUMNS][count];
+    long[] bases = new long[count];
+    char[] checkDigits = new char[count];
+
+    for (int i = 0; i < count; i++) {
+      long base = random.nextLong(100_000_000L);
+      int checkDigit = random.nextInt(11);
+      bases[i] = base;
+      checkDigits[i] = checkDigit == CheckDigitValidator.RG_X ? 'X' : (char) ('0' + checkDigit);
+      digits[ColumnarCheckDigitValidator.RG_COLUMNS - 1][i] = (byte) checkDigit;
+      for (int position = ColumnarCheckDigitValidator.RG_COLUMNS - 2; position >= 0; position--) {
+        digits[position][i] = (byte) (base % 10);
+        base /= 10;
+      }
+    }
+
+    BitSet valid = ColumnarCheckDigitValidator.validateRgs(digits, count);
+
+    assertEquals(checkDigitValidator.validateRgs(bases, checkDigits), valid);
+    assertEquals(
+        valid, ColumnarCheckDigitValidator.validateRgsScalar(digits, 0, count, new BitSet()));
+    assertFalse(valid.isEmpty());
+  }
+
+  // Wrong number of columns – Should be rejected
+  @Test
+  void validateCpfs_WrongColumnCount_ShouldBeRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ColumnarCheckDigitValidator.validateCpfs(new byte[9][4], 4));
+  }
+
+  private static long withCpfCheckDigits(long base) {
+    int firstSum = 0;
+    int secondSum = 0;
+    long remaining = base;
+    for (int weight = 2; weight <= 10; weight++) {
+      int digit = (int) (remaining % 10);
+      remaining /= 10;
+      firstSum += digit * weight;
+      secondSum += digit * (weight + 1);
+    }
+    int first = CheckDigitValidator.cpfCheckDigit(firstSum);
+    int second = CheckDigitValidator.cpfCheckDigit(secondSum + first * 2);
+    return (base * 10 + first) * 10 + second;
+  }
+}
@@ -0,0 +1,73 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the CpfBitmap class. */
+class CpfBitmapTest {
+
+  @TempDir Path directory;
+
+  // Listed CPFs – Should be found by base, whatever their check digits
+  @Test
+  void contains_WrittenCpfs_ShouldBeFoundByBase() throws IOException {
+    Path file = directory.resolve("cpfs.bin");
+    long entries = CpfBitmap.write(file, LongStream.of(81183517009L, 81183517000L, 199L, 0L));
+
+    CpfBitmap bitmap = CpfBitmap.map(file);
+    assertEquals(3, entries);
+    assertEquals(3, bitmap.size());
+    assertTrue(bitmap.contains(81183517009L));
+    assertTrue(bitmap.containsBase(811835170));
+    assertTrue(bitmap.contains(100L));
+    assertTrue(bitmap.contains(5L));
+    assertFalse(bitmap.contains(81183517109L));
+    assertFalse(bitmap.contains(99999999999L));
+    assertFalse(bitmap.contains(-1L));
+  }
+
+  // Text list with punctuation and bad lines – Should keep only lines with eleven digits
+  @Test
+  void write_TextList_ShouldSkipInvalidLines() throws IOException {
+    Path file = directory.resolve("cpfs.bin");
+    String list = "811.835.170-09\n\n12345\n111444777-35\n1114447773500\n";
+    assertEquals(2, CpfBitmap.write(file, new BufferedReader(new StringReader(list))));
+
+    CpfBitmap bitmap = CpfBitmap.map(file);
+    assertTrue(bitmap.contains(81183517009L));
+    assertTrue(bitmap.contains(11144477735L));
+  }
+
+  // Replacing a mapped file – Should leave the old mapping readable and map the new content
+  @Test
+  void write_OverMappedFile_ShouldReplaceAtomically() throws IOException {
+    Path file = directory.resolve("cpfs.bin");
+    CpfBitmap.write(file, LongStream.of(81183517009L));
+    CpfBitmap old = CpfBitmap.map(file);
+
+    CpfBitmap.write(file, LongStream.of(11144477735L));
+    CpfBitmap replaced = CpfBitmap.map(file);
+
+    assertTrue(old.contains(81183517009L));
+    assertFalse(replaced.contains(81183517009L));
+    assertTrue(replaced.contains(11144477735L));
+    try (var files = Files.list(directory)) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  // File that is not a bitmap – Should be rejected
+  @Test
+  void map_InvalidFile_ShouldThrow() throws IOException {
+    Path file = Files.writeString(directory.resolve("cpfs.txt"), "811.835.170-09\n");
+    assertThrows(IOException.class, () -> CpfBitmap.map(file));
+  }
+}
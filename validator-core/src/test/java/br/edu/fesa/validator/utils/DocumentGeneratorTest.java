@@ -0,0 +1,132 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import br.edu.fesa.validator.utils.DocumentGenerator.Kind;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the DocumentGenerator class. */
+class DocumentGeneratorTest {
+
+  private final DocumentScanner scanner = new DocumentScanner(new AFDValidator());
+
+  // ====================== Kind Tests ======================
+
+  // Each kind on its own – Should produce documents with the verdict of that kind
+  @Test
+  void next_EachKind_ShouldMatchScannerVerdict() {
+    for (Kind kind : Kind.values()) {
+      DocumentGenerator generator = new DocumentGenerator(3L, Map.of(kind, 1));
+      for (int n = 0; n < 20_000; n++) {
+        String document = generator.next();
+        assertEquals(kind, generator.kind());
+        assertTrue(document.length() <= DocumentGenerator.MAX_LENGTH, document);
+
+        int verdict = scanner.scan(document);
+        String message = kind + ": " + document;
+        assertEquals(
+            kind.isValid(), DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED), message);
+        switch (kind) {
+          case VALID_CPF:
+            assertEquals("CPF", DocumentVerdict.type(verdict), message);
+            break;
+          case VALID_RG:
+            assertEquals("RG", DocumentVerdict.type(verdict), message);
+            break;
+          case VALID_CNPJ:
+          case VALID_ALPHANUMERIC_CNPJ:
+            assertEquals("CNPJ", DocumentVerdict.type(verdict), message);
+            boolean letters = document.chars().anyMatch(Character::isLetter);
+            assertEquals(kind == Kind.VALID_ALPHANUMERIC_CNPJ, letters, message);
+            break;
+          case WRONG_CHECK_DIGIT:
+            assertTrue(DocumentVerdict.has(verdict, DocumentVerdict.VALID_FORMAT), message);
+            assertFalse(DocumentVerdict.has(verdict, DocumentVerdict.CHECK_DIGITS_VALID), message);
+            break;
+          case REPEATED_DIGITS:
+            assertTrue(DocumentVerdict.has(verdict, DocumentVerdict.VALID_FORMAT), message);
+            assertTrue(DocumentVerdict.has(verdict, DocumentVerdict.REPEATED_DIGITS), message);
+            break;
+          default:
+            assertFalse(DocumentVerdict.has(verdict, DocumentVerdict.VALID_FORMAT), message);
+        }
+      }
+    }
+  }
+
+  // Valid CPFs and RGs – Should cover every pattern listed in the README
+  @Test
+  void next_ValidDocuments_ShouldCoverReadmePatterns() {
+    DocumentGenerator generator =
+        new DocumentGenerator(5L, Map.of(Kind.VALID_CPF, 1, Kind.VALID_RG, 1));
+    Set<String> shapes = new HashSet<>();
+    for (int n = 0; n < 10_000; n++) {
+      shapes.add(generator.next().replaceAll("[0-9Xx]", "1"));
+    }
+
+    assertTrue(
+        shapes.containsAll(
+            List.of(
+                "111111111", "11.111.111-1", "11111.111-1", "11.111111-1", "11111111-1",
+                "11111111111", "111.111.111-11", "111111.111-11", "111.111111-11",
+                "111111111-11")),
+        shapes.toString());
+  }
+
+  // ====================== Mix Tests ======================
+
+  // Default mix – Should generate each kind close to its weight
+  @Test
+  void next_DefaultMix_ShouldFollowWeights() {
+    DocumentGenerator generator = new DocumentGenerator(7L);
+    Map<Kind, Integer> counts = new EnumMap<>(Kind.class);
+    int total = 200_000;
+    for (int n = 0; n < total; n++) {
+      generator.next();
+      counts.merge(generator.kind(), 1, Integer::sum);
+    }
+
+    for (Kind kind : Kind.values()) {
+      double share = counts.getOrDefault(kind, 0) * 100.0 / total;
+      assertEquals(kind.getDefaultWeight(), share, 0.5, kind.toString());
+    }
+  }
+
+  // Negative or all-zero weights – Should be rejected
+  @Test
+  void constructor_InvalidWeights_ShouldThrow() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new DocumentGenerator(1L, Map.of(Kind.VALID_RG, -1)));
+    assertThrows(
+        IllegalArgumentException.class, () -> new DocumentGenerator(1L, Map.of(Kind.VALID_RG, 0)));
+  }
+
+  // ====================== Output Tests ======================
+
+  // Same seed through the array, stream and writer outputs – Should produce the same documents
+  @Test
+  void outputs_SameSeed_ShouldMatch() throws IOException {
+    String[] documents = new DocumentGenerator(9L).documents(50_000);
+
+    List<String> streamed =
+        new DocumentGenerator(9L).stream().limit(50_000).collect(Collectors.toList());
+    assertEquals(List.of(documents), streamed);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new DocumentGenerator(9L).write(out, 50_000);
+    assertEquals(String.join("\n", documents) + "\n", out.toString(StandardCharsets.US_ASCII));
+
+    String[] split = new DocumentGenerator(9L).split().documents(50_000);
+    assertNotEquals(List.of(documents), List.of(split));
+  }
+}
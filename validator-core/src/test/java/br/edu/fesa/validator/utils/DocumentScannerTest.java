@@ -0,0 +1,141 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the DocumentScanner class. */
+class DocumentScannerTest {
+
+  private final AFDValidator afdValidator = new AFDValidator();
+  private final CheckDigitValidator checkDigitValidator = new CheckDigitValidator();
+  private final DocumentScanner scanner = new DocumentScanner(afdValidator);
+
+  // ====================== Verdict Tests ======================
+
+  // Valid CPF (e.g.: 811.835.170-09) – Should be validated as a CPF
+  @Test
+  void scan_ValidCPF_ShouldBeValidated() {
+    int verdict = scanner.scan("811.835.170-09");
+    assertTrue((verdict & DocumentVerdict.VALIDATED) != 0);
+    assertTrue((verdict & DocumentVerdict.TYPE_CPF) != 0);
+  }
+
+  // Valid RG with 'X' check digit (e.g.: 33.331.427-x) – Should be validated as an RG
+  @Test
+  void scan_ValidRGWithX_ShouldBeValidated() {
+    int verdict = scanner.scan("33.331.427-x");
+    assertTrue((verdict & DocumentVerdict.VALIDATED) != 0);
+    assertTrue((verdict & DocumentVerdict.TYPE_RG) != 0);
+  }
+
+  // Repeated digits around an invalid character (e.g.: 111a111) – Should report both failures
+  @Test
+  void scan_RepeatedDigitsWithInvalidCharacter_ShouldReportRepeatedDigits() {
+    assertEquals(DocumentVerdict.REPEATED_DIGITS, scanner.scan("111a111"));
+  }
+
+  // ====================== Equivalence Test ======================
+
+  // Random inputs – Should match the staged regex, automaton and check digit validation
+  @Test
+  void scan_RandomInputs_ShouldMatchStagedValidation() {
+    SplittableRandom random = new SplittableRandom(7L);
+    String alphabet = "0123456789.-/xXaB";
+
+    for (int n = 0; n < 200_000; n++) {
+      StringBuilder document = new StringBuilder();
+      int length = random.nextInt(16);
+      for (int i = 0; i < length; i++) {
+        // Bias towards digits so that well-formed documents are frequent
+        document.append(
+            random.nextInt(4) == 0
+                ? alphabet.charAt(random.nextInt(alphabet.length()))
+                : (char) ('0' + random.nextInt(10)));
+      }
+
+      String input = document.toString();
+      assertEquals(stagedVerdict(input), scanner.scan(input), input);
+    }
+  }
+
+  // Same documents as text, bytes and buffers – Should read every holder the same way
+  @Test
+  void scan_Holders_ShouldAgree() {
+    String[] documents = {
+      "811.835.170-09", "33.331.427-x", "12.ABC.345/01DE-35", "111a111", "34998152-9", "é"
+    };
+    for (String document : documents) {
+      byte[] bytes = (" " + document + " ").getBytes(StandardCharsets.ISO_8859_1);
+      int length = bytes.length - 2;
+      int verdict = scanner.scan(new StringBuilder(document));
+
+      assertEquals(verdict, scanner.scan(document), document);
+      assertEquals(verdict, scanner.scan(bytes, 1, length), document);
+      assertEquals(verdict, scanner.scan(ByteBuffer.wrap(bytes), 1, 1 + length), document);
+    }
+  }
+
+  // Keys of well-formed inputs – Should be shared across punctuation and carry the same verdict
+  @Test
+  void key_RandomInputs_ShouldDetermineVerdict() {
+    assertEquals(scanner.key("111.444.777-35", 0, 14), scanner.key("11144477735", 0, 11));
+    assertEquals(scanner.key("349981528", 0, 9), scanner.key("34998152-8", 0, 10));
+    assertNotEquals(scanner.key("34998152-0", 0, 10), scanner.key("34998152-X", 0, 10));
+    assertEquals(-1, scanner.key("12a34", 0, 5));
+    assertEquals(scanner.key("11.222.333/0001-81", 0, 18), scanner.key("11222333000181", 0, 14));
+    assertEquals(
+        scanner.scan("11222333000181"),
+        scanner.verdictForKey(scanner.key("11222333000181", 0, 14)));
+    assertEquals(-1, scanner.key("12ABC34501DE35", 0, 14));
+
+    SplittableRandom random = new SplittableRandom(11L);
+    for (int n = 0; n < 200_000; n++) {
+      StringBuilder document = new StringBuilder();
+      int length = 8 + random.nextInt(7);
+      for (int i = 0; i < length; i++) {
+        int roll = random.nextInt(20);
+        document.append(
+            roll == 0 ? '.' : roll == 1 ? '-' : roll == 2 ? 'X' : (char) ('0' + roll % 10));
+      }
+
+      String input = document.toString();
+      long key = scanner.key(input, 0, input.length());
+      if (key >= 0) {
+        assertEquals(scanner.scan(input), scanner.verdictForKey(key), input);
+      }
+    }
+  }
+
+  private int stagedVerdict(String document) {
+    boolean repeated = document.replaceAll("[^0-9]", "").matches("^(\\d)\\1+$");
+    String format = afdValidator.validateDocument(document);
+
+    int verdict = repeated ? DocumentVerdict.REPEATED_DIGITS : 0;
+    String error = "";
+    if (format.startsWith("CPF")) {
+      verdict |= DocumentVerdict.VALID_FORMAT | DocumentVerdict.TYPE_CPF;
+      error = checkDigitValidator.validateCPFCheckDigits(document);
+    } else if (format.startsWith("RG")) {
+      verdict |= DocumentVerdict.VALID_FORMAT | DocumentVerdict.TYPE_RG;
+      error = checkDigitValidator.validateRGCheckDigit(document);
+    } else if (format.startsWith("CNPJ")) {
+      // Letters are not digits, so an alphanumeric CNPJ never has repeated digits
+      repeated &= document.chars().noneMatch(Character::isLetter);
+      verdict = repeated ? DocumentVerdict.REPEATED_DIGITS : 0;
+      verdict |= DocumentVerdict.VALID_FORMAT | DocumentVerdict.TYPE_CNPJ;
+      error = checkDigitValidator.validateCNPJCheckDigits(document);
+    }
+    if (error == null) {
+      verdict |= DocumentVerdict.CHECK_DIGITS_VALID;
+      if (!repeated) {
+        verdict |= DocumentVerdict.VALIDATED;
+      }
+    }
+    return verdict;
+  }
+}
@@ -0,0 +1,89 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the DocumentValidator class. */
+class DocumentValidatorTest {
+
+  // ====================== Single Document Tests ======================
+
+  // Valid CPF as text, bytes and buffer – Should get the same validated verdict
+  @Test
+  void verdict_EveryInputKind_ShouldAgree() {
+    String cpf = "811.835.170-09";
+    byte[] bytes = ("  " + cpf).getBytes(StandardCharsets.US_ASCII);
+
+    int verdict = DocumentValidator.verdict(cpf);
+
+    assertTrue(DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED));
+    assertEquals("CPF", DocumentVerdict.type(verdict));
+    assertEquals(verdict, DocumentValidator.verdict("x" + cpf + "x", 1, cpf.length() + 1));
+    assertEquals(verdict, DocumentValidator.verdict(bytes, 2, cpf.length()));
+    assertEquals(verdict, DocumentValidator.verdict(ByteBuffer.wrap(bytes).position(2)));
+    assertTrue(DocumentValidator.isValid(cpf));
+    assertFalse(DocumentValidator.isValid("811.835.170-00"));
+    assertEquals("", DocumentVerdict.reason(verdict));
+    assertEquals(
+        "dígitos verificadores incorretos",
+        DocumentVerdict.reason(DocumentValidator.verdict("811.835.170-00")));
+  }
+
+  // ====================== Batch Tests ======================
+
+  // Newline-separated text with blank lines – Should report one verdict per non-blank line
+  @Test
+  void verdicts_Text_ShouldSkipBlankLines() {
+    byte[] verdicts = DocumentValidator.verdicts(" 811.835.170-09 \n\n  \n12a34\r\n33.331.427-X");
+
+    assertEquals(3, verdicts.length);
+    assertTrue(DocumentVerdict.has(verdicts[0], DocumentVerdict.VALIDATED));
+    assertFalse(DocumentVerdict.has(verdicts[1], DocumentVerdict.VALIDATED));
+    assertEquals("RG", DocumentVerdict.type(verdicts[2]));
+  }
+
+  // Array of documents into a short verdict array – Should be rejected
+  @Test
+  void verdicts_ShortResultArray_ShouldThrow() {
+    String[] documents = {"811.835.170-09", "12a34"};
+
+    assertThrows(
+        IllegalArgumentException.class, () -> DocumentValidator.verdicts(documents, new byte[1]));
+  }
+
+  // Same corpus from several threads – Should match the sequential verdicts
+  @Test
+  void verdicts_ConcurrentCallers_ShouldMatchSequential() throws Exception {
+    String[] documents = new DocumentGenerator(42L).documents(20_000);
+    byte[] expected = new byte[documents.length];
+    DocumentValidator.verdicts(documents, expected);
+
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<byte[]>> results = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        results.add(
+            pool.submit(
+                () -> {
+                  byte[] verdicts = new byte[documents.length];
+                  DocumentValidator.verdicts(documents, verdicts);
+                  return verdicts;
+                }));
+      }
+      for (Future<byte[]> result : results) {
+        assertArrayEquals(expected, result.get());
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+}
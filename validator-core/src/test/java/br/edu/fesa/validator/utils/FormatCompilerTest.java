@@ -0,0 +1,163 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the FormatCompiler class. */
+class FormatCompilerTest {
+
+  // Hand-wired automaton from the README transition table (Q0..Q30), indexed by state and by
+  // digit, 'x', '.' and '-'; -1 rejects
+  private static final int[][] HAND_WIRED = {
+    {1, -1, -1, -1}, {2, -1, -1, -1}, {3, -1, 12, -1}, {4, -1, 22, -1}, {5, -1, -1, -1},
+    {6, -1, 20, -1}, {7, -1, 29, -1}, {8, -1, -1, -1}, {9, 19, -1, 21}, {10, -1, -1, 30},
+    {11, -1, -1, -1}, {-1, -1, -1, -1}, {13, -1, -1, -1}, {14, -1, -1, -1}, {15, -1, -1, -1},
+    {16, -1, 20, -1}, {17, -1, -1, -1}, {18, -1, -1, -1}, {19, 19, -1, 21}, {-1, -1, -1, -1},
+    {16, -1, -1, -1}, {19, 19, -1, -1}, {23, -1, -1, -1}, {24, -1, -1, -1}, {25, -1, -1, -1},
+    {26, -1, 29, -1}, {27, -1, -1, -1}, {28, -1, -1, -1}, {10, -1, -1, 30}, {26, -1, -1, -1},
+    {10, -1, -1, -1}
+  };
+
+  private static int handWiredNext(int state, char c) {
+    int charClass =
+        c >= '0' && c <= '9' ? 0 : c == 'x' || c == 'X' ? 1 : c == '.' ? 2 : c == '-' ? 3 : -1;
+    return charClass < 0 ? -1 : HAND_WIRED[state][charClass];
+  }
+
+  private static int handWiredVerdict(int state) {
+    return state == 11 ? AFDValidator.CPF : state == 9 || state == 19 ? AFDValidator.RG : 0;
+  }
+
+  /** Walks the product of two automata over every ASCII character, collecting accepted pairs. */
+  private static void assertSameLanguage(FormatAutomaton automaton) {
+    ArrayDeque<int[]> queue = new ArrayDeque<>();
+    Set<Long> seen = new HashSet<>();
+    queue.add(new int[] {0, automaton.start()});
+
+    while (!queue.isEmpty()) {
+      int[] pair = queue.poll();
+      if (!seen.add((long) pair[0] << 32 | pair[1])) {
+        continue;
+      }
+      assertEquals(handWiredVerdict(pair[0]), automaton.verdict(pair[1]));
+
+      for (char c = 0; c < 128; c++) {
+        int expected = handWiredNext(pair[0], c);
+        int actual = automaton.next(pair[1], c);
+        assertEquals(expected < 0, actual < 0, "character " + (int) c);
+        if (expected >= 0) {
+          queue.add(new int[] {expected, actual});
+        }
+      }
+    }
+  }
+
+  // ====================== Equivalence Tests ======================
+
+  // Default CPF and RG patterns – Should accept exactly the hand-wired automaton language
+  @Test
+  void compile_DefaultFormats_ShouldMatchHandWiredAutomaton() {
+    FormatAutomaton automaton =
+        new FormatCompiler()
+            .addAll(AFDValidator.CPF_FORMATS, AFDValidator.CPF)
+            .addAll(AFDValidator.RG_FORMATS, AFDValidator.RG)
+            .compile();
+
+    assertSameLanguage(automaton);
+    assertEquals(4, automaton.classCount());
+    // The hand-wired automaton was already minimal
+    assertEquals(HAND_WIRED.length, automaton.stateCount());
+  }
+
+  // Every punctuation combination spelled out – Should minimize to the same automaton
+  @Test
+  void compile_ExpandedFormats_ShouldMinimizeToSameAutomaton() {
+    FormatCompiler compiler = new FormatCompiler();
+    for (String first : new String[] {"", "."}) {
+      for (String second : new String[] {"", "."}) {
+        for (String third : new String[] {"", "-"}) {
+          compiler.add("###" + first + "###" + second + "###" + third + "##", AFDValidator.CPF);
+          compiler.add("##" + first + "###" + second + "###" + third + "#", AFDValidator.RG);
+          compiler.add("##" + first + "###" + second + "###" + third + "[Xx]", AFDValidator.RG);
+        }
+      }
+    }
+
+    FormatAutomaton automaton = compiler.compile();
+
+    assertSameLanguage(automaton);
+    assertEquals(
+        new FormatCompiler()
+            .addAll(AFDValidator.CPF_FORMATS, AFDValidator.CPF)
+            .addAll(AFDValidator.RG_FORMATS, AFDValidator.RG)
+            .compile()
+            .stateCount(),
+        automaton.stateCount());
+  }
+
+  // Formats listed in the README – Should all be accepted with their type
+  @Test
+  void compile_ReadmeFormats_ShouldBeAcceptedByValidator() {
+    AFDValidator validator = new AFDValidator();
+    for (String rg : List.of("111111111", "11.111.111-1", "11111.111-1", "11.111111-1", "11111111-1")) {
+      assertEquals(AFDValidator.RG, validator.classify(rg), rg);
+    }
+    for (String cpf :
+        List.of("11111111111", "111.111.111-11", "111111.111-11", "111.111111-11", "111111111-11")) {
+      assertEquals(AFDValidator.CPF, validator.classify(cpf), cpf);
+    }
+  }
+
+  // ====================== Pattern Syntax Tests ======================
+
+  // Character sets, ranges and escapes – Should accept exactly the listed characters
+  @Test
+  void compile_SetsAndEscapes_ShouldAcceptListedCharacters() {
+    AFDValidator validator =
+        new AFDValidator(new FormatCompiler().add("[A-C]\\#\\?[/-]", 1).compile());
+
+    assertEquals(1, validator.classify("B#?/"));
+    assertEquals(1, validator.classify("C#?-"));
+    assertEquals(-1, validator.classify("D#?-"));
+    assertEquals(-3, validator.classify("A#x-"));
+    assertEquals(0, validator.classify("A#?"));
+  }
+
+  // Malformed patterns – Should be rejected
+  @Test
+  void add_MalformedPattern_ShouldBeRejected() {
+    FormatCompiler compiler = new FormatCompiler();
+    assertThrows(IllegalArgumentException.class, () -> compiler.add("?#", 1));
+    assertThrows(IllegalArgumentException.class, () -> compiler.add("#??", 1));
+    assertThrows(IllegalArgumentException.class, () -> compiler.add("[0-9", 1));
+    assertThrows(IllegalArgumentException.class, () -> compiler.add("[9-0]", 1));
+    assertThrows(IllegalArgumentException.class, () -> compiler.add("#é", 1));
+    assertThrows(IllegalArgumentException.class, () -> compiler.add("", 1));
+    assertThrows(IllegalArgumentException.class, () -> compiler.add("#", 0));
+  }
+
+  // Same input matched by patterns with different verdicts – Should be rejected
+  @Test
+  void compile_AmbiguousVerdicts_ShouldBeRejected() {
+    FormatCompiler compiler = new FormatCompiler().add("##-?#", 1).add("###", 2);
+    assertThrows(IllegalArgumentException.class, compiler::compile);
+  }
+
+  // Repeated element (e.g.: [A-C]{3}-?#) – Should expand to that many elements
+  @Test
+  void compile_Repetition_ShouldRepeatPrecedingElement() {
+    AFDValidator validator = new AFDValidator(new FormatCompiler().add("[A-C]{3}-?#", 1).compile());
+
+    assertEquals(1, validator.classify("ABC-1"));
+    assertEquals(1, validator.classify("CCA1"));
+    assertEquals(0, validator.classify("AB"));
+    assertEquals(-3, validator.classify("AB-1"));
+    assertThrows(IllegalArgumentException.class, () -> new FormatCompiler().add("#{0}", 1));
+    assertThrows(IllegalArgumentException.class, () -> new FormatCompiler().add("{2}", 1));
+  }
+}
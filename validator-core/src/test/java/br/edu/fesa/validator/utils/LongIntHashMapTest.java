@@ -0,0 +1,36 @@
+package br.edu.fesa.validator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the LongIntHashMap class. */
+class LongIntHashMapTest {
+
+  // Random keys beyond the initial capacity – Should behave like a HashMap
+  @Test
+  void putAndGet_ShouldMatchHashMap() {
+    LongIntHashMap map = new LongIntHashMap(4);
+    Map<Long, Integer> expected = new HashMap<>();
+    SplittableRandom random = new SplittableRandom(5L);
+
+    for (int i = 0; i < 100_000; i++) {
+      long key = random.nextLong(100_000_000_000L) << 2;
+      map.put(key, i);
+      expected.put(key, i);
+    }
+
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.get(key, -1)));
+    assertEquals(-1, map.get(1L, -1));
+  }
+
+  // Negative key – Should be rejected, since it marks free slots
+  @Test
+  void put_NegativeKey_ShouldBeRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(4).put(-1L, 0));
+  }
+}
@@ -0,0 +1,59 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks the format automaton over a mixed corpus. */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AFDValidatorBenchmark {
+
+  private static final int CORPUS_SIZE = 4096;
+
+  private final AFDValidator validator = new AFDValidator();
+  private String[] documents;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    documents = new DocumentGenerator(42L).documents(CORPUS_SIZE);
+  }
+
+  private String nextDocument() {
+    return documents[next++ & (CORPUS_SIZE - 1)];
+  }
+
+  @Benchmark
+  public String validateDocument() {
+    return validator.validateDocument(nextDocument());
+  }
+
+  @Benchmark
+  public int classify() {
+    return validator.classify(nextDocument());
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void validateDocumentCorpus(Blackhole blackhole) {
+    for (String document : documents) {
+      blackhole.consume(validator.validateDocument(document));
+    }
+  }
+}
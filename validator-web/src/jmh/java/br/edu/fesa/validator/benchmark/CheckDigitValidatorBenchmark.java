@@ -0,0 +1,75 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.CheckDigitValidator;
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks the CPF and RG check digit calculations over well-formed documents. */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckDigitValidatorBenchmark {
+
+  private static final int CORPUS_SIZE = 4096;
+
+  private final CheckDigitValidator validator = new CheckDigitValidator();
+  private String[] cpfs;
+  private String[] rgs;
+  private long[] cpfNumbers;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    // Check digit validation only runs after the automaton accepted the format
+    AFDValidator afdValidator = new AFDValidator();
+    String[] corpus = new DocumentGenerator(42L).documents(CORPUS_SIZE * 8);
+    cpfs = pick(corpus, afdValidator, AFDValidator.CPF);
+    rgs = pick(corpus, afdValidator, AFDValidator.RG);
+    cpfNumbers =
+        Arrays.stream(cpfs).mapToLong(cpf -> Long.parseLong(cpf.replaceAll("[^0-9]", ""))).toArray();
+  }
+
+  private static String[] pick(String[] corpus, AFDValidator afdValidator, int verdict) {
+    return Arrays.stream(corpus)
+        .filter(document -> afdValidator.classify(document) == verdict)
+        .limit(CORPUS_SIZE)
+        .toArray(String[]::new);
+  }
+
+  @Benchmark
+  public String validateCPFCheckDigits() {
+    return validator.validateCPFCheckDigits(cpfs[next++ & (CORPUS_SIZE - 1)]);
+  }
+
+  @Benchmark
+  public String validateRGCheckDigit() {
+    return validator.validateRGCheckDigit(rgs[next++ & (CORPUS_SIZE - 1)]);
+  }
+
+  @Benchmark
+  public boolean validateCpfNumber() {
+    return validator.validateCpf(cpfNumbers[next++ & (CORPUS_SIZE - 1)]);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public BitSet validateCpfColumn() {
+    return validator.validateCpfs(cpfNumbers);
+  }
+}
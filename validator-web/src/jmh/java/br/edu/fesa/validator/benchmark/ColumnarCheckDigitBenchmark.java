@@ -0,0 +1,71 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.utils.ColumnarCheckDigitValidator;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares the Vector API and scalar check digit loops over columnar CPFs and RGs. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ColumnarCheckDigitBenchmark {
+
+  @Param({"4096", "1000000"})
+  private int count;
+
+  private byte[][] cpfs;
+  private byte[][] rgs;
+
+  @Setup
+  public void setUp() {
+    // Random digits: about one CPF in a hundred and one RG in eleven is valid
+    SplittableRandom random = new SplittableRandom(42L);
+    cpfs = new byte[ColumnarCheckDigitValidator.CPF_COLUMNS][count];
+    rgs = new byte[ColumnarCheckDigitValidator.RG_COLUMNS][count];
+    for (byte[] column : cpfs) {
+      for (int i = 0; i < count; i++) {
+        column[i] = (byte) random.nextInt(10);
+      }
+    }
+    for (byte[] column : rgs) {
+      for (int i = 0; i < count; i++) {
+        column[i] = (byte) random.nextInt(10);
+      }
+    }
+  }
+
+  @Benchmark
+  public BitSet validateCpfsVectorized() {
+    return ColumnarCheckDigitValidator.validateCpfs(cpfs, count);
+  }
+
+  @Benchmark
+  public BitSet validateCpfsScalar() {
+    return ColumnarCheckDigitValidator.validateCpfsScalar(cpfs, 0, count, new BitSet(count));
+  }
+
+  @Benchmark
+  public BitSet validateRgsVectorized() {
+    return ColumnarCheckDigitValidator.validateRgs(rgs, count);
+  }
+
+  @Benchmark
+  public BitSet validateRgsScalar() {
+    return ColumnarCheckDigitValidator.validateRgsScalar(rgs, 0, count, new BitSet(count));
+  }
+}
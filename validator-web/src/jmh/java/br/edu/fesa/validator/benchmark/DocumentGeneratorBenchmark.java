@@ -0,0 +1,49 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the synthetic document generator, which must outpace every validation path it feeds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentGeneratorBenchmark {
+
+  private static final int DOCUMENTS_PER_WRITE = 100_000;
+
+  private final DocumentGenerator generator = new DocumentGenerator(42L);
+  private final byte[] buffer = new byte[DocumentGenerator.MAX_LENGTH];
+  private final OutputStream discard = OutputStream.nullOutputStream();
+
+  @Benchmark
+  public int nextBytes() {
+    return generator.next(buffer, 0);
+  }
+
+  @Benchmark
+  public String nextString() {
+    return generator.next();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DOCUMENTS_PER_WRITE)
+  public void write() throws Exception {
+    generator.write(discard, DOCUMENTS_PER_WRITE);
+  }
+}
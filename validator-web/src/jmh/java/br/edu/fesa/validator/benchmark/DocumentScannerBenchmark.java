@@ -0,0 +1,104 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the single-pass scanner over each holder a document arrives in: strings from the
+ * REST API, byte arrays from bulk files and a direct buffer from TCP frames. With {@code mixed}
+ * set, every holder is scanned during setup, so the scan loop is compiled with the mixed type
+ * profile the running service gives it instead of one holder alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentScannerBenchmark {
+
+  private static final int CORPUS_SIZE = 4096;
+
+  // Scans per holder during setup, enough for the loop to reach the optimizing compiler
+  private static final int MIXED_ROUNDS = 50;
+
+  @Param({"false", "true"})
+  public boolean mixed;
+
+  private final DocumentScanner scanner = new DocumentScanner(new AFDValidator());
+  private String[] strings;
+  private byte[][] bytes;
+  private ByteBuffer buffer;
+  private int[] offsets;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    strings = new DocumentGenerator(42L).documents(CORPUS_SIZE);
+    bytes = new byte[CORPUS_SIZE][];
+    offsets = new int[CORPUS_SIZE + 1];
+    for (int i = 0; i < CORPUS_SIZE; i++) {
+      bytes[i] = strings[i].getBytes(StandardCharsets.US_ASCII);
+      offsets[i + 1] = offsets[i] + bytes[i].length;
+    }
+    buffer = ByteBuffer.allocateDirect(offsets[CORPUS_SIZE]);
+    for (byte[] document : bytes) {
+      buffer.put(document);
+    }
+    buffer.clear();
+
+    if (mixed) {
+      int sink = 0;
+      for (int round = 0; round < MIXED_ROUNDS; round++) {
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+          sink += scanString(i) + scanBytes(i) + scanBuffer(i);
+        }
+      }
+      if (sink == 0) {
+        throw new IllegalStateException("Nenhum documento validado");
+      }
+    }
+  }
+
+  private int scanString(int i) {
+    return scanner.scan(strings[i]);
+  }
+
+  private int scanBytes(int i) {
+    return scanner.scan(bytes[i], 0, bytes[i].length);
+  }
+
+  private int scanBuffer(int i) {
+    return scanner.scan(buffer, offsets[i], offsets[i + 1]);
+  }
+
+  @Benchmark
+  public int scanString() {
+    return scanString(next++ & (CORPUS_SIZE - 1));
+  }
+
+  @Benchmark
+  public int scanBytes() {
+    return scanBytes(next++ & (CORPUS_SIZE - 1));
+  }
+
+  @Benchmark
+  public int scanBuffer() {
+    return scanBuffer(next++ & (CORPUS_SIZE - 1));
+  }
+}
@@ -0,0 +1,100 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.model.BatchResultModel;
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks the full validation stack, for single documents and for batches. */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DocumentServiceBenchmark {
+
+  private static DocumentService newService() {
+    return new DocumentService(new DocumentScanner(new AFDValidator()));
+  }
+
+  /** State for single document validation over a mixed corpus. */
+  @State(Scope.Thread)
+  public static class SingleState {
+    private static final int CORPUS_SIZE = 4096;
+
+    DocumentService service;
+    String[] documents;
+    int next;
+
+    @Setup
+    public void setUp() {
+      service = newService();
+      documents = new DocumentGenerator(42L).documents(CORPUS_SIZE);
+    }
+  }
+
+  /** State for batch validation of newline-separated documents. */
+  @State(Scope.Benchmark)
+  public static class BatchState {
+    @Param({"10000", "1000000"})
+    int batchSize;
+
+    /** Batches below this size are validated sequentially; MAX_VALUE keeps every batch serial. */
+    @Param({"10000", "2147483647"})
+    int parallelThreshold;
+
+    DocumentService service;
+    String batch;
+
+    @Setup
+    public void setUp() {
+      service = new DocumentService(new DocumentScanner(new AFDValidator()), 0, parallelThreshold);
+      batch = String.join("\n", new DocumentGenerator(42L).documents(batchSize));
+    }
+
+    @TearDown
+    public void tearDown() {
+      service.shutdown();
+    }
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public DocumentResultModel validateDocument(SingleState state) {
+    return state.service.validateDocument(
+        state.documents[state.next++ & (SingleState.CORPUS_SIZE - 1)]);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public List<DocumentResultModel> validateDocuments(BatchState state) {
+    return state.service.validateDocuments(state.batch);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public byte[] verdicts(BatchState state) {
+    return state.service.verdicts(state.batch);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public BatchResultModel validateDocumentsDeduplicated(BatchState state) {
+    return state.service.validateDocumentsDeduplicated(state.batch);
+  }
+}
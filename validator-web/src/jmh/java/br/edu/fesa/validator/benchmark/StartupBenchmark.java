@@ -0,0 +1,182 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what a freshly scaled-out instance costs: the time from launching the JVM until the
+ * readiness probe reports UP, and the latency of the first validation request once it does. Every
+ * iteration starts a new application process, so there is nothing to warm up on the JMH side.
+ *
+ * <p>Needs the artifacts of {@code mvn -Pfast-start package -DskipTests}. The {@code launch}
+ * parameter selects the fat jar, the extracted jar, or the extracted jar with the AOT-processed
+ * context and the CDS archive; {@code warmup} turns on the warm-up run before readiness.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+  private static final Path TARGET = Path.of("target");
+  private static final Path FAST_START = TARGET.resolve("fast-start");
+  private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+  private static final int FIRST_REQUEST_DOCUMENTS = 1000;
+
+  private static final HttpClient CLIENT =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+  /** An application process, launched according to the parameters. */
+  @State(Scope.Benchmark)
+  public abstract static class Instance {
+    @Param({"jar", "extracted", "fast-start"})
+    String launch;
+
+    @Param({"false", "true"})
+    boolean warmup;
+
+    Process process;
+    int port;
+
+    void launch() throws IOException {
+      try (ServerSocket socket = new ServerSocket(0)) {
+        port = socket.getLocalPort();
+      }
+
+      List<String> command = new ArrayList<>();
+      command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+      command.add("--add-modules");
+      command.add("jdk.incubator.vector");
+      switch (launch) {
+        case "jar":
+          command.add("-jar");
+          command.add(application(TARGET).toString());
+          break;
+        case "extracted":
+          command.add("-jar");
+          command.add(application(FAST_START).toString());
+          break;
+        case "fast-start":
+          command.add("-XX:SharedArchiveFile=" + FAST_START.resolve("application.jsa"));
+          command.add("-Dspring.aot.enabled=true");
+          command.add("-jar");
+          command.add(application(FAST_START).toString());
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown launch: " + launch);
+      }
+      command.add("--server.port=" + port);
+      command.add("--validator.warmup.enabled=" + warmup);
+
+      process =
+          new ProcessBuilder(command)
+              .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+              .redirectError(ProcessBuilder.Redirect.DISCARD)
+              .start();
+    }
+
+    void awaitReady() throws IOException, InterruptedException {
+      HttpRequest readiness =
+          HttpRequest.newBuilder(
+                  URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+              .GET()
+              .build();
+      long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+      while (System.nanoTime() < deadline) {
+        if (!process.isAlive()) {
+          throw new IllegalStateException("Application exited with " + process.exitValue());
+        }
+        try {
+          if (CLIENT.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+            return;
+          }
+        } catch (IOException e) {
+          // Not listening yet
+        }
+        Thread.sleep(5);
+      }
+      throw new IllegalStateException("Application not ready after " + READY_TIMEOUT);
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() throws InterruptedException {
+      if (process != null) {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+          process.destroyForcibly().waitFor();
+        }
+        process = null;
+      }
+    }
+
+    private static Path application(Path directory) throws IOException {
+      try (var files = Files.list(directory)) {
+        return files
+            .filter(file -> file.getFileName().toString().matches("validator-.*\\.jar"))
+            .findFirst()
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "No application jar in " + directory + "; run mvn -Pfast-start package"));
+      }
+    }
+  }
+
+  /** An instance launched by the benchmark itself. */
+  public static class Launching extends Instance {}
+
+  /** An instance launched and ready before the benchmark sends its first request. */
+  public static class Ready extends Instance {
+    HttpRequest firstRequest;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, InterruptedException {
+      launch();
+      awaitReady();
+      String documents =
+          String.join("\n", new DocumentGenerator(42L).documents(FIRST_REQUEST_DOCUMENTS));
+      firstRequest =
+          HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/validate/stream"))
+              .header("Content-Type", "text/plain")
+              .POST(HttpRequest.BodyPublishers.ofString(documents))
+              .build();
+    }
+  }
+
+  @Benchmark
+  public int startToReady(Launching instance) throws IOException, InterruptedException {
+    instance.launch();
+    instance.awaitReady();
+    return instance.port;
+  }
+
+  @Benchmark
+  public String firstRequest(Ready instance) throws IOException, InterruptedException {
+    return CLIENT.send(instance.firstRequest, HttpResponse.BodyHandlers.ofString()).body();
+  }
+}
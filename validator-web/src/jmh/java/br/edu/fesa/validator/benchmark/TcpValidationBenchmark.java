@@ -0,0 +1,75 @@
+package br.edu.fesa.validator.benchmark;
+
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.tcp.TcpProtocol;
+import br.edu.fesa.validator.tcp.TcpValidationClient;
+import br.edu.fesa.validator.tcp.TcpValidationServer;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures round trips through a local TCP validation server: the latency distribution of a
+ * single CPF check (sample mode reports p99) and the throughput of 1000-document frames.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TcpValidationBenchmark {
+
+  private static final int FRAME_DOCUMENTS = 1000;
+
+  private DocumentService documentService;
+  private TcpValidationServer server;
+  private TcpValidationClient client;
+  private String cpf;
+  private String[] documents;
+  private byte[] verdicts;
+
+  @Setup
+  public void setUp() throws IOException {
+    documentService = new DocumentService(new DocumentScanner(new AFDValidator()));
+    server = new TcpValidationServer(documentService, 0, 1, TcpProtocol.DEFAULT_MAX_FRAME_SIZE);
+    server.start();
+    client = new TcpValidationClient("localhost", server.getPort());
+    documents = new DocumentGenerator(42L).documents(FRAME_DOCUMENTS);
+    cpf = "811.835.170-09";
+    verdicts = new byte[FRAME_DOCUMENTS];
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    client.close();
+    server.stop();
+    documentService.shutdown();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  public int validateCpf() throws IOException {
+    return client.validate(cpf);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public byte[] validateFrame() throws IOException {
+    client.validate(documents, FRAME_DOCUMENTS, verdicts);
+    return verdicts;
+  }
+}
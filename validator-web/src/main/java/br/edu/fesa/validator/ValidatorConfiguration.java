@@ -0,0 +1,22 @@
+package br.edu.fesa.validator;
+
+import br.edu.fesa.validator.utils.DocumentScanner;
+import br.edu.fesa.validator.utils.DocumentValidator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Exposes the validation engine of validator-core, which knows nothing of Spring, as beans. */
+@Configuration
+public class ValidatorConfiguration {
+
+  /**
+   * Provides the single-pass scanner shared with the static entry points of {@link
+   * DocumentValidator}, so embedded and served validations run on the same instance.
+   *
+   * @return the shared document scanner
+   */
+  @Bean
+  public DocumentScanner documentScanner() {
+    return DocumentValidator.scanner();
+  }
+}
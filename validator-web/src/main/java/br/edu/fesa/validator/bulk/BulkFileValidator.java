@@ -0,0 +1,263 @@
+package br.edu.fesa.validator.bulk;
+
+import br.edu.fesa.validator.model.ResultFormat;
+import br.edu.fesa.validator.service.DocumentService;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validates large files of newline-separated documents. The input is memory-mapped, split at line
+ * boundaries into one chunk per thread and scanned directly over the mapped bytes; each chunk
+ * writes its own part of the results, and the parts are joined in order into a CSV file in the
+ * same layout as {@link ResultFormat#CSV}.
+ */
+@Component
+public class BulkFileValidator {
+
+  /** Largest region mapped at once, well below the 2 GB limit of a mapped buffer. */
+  static final long MAX_CHUNK_SIZE = 1L << 30;
+
+  // CSV columns written after the document, precomputed for every verdict
+  private static final byte[][] RESULT_COLUMNS = new byte[256][];
+
+  private static final byte[] HEADER;
+
+  static {
+    try {
+      StringWriter header = new StringWriter();
+      ResultFormat.CSV.writeHeader(header);
+      HEADER = header.toString().getBytes(StandardCharsets.UTF_8);
+
+      for (int verdict = 0; verdict < RESULT_COLUMNS.length; verdict++) {
+        StringWriter columns = new StringWriter();
+        ResultFormat.CSV.writeResult(columns, "", verdict);
+        RESULT_COLUMNS[verdict] = columns.toString().getBytes(StandardCharsets.UTF_8);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private final DocumentService documentService;
+
+  @Autowired
+  public BulkFileValidator(DocumentService documentService) {
+    this.documentService = documentService;
+  }
+
+  /**
+   * Validates every non-blank line of a file.
+   *
+   * @param input the file of newline-separated ASCII documents
+   * @param output the CSV file receiving one result per document, in input order
+   * @param threads the number of chunks validated in parallel
+   * @return the summary counts of the run
+   * @throws IOException if the input cannot be read or the output cannot be written
+   */
+  public BulkSummary validate(Path input, Path output, int threads) throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Path> parts = new ArrayList<>();
+
+    try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+      long size = channel.size();
+      int chunks = (int) Math.max(threads, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+
+      List<Future<BulkSummary>> futures = new ArrayList<>();
+      long start = 0;
+      for (int chunk = 1; chunk <= chunks && start < size; chunk++) {
+        long end = chunk == chunks ? size : nextLineStart(channel, size * chunk / chunks, size);
+        if (end <= start) {
+          continue;
+        }
+
+        Path part = Files.createTempFile(output.toAbsolutePath().getParent(), "bulk-", ".part");
+        parts.add(part);
+        long chunkStart = start;
+        futures.add(executor.submit(() -> validateChunk(channel, chunkStart, end, part)));
+        start = end;
+      }
+
+      BulkSummary summary = new BulkSummary();
+      for (Future<BulkSummary> future : futures) {
+        summary.merge(future.get());
+      }
+
+      joinParts(parts, output);
+      return summary;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Validação interrompida", e);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof IOException
+          ? (IOException) e.getCause()
+          : new IOException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+      for (Path part : parts) {
+        Files.deleteIfExists(part);
+      }
+    }
+  }
+
+  /**
+   * Finds the start of the first line at or after a position.
+   *
+   * @param channel the input file
+   * @param position the position to search from
+   * @param size the size of the input file
+   * @return the position following the next newline, or the file size if there is none
+   * @throws IOException if the input cannot be read
+   */
+  private static long nextLineStart(FileChannel channel, long position, long size)
+      throws IOException {
+    if (position == 0) {
+      return 0;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(4096);
+    long offset = position - 1;
+    while (offset < size) {
+      buffer.clear();
+      int read = channel.read(buffer, offset);
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return offset + i + 1;
+        }
+      }
+      offset += read;
+    }
+    return size;
+  }
+
+  /**
+   * Validates the lines of one chunk of the input.
+   *
+   * @param channel the input file
+   * @param start the position of the first byte of the chunk, at the start of a line
+   * @param end the position after the last byte of the chunk, at the start of a line or the end
+   * @param part the file receiving the results of the chunk
+   * @return the summary counts of the chunk
+   * @throws IOException if the input cannot be read or the part cannot be written
+   */
+  private BulkSummary validateChunk(FileChannel channel, long start, long end, Path part)
+      throws IOException {
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    byte[] copy = new byte[DocumentService.MAX_LINE_LENGTH];
+    BulkSummary summary = new BulkSummary();
+    int limit = buffer.limit();
+
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), 1 << 16)) {
+      int lineStart = 0;
+      while (lineStart < limit) {
+        int lineEnd = lineStart;
+        while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+          lineEnd++;
+        }
+
+        int documentStart = lineStart;
+        int documentEnd = lineEnd;
+        while (documentStart < documentEnd && (buffer.get(documentStart) & 0xFF) <= ' ') {
+          documentStart++;
+        }
+        while (documentEnd > documentStart && (buffer.get(documentEnd - 1) & 0xFF) <= ' ') {
+          documentEnd--;
+        }
+
+        if (documentStart < documentEnd) {
+          int verdict = documentService.verdict(buffer, documentStart, documentEnd);
+          writeDocument(buffer, documentStart, documentEnd, copy, out);
+          out.write(RESULT_COLUMNS[verdict & 0xFF]);
+          summary.add(verdict);
+        }
+        lineStart = lineEnd + 1;
+      }
+    }
+
+    return summary;
+  }
+
+  /**
+   * Writes a document as the first CSV column, quoted the way {@link ResultFormat#CSV} quotes it.
+   *
+   * @param buffer the mapped chunk
+   * @param start the position of the first byte of the document
+   * @param end the position after the last byte of the document
+   * @param copy the buffer the bytes are copied through
+   * @param out the destination
+   * @throws IOException if the destination cannot be written
+   */
+  private static void writeDocument(
+      ByteBuffer buffer, int start, int end, byte[] copy, OutputStream out) throws IOException {
+    boolean quote = false;
+    for (int i = start; i < end && !quote; i++) {
+      byte b = buffer.get(i);
+      quote = b == ',' || b == '"' || b == '\r';
+    }
+
+    if (!quote) {
+      copy(buffer, start, end, copy, out);
+      return;
+    }
+
+    out.write('"');
+    int from = start;
+    for (int i = start; i < end; i++) {
+      if (buffer.get(i) == '"') {
+        copy(buffer, from, i + 1, copy, out);
+        out.write('"');
+        from = i + 1;
+      }
+    }
+    copy(buffer, from, end, copy, out);
+    out.write('"');
+  }
+
+  private static void copy(ByteBuffer buffer, int start, int end, byte[] copy, OutputStream out)
+      throws IOException {
+    while (start < end) {
+      int length = Math.min(end - start, copy.length);
+      buffer.get(start, copy, 0, length);
+      out.write(copy, 0, length);
+      start += length;
+    }
+  }
+
+  private static void joinParts(List<Path> parts, Path output) throws IOException {
+    try (FileChannel out =
+        FileChannel.open(
+            output,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      out.write(ByteBuffer.wrap(HEADER));
+
+      for (Path part : parts) {
+        try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+          long position = 0;
+          long size = in.size();
+          while (position < size) {
+            position += in.transferTo(position, size - position, out);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package br.edu.fesa.validator.bulk;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import java.util.Map;
+import java.util.TreeMap;
+
+/** Summary counts of a bulk validation run, kept as a histogram of verdicts. */
+public class BulkSummary {
+
+  // Number of documents per verdict word
+  private final long[] verdictCounts = new long[256];
+
+  /**
+   * Counts one document.
+   *
+   * @param verdict the {@link DocumentVerdict} word of the document
+   */
+  void add(int verdict) {
+    verdictCounts[verdict & 0xFF]++;
+  }
+
+  /**
+   * Adds the counts of another summary to this one.
+   *
+   * @param other the summary to merge
+   */
+  void merge(BulkSummary other) {
+    for (int i = 0; i < verdictCounts.length; i++) {
+      verdictCounts[i] += other.verdictCounts[i];
+    }
+  }
+
+  /** Total number of documents validated */
+  public long getDocuments() {
+    return count(0);
+  }
+
+  /** Number of documents that passed every validation */
+  public long getValid() {
+    return count(DocumentVerdict.VALIDATED);
+  }
+
+  /** Number of documents that failed any validation */
+  public long getInvalid() {
+    return getDocuments() - getValid();
+  }
+
+  /** Number of documents per validation message */
+  public Map<String, Long> getMessages() {
+    Map<String, Long> messages = new TreeMap<>();
+    for (int verdict = 0; verdict < verdictCounts.length; verdict++) {
+      if (verdictCounts[verdict] > 0) {
+        messages.merge(DocumentVerdict.message(verdict), verdictCounts[verdict], Long::sum);
+      }
+    }
+    return messages;
+  }
+
+  private long count(int flags) {
+    long total = 0;
+    for (int verdict = 0; verdict < verdictCounts.length; verdict++) {
+      if (DocumentVerdict.has(verdict, flags)) {
+        total += verdictCounts[verdict];
+      }
+    }
+    return total;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder summary = new StringBuilder();
+    summary.append("Documentos: ").append(getDocuments());
+    summary.append(" (válidos: ").append(getValid());
+    summary.append(", inválidos: ").append(getInvalid()).append(')');
+    getMessages()
+        .forEach(
+            (message, count) -> summary.append("\n  ").append(message).append(": ").append(count));
+    return summary.toString();
+  }
+}
@@ -0,0 +1,49 @@
+package br.edu.fesa.validator.bulk;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a bulk file validation when the application is started with the "bulk" profile, e.g.
+ * {@code java -jar validator.jar --spring.profiles.active=bulk --input=documents.txt
+ * [--output=results.csv] [--threads=16]}.
+ */
+@Component
+@Profile("bulk")
+public class BulkValidationRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(BulkValidationRunner.class);
+
+  @Autowired private BulkFileValidator bulkFileValidator;
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    String input = option(args, "input", null);
+    if (input == null) {
+      throw new IllegalArgumentException("Informe o arquivo de entrada com --input=<arquivo>");
+    }
+
+    Path output = Path.of(option(args, "output", input + ".results.csv"));
+    int threads =
+        Integer.parseInt(
+            option(args, "threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+    long started = System.nanoTime();
+    BulkSummary summary = bulkFileValidator.validate(Path.of(input), output, threads);
+    long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+    log.info("Resultados gravados em {} em {} ms\n{}", output, elapsedMillis, summary);
+  }
+
+  private static String option(ApplicationArguments args, String name, String defaultValue) {
+    List<String> values = args.getOptionValues(name);
+    return values == null || values.isEmpty() ? defaultValue : values.get(0);
+  }
+}
@@ -0,0 +1,49 @@
+package br.edu.fesa.validator.bulk;
+
+import br.edu.fesa.validator.utils.CpfBitmap;
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the CPF list file consulted by the validation service when the application is started
+ * with the "blocklist" profile, e.g. {@code java -jar validator.jar
+ * --spring.profiles.active=blocklist --input=cpfs.txt --output=blocklist.bin}. The input holds one
+ * CPF per line; the output replaces any previous file atomically, so a running service reloads it
+ * safely.
+ */
+@Component
+@Profile("blocklist")
+public class CpfBitmapBuildRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(CpfBitmapBuildRunner.class);
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    List<String> inputs = args.getOptionValues("input");
+    List<String> outputs = args.getOptionValues("output");
+    if (inputs == null || inputs.isEmpty() || outputs == null || outputs.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Informe a lista com --input=<arquivo> e o bitmap com --output=<arquivo>");
+    }
+
+    Path output = Path.of(outputs.get(0));
+    long started = System.nanoTime();
+    long entries;
+    try (BufferedReader list =
+        Files.newBufferedReader(Path.of(inputs.get(0)), StandardCharsets.ISO_8859_1)) {
+      entries = CpfBitmap.write(output, list);
+    }
+    long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+    log.info("Bitmap de CPFs gravado em {} em {} ms: {} entradas", output, elapsedMillis, entries);
+  }
+}
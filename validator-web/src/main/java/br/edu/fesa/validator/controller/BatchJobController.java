@@ -0,0 +1,98 @@
+package br.edu.fesa.validator.controller;
+
+import br.edu.fesa.validator.model.BatchJobModel;
+import br.edu.fesa.validator.model.BatchJobPageModel;
+import br.edu.fesa.validator.service.BatchJobService;
+import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/** REST controller for asynchronous batch validation jobs. */
+@RestController
+@RequestMapping("/api/jobs")
+public class BatchJobController {
+
+  /** Largest page of results served at once. */
+  private static final int MAX_PAGE_SIZE = 10_000;
+
+  @Autowired private BatchJobService batchJobService;
+
+  /**
+   * Submits a batch of documents, one per line, for asynchronous validation.
+   *
+   * @param documents the newline-separated documents
+   * @return the new job, with its location for polling
+   */
+  @PostMapping(consumes = MediaType.TEXT_PLAIN_VALUE)
+  public ResponseEntity<BatchJobModel> submit(@RequestBody String documents) {
+    try {
+      BatchJobModel job = batchJobService.submit(documents);
+      return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
+    } catch (RejectedExecutionException e) {
+      throw new ResponseStatusException(
+          HttpStatus.TOO_MANY_REQUESTS, "Fila de lotes cheia, tente novamente mais tarde");
+    }
+  }
+
+  /**
+   * Returns the progress of a job.
+   *
+   * @param id the job identifier
+   * @return the job status
+   */
+  @GetMapping("/{id}")
+  public BatchJobModel status(@PathVariable String id) {
+    return batchJobService.status(id).orElseThrow(() -> notFound(id));
+  }
+
+  /**
+   * Returns one page of the results of a completed job.
+   *
+   * @param id the job identifier
+   * @param page zero-based page number
+   * @param size maximum number of results per page
+   * @return the page of results
+   */
+  @GetMapping("/{id}/results")
+  public BatchJobPageModel results(
+      @PathVariable String id,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "100") int size) {
+    if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Página inválida");
+    }
+
+    try {
+      return batchJobService.results(id, page, size).orElseThrow(() -> notFound(id));
+    } catch (IllegalStateException e) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+    }
+  }
+
+  /**
+   * Cancels a queued or running job.
+   *
+   * @param id the job identifier
+   * @return the job status after cancellation
+   */
+  @DeleteMapping("/{id}")
+  public BatchJobModel cancel(@PathVariable String id) {
+    return batchJobService.cancel(id).orElseThrow(() -> notFound(id));
+  }
+
+  private static ResponseStatusException notFound(String id) {
+    return new ResponseStatusException(HttpStatus.NOT_FOUND, "Lote não encontrado: " + id);
+  }
+}
@@ -0,0 +1,59 @@
+package br.edu.fesa.validator.controller;
+
+import br.edu.fesa.validator.model.BatchResultPageModel;
+import br.edu.fesa.validator.model.ResultFilter;
+import br.edu.fesa.validator.service.BatchResultStore;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/** REST controller serving the stored results of batches validated through the web interface. */
+@RestController
+@RequestMapping("/api/batches")
+public class BatchResultController {
+
+  /** Largest page of results served at once. */
+  private static final int MAX_PAGE_SIZE = 1_000;
+
+  @Autowired private BatchResultStore batchResultStore;
+
+  /**
+   * Returns one page of the results of a stored batch.
+   *
+   * @param id the batch identifier
+   * @param filter the results to list: all, valid or invalid
+   * @param page zero-based page number among the results matching the filter
+   * @param size maximum number of results per page
+   * @return the page of results
+   */
+  @GetMapping("/{id}/results")
+  public BatchResultPageModel results(
+      @PathVariable String id,
+      @RequestParam(defaultValue = "all") String filter,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "50") int size) {
+    if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Página inválida");
+    }
+
+    ResultFilter resultFilter;
+    try {
+      resultFilter = ResultFilter.valueOf(filter.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Filtro inválido: " + filter);
+    }
+
+    return batchResultStore
+        .page(id, resultFilter, page, size)
+        .orElseThrow(
+            () ->
+                new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Resultados não encontrados ou expirados: " + id));
+  }
+}
@@ -1,8 +1,8 @@
 package br.edu.fesa.validator.controller;
 
 import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.service.BatchResultStore;
 import br.edu.fesa.validator.service.DocumentService;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -17,6 +17,8 @@ public class DocumentController {
 
   @Autowired private DocumentService documentService;
 
+  @Autowired private BatchResultStore batchResultStore;
+
   /**
    * Displays the index page with the default mode set to "single".
    *
@@ -46,18 +48,16 @@ public class DocumentController {
   }
 
   /**
-   * Validates multiple documents in batch.
+   * Validates multiple documents in batch. The results stay on the server and the index page
+   * fetches them page by page from {@code /api/batches/{id}/results}, so the session only carries
+   * the batch identifier.
    *
    * @param documents a string containing multiple documents separated by newline
-   * @param redirectAttributes attributes for flash scope
-   * @return redirect URL to the index page with "batch" mode
+   * @return redirect URL to the index page with "batch" mode and the stored batch
    */
   @PostMapping("/validate/batch")
-  public String validateBatch(
-      @RequestParam String documents, RedirectAttributes redirectAttributes) {
-    List<DocumentResultModel> results = documentService.validateDocuments(documents);
-    redirectAttributes.addFlashAttribute("results", results);
-    redirectAttributes.addFlashAttribute("mode", "batch");
-    return "redirect:/?mode=batch";
+  public String validateBatch(@RequestParam String documents) {
+    String batchId = batchResultStore.save(documents);
+    return "redirect:/?mode=batch&batch=" + batchId;
   }
 }
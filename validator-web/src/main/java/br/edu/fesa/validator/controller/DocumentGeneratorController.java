@@ -0,0 +1,88 @@
+package br.edu.fesa.validator.controller;
+
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import br.edu.fesa.validator.utils.DocumentGenerator.Kind;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/** REST controller streaming synthetic documents for load tests, see {@link DocumentGenerator}. */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnProperty(name = "validator.generator.enabled", havingValue = "true")
+public class DocumentGeneratorController {
+
+  private final long maxCount;
+
+  /**
+   * Creates the controller.
+   *
+   * @param maxCount the largest number of documents served by a single request
+   */
+  public DocumentGeneratorController(
+      @Value("${validator.generator.max-count:100000000}") long maxCount) {
+    this.maxCount = maxCount;
+  }
+
+  /**
+   * Streams generated documents as plain text, one per line. The mix is set by one weight
+   * parameter per {@link Kind}, named in lowercase (e.g. {@code valid_cpf=3&wrong_check_digit=1});
+   * without any, the default mix is used.
+   *
+   * @param count the number of documents
+   * @param seed the random seed, drawn at random when absent
+   * @param parameters every request parameter, read for the kind weights
+   * @return the streamed documents
+   */
+  @GetMapping(value = "/generate", produces = MediaType.TEXT_PLAIN_VALUE)
+  public ResponseEntity<StreamingResponseBody> generate(
+      @RequestParam(defaultValue = "1000") long count,
+      @RequestParam(required = false) Long seed,
+      @RequestParam Map<String, String> parameters) {
+    if (count < 0 || count > maxCount) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "A quantidade deve estar entre 0 e " + maxCount);
+    }
+
+    DocumentGenerator generator;
+    try {
+      generator =
+          new DocumentGenerator(
+              seed != null ? seed : ThreadLocalRandom.current().nextLong(), weights(parameters));
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    StreamingResponseBody stream = out -> generator.write(out, count);
+    return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(stream);
+  }
+
+  private static Map<Kind, Integer> weights(Map<String, String> parameters) {
+    Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+    for (Kind kind : Kind.values()) {
+      String name = kind.name().toLowerCase(Locale.ROOT);
+      String weight = parameters.get(name);
+      if (weight != null) {
+        try {
+          weights.put(kind, Integer.parseInt(weight.trim()));
+        } catch (NumberFormatException e) {
+          throw new ResponseStatusException(
+              HttpStatus.BAD_REQUEST, "Peso inválido para " + name + ": " + weight);
+        }
+      }
+    }
+    return weights.isEmpty() ? DocumentGenerator.defaultWeights() : weights;
+  }
+}
@@ -0,0 +1,349 @@
+package br.edu.fesa.validator.controller;
+
+import br.edu.fesa.validator.model.DelimitedFormatModel;
+import br.edu.fesa.validator.model.ResultFormat;
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.upload.DelimitedQuotes;
+import br.edu.fesa.validator.upload.MultipartStream;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/** REST controller streaming validation results for batches of any size. */
+@RestController
+@RequestMapping("/api")
+public class DocumentStreamController {
+
+  /** Options of {@link #validateUpload}, read from the query string or from form fields. */
+  private static final List<String> UPLOAD_OPTIONS =
+      List.of("column", "delimiter", "header", "gzip");
+
+  // Largest value accepted for an option sent as a form field
+  private static final int MAX_OPTION_LENGTH = 256;
+
+  // Bytes of the first row inspected to detect the separator
+  private static final int SNIFF_LENGTH = 8192;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  @Autowired private DocumentService documentService;
+
+  /**
+   * Validates newline-separated documents read from the request body as a stream, writing one
+   * result per line with chunked transfer encoding. Neither the request nor the response is held
+   * in memory.
+   *
+   * @param body the request body, one document per line
+   * @param format the result format, "ndjson" (default) or "csv"
+   * @return the streamed results
+   */
+  @PostMapping(
+      value = "/validate/stream",
+      consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  public ResponseEntity<StreamingResponseBody> validateStream(
+      InputStream body, @RequestParam(defaultValue = "ndjson") String format) {
+    ResultFormat resultFormat = parseFormat(format);
+
+    StreamingResponseBody stream =
+        out -> {
+          Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+          Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+          documentService.validateStream(reader, writer, resultFormat);
+        };
+
+    return ResponseEntity.ok()
+        .contentType(
+            new MediaType(
+                MediaType.parseMediaType(resultFormat.getMediaType()), StandardCharsets.UTF_8))
+        .body(stream);
+  }
+
+  /**
+   * Validates one column of an uploaded CSV, TSV or plain file, optionally gzip-compressed,
+   * streaming back every row of the file with the result columns {@code validated} and {@code
+   * reason} appended. The {@code multipart/form-data} body is parsed as it arrives instead of
+   * being stored first, so files of any size are validated in constant memory while they upload.
+   * Options are read from the query string or from form fields sent before the file.
+   *
+   * <ul>
+   *   <li>{@code column}: zero-based index or header name of the document column (default 0)
+   *   <li>{@code delimiter}: "comma", "semicolon", "tab", "pipe" or "none" (default detected from
+   *       the first row)
+   *   <li>{@code header}: whether the first row names the columns (default true when the file has
+   *       a separator)
+   *   <li>{@code gzip}: whether to compress the result (default true when the upload was
+   *       compressed)
+   * </ul>
+   *
+   * @param request the multipart request, whose first part with a file name is validated
+   * @return the streamed rows, as an attachment
+   * @throws IOException if the request cannot be read
+   */
+  @PostMapping(value = "/validate/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<StreamingResponseBody> validateUpload(HttpServletRequest request)
+      throws IOException {
+    String boundary = MultipartStream.boundary(request.getContentType());
+    if (boundary == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Delimitador multipart ausente");
+    }
+
+    Map<String, String> options = new HashMap<>();
+    for (String option : UPLOAD_OPTIONS) {
+      if (request.getParameter(option) != null) {
+        options.put(option, request.getParameter(option));
+      }
+    }
+
+    MultipartStream multipart = new MultipartStream(request.getInputStream(), boundary);
+    BufferedInputStream rows;
+    boolean compressed;
+    String filename;
+    try {
+      boolean found = false;
+      while (!found && multipart.nextPart()) {
+        found = multipart.getFilename() != null;
+        if (!found && UPLOAD_OPTIONS.contains(multipart.getName())) {
+          options.putIfAbsent(multipart.getName(), multipart.readString(MAX_OPTION_LENGTH));
+        }
+      }
+      if (!found) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nenhum arquivo enviado");
+      }
+
+      filename = multipart.getFilename();
+      InputStream file = new BufferedInputStream(multipart.getInputStream(), BUFFER_SIZE);
+      compressed = isGzip(file);
+      rows =
+          new BufferedInputStream(
+              compressed ? new GZIPInputStream(file, BUFFER_SIZE) : file, BUFFER_SIZE);
+    } catch (IOException e) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Corpo multipart inválido: " + e.getMessage());
+    }
+
+    byte[] firstRow = firstRow(rows);
+    String delimiterOption = options.get("delimiter");
+    char delimiter =
+        delimiterOption == null || delimiterOption.equalsIgnoreCase("auto")
+            ? sniffDelimiter(firstRow)
+            : parseDelimiter(delimiterOption);
+    boolean header =
+        options.containsKey("header")
+            ? Boolean.parseBoolean(options.get("header"))
+            : delimiter != 0;
+    boolean compress =
+        options.containsKey("gzip") ? Boolean.parseBoolean(options.get("gzip")) : compressed;
+
+    // Resolve the column before streaming starts, while errors can still be reported as such
+    String column = options.getOrDefault("column", "0");
+    int index = DocumentService.parseColumn(column);
+    if (index < 0 && header) {
+      index = DocumentService.columnIndex(firstRow, 0, firstRow.length, delimiter, column);
+    }
+    if (index < 0) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Coluna não encontrada no cabeçalho: " + column);
+    }
+    if (delimiter == 0 && index != 0) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Arquivo sem separador tem uma única coluna");
+    }
+    DelimitedFormatModel format =
+        new DelimitedFormatModel(delimiter, header, String.valueOf(index));
+
+    StreamingResponseBody stream =
+        out -> {
+          OutputStream target = compress ? new FastGzipOutputStream(out) : out;
+          documentService.validateColumn(rows, target, format);
+          if (compress) {
+            ((GZIPOutputStream) target).finish();
+          }
+        };
+
+    // Only comma and tab rows are CSV and TSV; any other separator, or none, is plain text
+    String extension;
+    String type;
+    if (delimiter == ',') {
+      extension = ".csv";
+      type = "text/csv";
+    } else if (delimiter == '\t') {
+      extension = ".tsv";
+      type = "text/tab-separated-values";
+    } else {
+      extension = ".txt";
+      type = MediaType.TEXT_PLAIN_VALUE;
+    }
+    MediaType mediaType =
+        compress
+            ? MediaType.parseMediaType("application/gzip")
+            : new MediaType(MediaType.parseMediaType(type), StandardCharsets.UTF_8);
+    ContentDisposition disposition =
+        ContentDisposition.attachment()
+            .filename(
+                baseName(filename) + "-validado" + extension + (compress ? ".gz" : ""),
+                StandardCharsets.UTF_8)
+            .build();
+
+    return ResponseEntity.ok()
+        .contentType(mediaType)
+        .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+        .body(stream);
+  }
+
+  /**
+   * Gzip stream at the fastest compression level: result rows repeat the input and a handful of
+   * reasons, so they compress well anyway, and the default level would make the upload wait for
+   * the compressor.
+   */
+  private static final class FastGzipOutputStream extends GZIPOutputStream {
+    FastGzipOutputStream(OutputStream out) throws IOException {
+      super(out, BUFFER_SIZE);
+      def.setLevel(Deflater.BEST_SPEED);
+    }
+  }
+
+  /** Checks for the gzip magic number without consuming it. */
+  private static boolean isGzip(InputStream input) throws IOException {
+    input.mark(2);
+    int first = input.read();
+    int second = input.read();
+    input.reset();
+    return first == 0x1F && second == 0x8B;
+  }
+
+  /**
+   * Reads the first row of a file without consuming it.
+   *
+   * @param input the rows
+   * @return the bytes of the first row without its line ending, at most {@value #SNIFF_LENGTH}
+   */
+  private static byte[] firstRow(InputStream input) {
+    byte[] row = new byte[SNIFF_LENGTH];
+    int length = 0;
+    try {
+      input.mark(SNIFF_LENGTH);
+      int quote = DelimitedQuotes.FIELD_START;
+      int b;
+      while (length < SNIFF_LENGTH
+          && (b = input.read()) != -1
+          && (b != '\n' || DelimitedQuotes.isQuoted(quote))) {
+        // The separator is not known yet, so any candidate may start a field
+        quote = DelimitedQuotes.next(quote, b, isSeparatorCandidate(b));
+        row[length++] = (byte) b;
+      }
+      input.reset();
+    } catch (IOException e) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Arquivo ilegível: " + e.getMessage());
+    }
+
+    if (length > 0 && row[length - 1] == '\r') {
+      length--;
+    }
+    return Arrays.copyOf(row, length);
+  }
+
+  /**
+   * Detects the separator of a file from its first row.
+   *
+   * @param row the first row
+   * @return the separator found most often outside quotes, or {@code '\0'} if there is none
+   */
+  private static char sniffDelimiter(byte[] row) {
+    char[] candidates = {',', ';', '\t', '|'};
+    int[] counts = new int[candidates.length];
+    int quote = DelimitedQuotes.FIELD_START;
+    for (byte b : row) {
+      if (!DelimitedQuotes.isQuoted(quote)) {
+        for (int c = 0; c < candidates.length; c++) {
+          counts[c] += b == candidates[c] ? 1 : 0;
+        }
+      }
+      quote = DelimitedQuotes.next(quote, b, isSeparatorCandidate(b));
+    }
+
+    int best = -1;
+    for (int c = 0; c < candidates.length; c++) {
+      if (counts[c] > 0 && (best < 0 || counts[c] > counts[best])) {
+        best = c;
+      }
+    }
+    return best < 0 ? 0 : candidates[best];
+  }
+
+  private static boolean isSeparatorCandidate(int b) {
+    return b == ',' || b == ';' || b == '\t' || b == '|';
+  }
+
+  private static char parseDelimiter(String delimiter) {
+    switch (delimiter.toLowerCase(Locale.ROOT)) {
+      case "comma":
+      case ",":
+        return ',';
+      case "semicolon":
+      case ";":
+        return ';';
+      case "tab":
+      case "\t":
+        return '\t';
+      case "pipe":
+      case "|":
+        return '|';
+      case "none":
+        return 0;
+      default:
+        throw new ResponseStatusException(
+            HttpStatus.BAD_REQUEST, "Separador não suportado: " + delimiter);
+    }
+  }
+
+  /** File name without directories, compression and type extensions, as the result name. */
+  private static String baseName(String filename) {
+    int directory = Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\'));
+    String name = filename.substring(directory + 1);
+    if (name.toLowerCase(Locale.ROOT).endsWith(".gz")) {
+      name = name.substring(0, name.length() - 3);
+    }
+    int dot = name.lastIndexOf('.');
+    if (dot > 0) {
+      name = name.substring(0, dot);
+    }
+    return name.isBlank() ? "documentos" : name;
+  }
+
+  private static ResultFormat parseFormat(String format) {
+    try {
+      return ResultFormat.valueOf(format.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato não suportado: " + format);
+    }
+  }
+}
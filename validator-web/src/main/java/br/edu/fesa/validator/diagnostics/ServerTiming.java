@@ -0,0 +1,92 @@
+package br.edu.fesa.validator.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stage durations collected on the thread handling a request, reported in its {@code
+ * Server-Timing} header by {@link ServerTimingFilter}. Validations running on a thread without a
+ * bound collector, such as streamed responses and background jobs, record nothing.
+ */
+public final class ServerTiming {
+
+  /** Name of the response header. */
+  public static final String HEADER = "Server-Timing";
+
+  private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+  // Set once a collector has ever been bound, so that validations skip the thread-local lookup
+  // while the header is off
+  private static volatile boolean bound;
+
+  private final Map<String, Long> nanosByStage = new LinkedHashMap<>();
+
+  private ServerTiming() {}
+
+  /**
+   * Binds a new collector to the current thread.
+   *
+   * @return the collector, which receives the stages validated on this thread until {@link
+   *     #unbind()}
+   */
+  public static ServerTiming bind() {
+    ServerTiming timing = new ServerTiming();
+    bound = true;
+    CURRENT.set(timing);
+    return timing;
+  }
+
+  /** Removes the collector of the current thread. */
+  public static void unbind() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Returns the collector of the current thread.
+   *
+   * @return the bound collector, or null if there is none
+   */
+  public static ServerTiming current() {
+    return bound ? CURRENT.get() : null;
+  }
+
+  /**
+   * Adds the duration of a stage; durations of a stage run several times are summed.
+   *
+   * @param stage the stage name
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(String stage, long nanos) {
+    nanosByStage.merge(stage, nanos, Long::sum);
+  }
+
+  /**
+   * Indicates whether any stage was recorded.
+   *
+   * @return true if there is nothing to report
+   */
+  public boolean isEmpty() {
+    return nanosByStage.isEmpty();
+  }
+
+  /**
+   * Formats the recorded stages as a {@code Server-Timing} header value. Durations are in
+   * milliseconds, as the header requires, with six decimals to keep nanosecond resolution.
+   *
+   * @return the metrics in recording order, such as {@code scan;dur=0.000850, result;dur=0.000120}
+   */
+  public String header() {
+    StringBuilder header = new StringBuilder();
+    for (Map.Entry<String, Long> stage : nanosByStage.entrySet()) {
+      if (header.length() > 0) {
+        header.append(", ");
+      }
+      header
+          .append(stage.getKey())
+          .append(";dur=")
+          .append(String.format(Locale.ROOT, "%.6f", stage.getValue() / 1e6));
+    }
+    return header.toString();
+  }
+}
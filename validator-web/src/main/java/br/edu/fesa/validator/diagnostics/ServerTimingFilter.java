@@ -0,0 +1,107 @@
+package br.edu.fesa.validator.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Reports the validation stages run while handling a request in its {@code Server-Timing} header,
+ * when {@code validator.server-timing.enabled} is set. The header is added just before the
+ * response starts, once the handler has validated its documents; streamed responses validate on
+ * another thread after that point and report nothing.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  private final boolean enabled;
+
+  /**
+   * Creates the filter.
+   *
+   * @param enabled whether responses carry the header
+   */
+  public ServerTimingFilter(@Value("${validator.server-timing.enabled:false}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    ServerTiming timing = ServerTiming.bind();
+    TimingResponse timed = new TimingResponse(response, timing);
+    try {
+      chain.doFilter(request, timed);
+      timed.writeHeader();
+    } finally {
+      ServerTiming.unbind();
+    }
+  }
+
+  /** Adds the header before anything commits the response. */
+  private static final class TimingResponse extends HttpServletResponseWrapper {
+    private final ServerTiming timing;
+    private boolean written;
+
+    TimingResponse(HttpServletResponse response, ServerTiming timing) {
+      super(response);
+      this.timing = timing;
+    }
+
+    void writeHeader() {
+      if (!written && !isCommitted() && !timing.isEmpty()) {
+        setHeader(ServerTiming.HEADER, timing.header());
+      }
+      written = true;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeHeader();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeHeader();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeHeader();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+      writeHeader();
+      super.sendRedirect(location);
+    }
+
+    @Override
+    public void sendError(int status) throws IOException {
+      writeHeader();
+      super.sendError(status);
+    }
+
+    @Override
+    public void sendError(int status, String message) throws IOException {
+      writeHeader();
+      super.sendError(status, message);
+    }
+  }
+}
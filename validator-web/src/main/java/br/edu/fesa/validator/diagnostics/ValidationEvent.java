@@ -0,0 +1,44 @@
+package br.edu.fesa.validator.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one validation call of the document service: a single document or a
+ * whole batch. Disabled by default; see {@link ValidationTrace} for how it is enabled.
+ */
+@Name("br.edu.fesa.validator.Validation")
+@Label("Document Validation")
+@Description("Validation of a single document or of a batch by the document service")
+@Category({"Validator"})
+@Enabled(false)
+@StackTrace(false)
+public class ValidationEvent extends Event {
+
+  @Label("Operation")
+  @Description("Validation path: \"document\", \"list\" or \"verdicts\"")
+  String operation;
+
+  @Label("Document Type")
+  @Description("CPF, RG or CNPJ for a single recognized document, otherwise null")
+  String documentType;
+
+  @Label("Outcome")
+  @Description("\"valid\" or \"invalid\" for a single document, null for a batch")
+  String outcome;
+
+  @Label("Reason")
+  @Description("Failure reasons of an invalid single document")
+  String reason;
+
+  @Label("Documents")
+  long documents;
+
+  @Label("Valid Documents")
+  long valid;
+}
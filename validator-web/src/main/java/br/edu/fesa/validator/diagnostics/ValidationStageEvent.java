@@ -0,0 +1,41 @@
+package br.edu.fesa.validator.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one stage of a {@link ValidationEvent}, such as the scan or the
+ * building of the results. Disabled by default; see {@link ValidationTrace} for the stages.
+ */
+@Name("br.edu.fesa.validator.ValidationStage")
+@Label("Document Validation Stage")
+@Description("One stage of a validation call of the document service")
+@Category({"Validator"})
+@Enabled(false)
+@StackTrace(false)
+public class ValidationStageEvent extends Event {
+
+  @Label("Stage")
+  @Description("\"lines\", \"scan\", \"blocklist\" or \"result\"")
+  String stage;
+
+  @Label("Operation")
+  @Description("Validation path: \"document\", \"list\" or \"verdicts\"")
+  String operation;
+
+  @Label("Document Type")
+  @Description("CPF, RG or CNPJ for a single recognized document, otherwise null")
+  String documentType;
+
+  @Label("Outcome")
+  @Description("\"valid\" or \"invalid\" for a single document, null for a batch")
+  String outcome;
+
+  @Label("Documents")
+  long documents;
+}
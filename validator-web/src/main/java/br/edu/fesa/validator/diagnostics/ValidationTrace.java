@@ -0,0 +1,160 @@
+package br.edu.fesa.validator.diagnostics;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times the stages of one validation call, reporting them as Flight Recorder events and to the
+ * {@link ServerTiming} collector of the current thread. The stages are the ones the service
+ * actually runs: {@code lines} splits a batch into lines, {@code scan} walks the automaton and
+ * checks the digits in a single pass, {@code blocklist} consults the CPF list and {@code result}
+ * builds the result objects, whose messages come from a precomputed table.
+ *
+ * <p>Both events are disabled by default, and {@link #start} returns null while neither is
+ * enabled and no collector is bound, so callers keep their untraced path and pay only for the
+ * checks. Enable the events in a recording through a settings file, for example:
+ *
+ * <pre>
+ * jfr configure +br.edu.fesa.validator.Validation#enabled=true \
+ *     +br.edu.fesa.validator.ValidationStage#enabled=true --output validator.jfc
+ * java -XX:StartFlightRecording:settings=validator.jfc,filename=validator.jfr -jar ...
+ * </pre>
+ */
+public final class ValidationTrace {
+
+  /** Operation of a single document validation. */
+  public static final String DOCUMENT = "document";
+
+  /** Operation of a batch validated into a list of results. */
+  public static final String LIST = "list";
+
+  /** Operation of a batch validated into verdicts only. */
+  public static final String VERDICTS = "verdicts";
+
+  private final String operation;
+  private final ValidationEvent event;
+  private final List<ValidationStageEvent> stageEvents;
+  private final ServerTiming timing;
+
+  private String stage;
+  private long stageStart;
+  private ValidationStageEvent stageEvent;
+
+  private ValidationTrace(
+      String operation, ValidationEvent event, boolean stageEvents, ServerTiming timing) {
+    this.operation = operation;
+    this.event = event;
+    this.stageEvents = stageEvents ? new ArrayList<>(4) : null;
+    this.timing = timing;
+    if (event != null) {
+      event.begin();
+    }
+  }
+
+  /**
+   * Starts tracing a validation call.
+   *
+   * @param operation {@link #DOCUMENT}, {@link #LIST} or {@link #VERDICTS}
+   * @return the trace, or null if no event is enabled and no collector is bound
+   */
+  public static ValidationTrace start(String operation) {
+    // Probing a disabled event costs no allocation once compiled
+    ValidationEvent event = new ValidationEvent();
+    boolean stageEvents = new ValidationStageEvent().isEnabled();
+    ServerTiming timing = ServerTiming.current();
+    if (!event.isEnabled() && !stageEvents && timing == null) {
+      return null;
+    }
+    return new ValidationTrace(operation, event.isEnabled() ? event : null, stageEvents, timing);
+  }
+
+  /**
+   * Ends the current stage, if any, and starts the next one.
+   *
+   * @param name the stage name
+   */
+  public void stage(String name) {
+    long now = System.nanoTime();
+    endStage(now);
+    stage = name;
+    stageStart = now;
+    if (stageEvents != null) {
+      stageEvent = new ValidationStageEvent();
+      stageEvent.begin();
+    }
+  }
+
+  /**
+   * Ends the trace of a single document and commits its events.
+   *
+   * @param verdict the {@link DocumentVerdict} word of the document
+   */
+  public void finishDocument(int verdict) {
+    boolean valid = DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED);
+    finish(
+        DocumentVerdict.type(verdict),
+        valid ? "valid" : "invalid",
+        valid ? null : DocumentVerdict.reason(verdict),
+        1,
+        valid ? 1 : 0);
+  }
+
+  /**
+   * Ends the trace of a batch and commits its events.
+   *
+   * @param tally the number of documents per {@link DocumentVerdict} word
+   */
+  public void finishBatch(long[] tally) {
+    long documents = 0;
+    long valid = 0;
+    for (int verdict = 0; verdict < tally.length; verdict++) {
+      documents += tally[verdict];
+      if (DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED)) {
+        valid += tally[verdict];
+      }
+    }
+    finish(null, null, null, documents, valid);
+  }
+
+  private void finish(
+      String documentType, String outcome, String reason, long documents, long valid) {
+    endStage(System.nanoTime());
+
+    if (stageEvents != null) {
+      for (ValidationStageEvent stageEvent : stageEvents) {
+        stageEvent.operation = operation;
+        stageEvent.documentType = documentType;
+        stageEvent.outcome = outcome;
+        stageEvent.documents = documents;
+        stageEvent.commit();
+      }
+    }
+
+    if (event != null) {
+      event.operation = operation;
+      event.documentType = documentType;
+      event.outcome = outcome;
+      event.reason = reason;
+      event.documents = documents;
+      event.valid = valid;
+      event.commit();
+    }
+  }
+
+  private void endStage(long now) {
+    if (stage == null) {
+      return;
+    }
+    if (timing != null) {
+      timing.record(stage, now - stageStart);
+    }
+    if (stageEvent != null) {
+      stageEvent.end();
+      stageEvent.stage = stage;
+      stageEvents.add(stageEvent);
+      stageEvent = null;
+    }
+    stage = null;
+  }
+}
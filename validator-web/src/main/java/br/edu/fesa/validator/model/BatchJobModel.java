@@ -0,0 +1,50 @@
+package br.edu.fesa.validator.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Represents the progress of an asynchronous batch validation job. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobModel {
+  /** Lifecycle of a batch job. */
+  public enum Status {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    /** Indicates if the job will not make further progress */
+    public boolean isFinished() {
+      return this != QUEUED && this != RUNNING;
+    }
+  }
+
+  /** Identifier used to poll the job */
+  private String id;
+
+  /** Current status of the job */
+  private Status status;
+
+  /** Number of documents in the batch, or null until the job starts and counts them */
+  private Integer total;
+
+  /** Number of documents validated so far */
+  private int processed;
+
+  /** Number of valid documents so far */
+  private int valid;
+
+  /** Number of invalid documents so far */
+  private int invalid;
+
+  /** When the job was submitted */
+  private Instant submittedAt;
+
+  /** When the job finished, or null while it is queued or running */
+  private Instant finishedAt;
+}
@@ -0,0 +1,27 @@
+package br.edu.fesa.validator.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Represents one page of the results of a completed batch job. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobPageModel {
+  /** Identifier of the job */
+  private String jobId;
+
+  /** Zero-based page number */
+  private int page;
+
+  /** Maximum number of results per page */
+  private int size;
+
+  /** Number of results in the whole job */
+  private int totalResults;
+
+  /** Results of this page, in input order */
+  private List<DocumentResultModel> results;
+}
@@ -0,0 +1,24 @@
+package br.edu.fesa.validator.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Represents the results of a deduplicated batch validation. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultModel {
+  /** Results for every line of the batch, in input order */
+  private List<DocumentResultModel> results;
+
+  /** Number of documents in the batch */
+  private int documents;
+
+  /** Number of documents actually validated after deduplication */
+  private int distinctDocuments;
+
+  /** Share of the batch answered from an earlier line with the same document number */
+  private double duplicateRatio;
+}
@@ -0,0 +1,44 @@
+package br.edu.fesa.validator.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Represents one page of the stored results of a batch validated through the web interface. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultPageModel {
+  /** Identifier of the stored batch */
+  private String batchId;
+
+  /** Results listed by the page */
+  private ResultFilter filter;
+
+  /** Zero-based page number */
+  private int page;
+
+  /** Maximum number of results per page */
+  private int size;
+
+  /** Number of results in the whole batch */
+  private int totalResults;
+
+  /** Number of results in the whole batch that match the filter */
+  private int matchingResults;
+
+  /** Number of valid documents in the whole batch */
+  private int valid;
+
+  /** Number of invalid documents in the whole batch */
+  private int invalid;
+
+  /** Results of this page, in input order */
+  private List<DocumentResultModel> results;
+
+  /** Number of pages of results matching the filter */
+  public int getTotalPages() {
+    return (int) (((long) matchingResults + size - 1) / size);
+  }
+}
@@ -0,0 +1,20 @@
+package br.edu.fesa.validator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Describes the layout of an uploaded file whose rows hold one document in a chosen column. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DelimitedFormatModel {
+  /** Field separator, or {@code '\0'} for plain files holding one document per line */
+  private char delimiter;
+
+  /** Whether the first row is a header naming the columns */
+  private boolean header;
+
+  /** Zero-based index or header name of the column holding the documents */
+  private String column;
+}
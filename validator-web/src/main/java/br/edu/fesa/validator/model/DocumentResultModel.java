@@ -0,0 +1,55 @@
+package br.edu.fesa.validator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the result of a document validation process. The outcome is kept as a {@link
+ * DocumentVerdict} flag word; the individual flags and the message are derived from it on demand.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentResultModel {
+  /** The original document number */
+  private String document;
+
+  /** Validation flags packed as a {@link DocumentVerdict} word */
+  private int verdict;
+
+  /** Overall validation status */
+  public boolean isValidated() {
+    return DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED);
+  }
+
+  /** Indicates if document format is valid */
+  public boolean isValidFormat() {
+    return DocumentVerdict.has(verdict, DocumentVerdict.VALID_FORMAT);
+  }
+
+  /** Indicates if document has repeated digits */
+  public boolean isRepeatedDigits() {
+    return DocumentVerdict.has(verdict, DocumentVerdict.REPEATED_DIGITS);
+  }
+
+  /** Indicates if check digits are valid */
+  public boolean isCheckDigitsValid() {
+    return DocumentVerdict.has(verdict, DocumentVerdict.CHECK_DIGITS_VALID);
+  }
+
+  /** Indicates if the CPF was rejected by the CPF list */
+  public boolean isBlocked() {
+    return DocumentVerdict.has(verdict, DocumentVerdict.BLOCKED);
+  }
+
+  /** Detected document type ("CPF", "RG" or "CNPJ"), or null when the format was not recognized */
+  public String getType() {
+    return DocumentVerdict.type(verdict);
+  }
+
+  /** Validation message for user feedback */
+  public String getMessage() {
+    return DocumentVerdict.message(verdict);
+  }
+}
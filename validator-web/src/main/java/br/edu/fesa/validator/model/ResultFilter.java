@@ -0,0 +1,25 @@
+package br.edu.fesa.validator.model;
+
+/** Selects which results of a stored batch are listed when paging through it. */
+public enum ResultFilter {
+  ALL,
+  VALID,
+  INVALID;
+
+  /**
+   * Checks whether a result is listed by the filter.
+   *
+   * @param verdict the {@link DocumentVerdict} word of the result
+   * @return true if the result is listed
+   */
+  public boolean matches(int verdict) {
+    switch (this) {
+      case VALID:
+        return DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED);
+      case INVALID:
+        return !DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED);
+      default:
+        return true;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package br.edu.fesa.validator.reactive;
+
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.service.DocumentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive counterpart of the streaming API: documents arrive as a {@code Flux<String>} of lines
+ * (plain text, or NDJSON whose values are strings or {@code {"document": ...}} objects) and
+ * results leave as an NDJSON stream. Lines are only requested from the connection as results are
+ * written, so a slow client slows its upload instead of filling memory, and validation runs on a
+ * bounded scheduler so the event loops only move bytes.
+ */
+@Component
+@ConditionalOnProperty(name = "validator.reactive.enabled", havingValue = "true")
+public class ReactiveDocumentHandler {
+
+  /** Results validated ahead of the client's demand. */
+  static final int PREFETCH = 256;
+
+  private final DocumentService documentService;
+  private final ObjectMapper objectMapper;
+  private final Scheduler validationScheduler;
+
+  /**
+   * Creates the handler.
+   *
+   * @param documentService the document validation service
+   * @param objectMapper parses NDJSON lines
+   * @param threads validation threads, or 0 for one per available processor
+   */
+  @Autowired
+  public ReactiveDocumentHandler(
+      DocumentService documentService,
+      ObjectMapper objectMapper,
+      @Value("${validator.reactive.validation-threads:0}") int threads) {
+    this.documentService = documentService;
+    this.objectMapper = objectMapper;
+    this.validationScheduler =
+        Schedulers.newParallel(
+            "validator-reactive",
+            threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+  }
+
+  /** Stops the validation threads when the application shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    validationScheduler.dispose();
+  }
+
+  /**
+   * Returns the routes of the reactive API.
+   *
+   * @return {@code POST /api/reactive/validate}
+   */
+  public RouterFunction<ServerResponse> route() {
+    return RouterFunctions.route().POST("/api/reactive/validate", this::validate).build();
+  }
+
+  /**
+   * Validates a streamed body of documents, one per line.
+   *
+   * @param request a text/plain or application/x-ndjson request
+   * @return an NDJSON stream with one result per non-blank line
+   */
+  Mono<ServerResponse> validate(ServerRequest request) {
+    boolean ndjson =
+        request
+            .headers()
+            .contentType()
+            .map(MediaType.APPLICATION_NDJSON::isCompatibleWith)
+            .orElse(false);
+
+    Flux<DocumentResultModel> results =
+        request
+            .bodyToFlux(String.class)
+            .map(String::trim)
+            .filter(line -> !line.isEmpty())
+            .map(line -> ndjson ? documentOf(line) : line)
+            .publishOn(validationScheduler, PREFETCH)
+            .map(documentService::validateDocument);
+
+    return ServerResponse.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(results, DocumentResultModel.class);
+  }
+
+  private String documentOf(String line) {
+    try {
+      JsonNode node = objectMapper.readTree(line);
+      JsonNode document = node.isTextual() ? node : node.path("document");
+      if (!document.isTextual()) {
+        throw new ServerWebInputException("Linha NDJSON sem documento: " + line);
+      }
+      return document.asText();
+    } catch (JsonProcessingException e) {
+      throw new ServerWebInputException("Linha NDJSON inválida: " + line);
+    }
+  }
+}
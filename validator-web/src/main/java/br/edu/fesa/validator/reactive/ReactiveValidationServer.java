@@ -0,0 +1,85 @@
+package br.edu.fesa.validator.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Serves the {@link ReactiveDocumentHandler} routes on their own Reactor Netty server, next to
+ * the servlet container that keeps serving the blocking controllers. A small, fixed number of
+ * event-loop threads handles every connection, however many long-lived streams are open.
+ */
+@Component
+@ConditionalOnProperty(name = "validator.reactive.enabled", havingValue = "true")
+public class ReactiveValidationServer implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(ReactiveValidationServer.class);
+
+  private final ReactiveDocumentHandler handler;
+  private final int port;
+  private final int eventLoopThreads;
+  private LoopResources loops;
+  private DisposableServer server;
+
+  /**
+   * Creates the server.
+   *
+   * @param handler the reactive routes
+   * @param port the port to listen on, or 0 for any free port
+   * @param eventLoopThreads event-loop threads, or 0 for one per available processor
+   */
+  @Autowired
+  public ReactiveValidationServer(
+      ReactiveDocumentHandler handler,
+      @Value("${validator.reactive.port:8081}") int port,
+      @Value("${validator.reactive.event-loop-threads:0}") int eventLoopThreads) {
+    this.handler = handler;
+    this.port = port;
+    this.eventLoopThreads =
+        eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+  }
+
+  @Override
+  public synchronized void start() {
+    loops = LoopResources.create("validator-reactive-loop", eventLoopThreads, true);
+    server =
+        HttpServer.create()
+            .port(port)
+            .runOn(loops)
+            .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(handler.route())))
+            .bindNow();
+    log.info("Servidor reativo ouvindo na porta {}", server.port());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (server != null) {
+      server.disposeNow();
+      loops.disposeLater().block();
+      server = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * Returns the port the server is bound to.
+   *
+   * @return the bound port, or -1 when not running
+   */
+  public synchronized int getPort() {
+    return server == null ? -1 : server.port();
+  }
+}
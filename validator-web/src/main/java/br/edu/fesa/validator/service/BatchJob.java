@@ -0,0 +1,170 @@
+package br.edu.fesa.validator.service;
+
+import br.edu.fesa.validator.model.BatchJobModel;
+import br.edu.fesa.validator.model.BatchJobModel.Status;
+import br.edu.fesa.validator.model.BatchJobPageModel;
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.model.DocumentVerdict;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+/**
+ * A batch validation job. Results are kept compactly as the original text, the bounds of its
+ * lines and one verdict byte per document; result objects are only built for the requested page.
+ */
+class BatchJob implements Runnable {
+
+  // Documents validated between progress updates and cancellation checks
+  private static final int SLICE_SIZE = 4096;
+
+  private final String id = UUID.randomUUID().toString();
+  private final Instant submittedAt = Instant.now();
+  private final String documents;
+  private final DocumentService documentService;
+
+  // Written by the worker thread only, read by pollers; null until the lines are counted
+  private volatile int[] lines;
+  private volatile byte[] verdicts;
+  private volatile Status status = Status.QUEUED;
+  private volatile int processed;
+  private volatile int valid;
+  private volatile Instant finishedAt;
+  private volatile boolean cancelled;
+
+  private Future<?> future;
+
+  BatchJob(String documents, DocumentService documentService) {
+    this.documents = documents;
+    this.documentService = documentService;
+  }
+
+  String getId() {
+    return id;
+  }
+
+  void setFuture(Future<?> future) {
+    this.future = future;
+  }
+
+  @Override
+  public void run() {
+    if (!start()) {
+      return;
+    }
+
+    try {
+      int[] bounds = DocumentService.lineBounds(documents);
+      byte[] results = new byte[bounds.length / 2];
+      lines = bounds;
+      verdicts = results;
+
+      int validCount = 0;
+      for (int from = 0; from < results.length; from += SLICE_SIZE) {
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+          finish(Status.CANCELLED);
+          return;
+        }
+
+        int to = Math.min(results.length, from + SLICE_SIZE);
+        for (int i = from; i < to; i++) {
+          results[i] = (byte) documentService.verdict(documents, bounds[2 * i], bounds[2 * i + 1]);
+          if (DocumentVerdict.has(results[i], DocumentVerdict.VALIDATED)) {
+            validCount++;
+          }
+        }
+        valid = validCount;
+        processed = to;
+      }
+
+      finish(Status.COMPLETED);
+    } catch (RuntimeException e) {
+      finish(Status.FAILED);
+      throw e;
+    }
+  }
+
+  /** Stops the job; a queued job never starts and a running job stops at the next slice. */
+  synchronized void cancel() {
+    if (status.isFinished()) {
+      return;
+    }
+    cancelled = true;
+    if (future != null) {
+      future.cancel(false);
+    }
+    if (status == Status.QUEUED) {
+      finish(Status.CANCELLED);
+    }
+  }
+
+  private synchronized boolean start() {
+    if (status != Status.QUEUED) {
+      return false;
+    }
+    status = Status.RUNNING;
+    return true;
+  }
+
+  private synchronized void finish(Status finalStatus) {
+    if (!status.isFinished()) {
+      status = finalStatus;
+      finishedAt = Instant.now();
+    }
+  }
+
+  /**
+   * Indicates if the job finished before the given instant.
+   *
+   * @param instant the instant to compare with
+   * @return true if the job is finished and its finish time precedes the instant
+   */
+  boolean finishedBefore(Instant instant) {
+    Instant finished = finishedAt;
+    return finished != null && finished.isBefore(instant);
+  }
+
+  boolean isCompleted() {
+    return status == Status.COMPLETED;
+  }
+
+  BatchJobModel toModel() {
+    byte[] results = verdicts;
+    int done = processed;
+    int validCount = valid;
+    return new BatchJobModel(
+        id,
+        status,
+        results == null ? null : results.length,
+        done,
+        validCount,
+        done - validCount,
+        submittedAt,
+        finishedAt);
+  }
+
+  /**
+   * Builds one page of results of a completed job.
+   *
+   * @param page zero-based page number
+   * @param size maximum number of results per page
+   * @return the page, empty when past the last result
+   */
+  BatchJobPageModel page(int page, int size) {
+    int[] bounds = lines;
+    byte[] results = verdicts;
+    int from = (int) Math.min((long) page * size, results.length);
+    int to = Math.min(from + size, results.length);
+
+    List<DocumentResultModel> pageResults = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      pageResults.add(
+          new DocumentResultModel(
+              documents.substring(bounds[2 * i], bounds[2 * i + 1]), results[i]));
+    }
+
+    return new BatchJobPageModel(id, page, size, results.length, pageResults);
+  }
+}
@@ -0,0 +1,144 @@
+package br.edu.fesa.validator.service;
+
+import br.edu.fesa.validator.model.BatchJobModel;
+import br.edu.fesa.validator.model.BatchJobPageModel;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class running batch validations as asynchronous jobs on a bounded executor, so that long
+ * batches do not hold request threads. Finished jobs are evicted once their time to live expires.
+ */
+@Service
+public class BatchJobService {
+
+  private final DocumentService documentService;
+  private final ThreadPoolExecutor executor;
+  private final ScheduledExecutorService evictor;
+  private final Duration ttl;
+  private final Map<String, BatchJob> jobs = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the job service.
+   *
+   * @param documentService the service validating each document
+   * @param threads number of jobs running at the same time
+   * @param queueCapacity number of jobs waiting for a thread before submissions are rejected
+   * @param ttl how long finished jobs and their results are kept
+   */
+  @Autowired
+  public BatchJobService(
+      DocumentService documentService,
+      @Value("${validator.jobs.threads:2}") int threads,
+      @Value("${validator.jobs.queue-capacity:16}") int queueCapacity,
+      @Value("${validator.jobs.ttl:30m}") Duration ttl) {
+    this.documentService = documentService;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+    this.ttl = ttl;
+    this.evictor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "batch-job-evictor");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    long period = Math.max(1, Math.min(ttl.toSeconds(), 60));
+    evictor.scheduleAtFixedRate(this::evictExpired, period, period, TimeUnit.SECONDS);
+  }
+
+  /** Stops the job threads when the application shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    evictor.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  /**
+   * Submits a batch of newline-separated documents for asynchronous validation.
+   *
+   * @param documents a string containing multiple documents separated by newline
+   * @return the status of the new job
+   * @throws RejectedExecutionException if the job queue is full
+   */
+  public BatchJobModel submit(String documents) {
+    BatchJob job = new BatchJob(documents, documentService);
+    jobs.put(job.getId(), job);
+
+    try {
+      job.setFuture(executor.submit(job));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      throw e;
+    }
+
+    return job.toModel();
+  }
+
+  /**
+   * Returns the progress of a job.
+   *
+   * @param id the job identifier
+   * @return the job status, or empty if the job does not exist or was evicted
+   */
+  public Optional<BatchJobModel> status(String id) {
+    return Optional.ofNullable(jobs.get(id)).map(BatchJob::toModel);
+  }
+
+  /**
+   * Returns one page of the results of a completed job.
+   *
+   * @param id the job identifier
+   * @param page zero-based page number
+   * @param size maximum number of results per page
+   * @return the page, or empty if the job does not exist or was evicted
+   * @throws IllegalStateException if the job has not completed
+   */
+  public Optional<BatchJobPageModel> results(String id, int page, int size) {
+    BatchJob job = jobs.get(id);
+    if (job == null) {
+      return Optional.empty();
+    }
+    if (!job.isCompleted()) {
+      throw new IllegalStateException("O lote " + id + " não foi concluído");
+    }
+    return Optional.of(job.page(page, size));
+  }
+
+  /**
+   * Cancels a queued or running job. Finished jobs are left untouched.
+   *
+   * @param id the job identifier
+   * @return the job status, or empty if the job does not exist or was evicted
+   */
+  public Optional<BatchJobModel> cancel(String id) {
+    BatchJob job = jobs.get(id);
+    if (job == null) {
+      return Optional.empty();
+    }
+    job.cancel();
+    executor.purge();
+    return Optional.of(job.toModel());
+  }
+
+  /** Removes the jobs that finished longer than the time to live ago. */
+  void evictExpired() {
+    Instant expiry = Instant.now().minus(ttl);
+    jobs.values().removeIf(job -> job.finishedBefore(expiry));
+  }
+}
@@ -0,0 +1,394 @@
+package br.edu.fesa.validator.service;
+
+import br.edu.fesa.validator.model.BatchResultPageModel;
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.model.DocumentVerdict;
+import br.edu.fesa.validator.model.ResultFilter;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Service class keeping the results of batches validated through the web interface on the server,
+ * so that pages can be served on demand instead of copying whole result lists into the session.
+ *
+ * <p>Each batch is encoded once into a compact block: the UTF-8 text of its documents, their
+ * offsets and one verdict byte per document. Blocks stay on the heap while their total size fits
+ * the memory budget; beyond it they are written to a file in the spill directory and mapped
+ * read-only, so they live outside the heap. Batches are dropped after their time to live, or
+ * oldest first when too many are stored.
+ */
+@Service
+public class BatchResultStore {
+
+  private static final Logger log = LoggerFactory.getLogger(BatchResultStore.class);
+
+  // Documents per entry of the valid-count index used to find the first result of a page
+  private static final int INDEX_BLOCK = 4096;
+
+  private final DocumentService documentService;
+  private final long maxMemory;
+  private final Path spillDirectory;
+  private final Duration ttl;
+  private final int maxBatches;
+  private final ScheduledExecutorService evictor;
+  private final Map<String, StoredBatch> batches = new ConcurrentHashMap<>();
+  private final AtomicLong heapBytes = new AtomicLong();
+
+  /**
+   * Creates the result store.
+   *
+   * @param documentService the service validating each document
+   * @param maxMemory total size of the batches kept on the heap before new ones are spilled
+   * @param spillDirectory directory of the spilled batches, or empty for a temporary directory
+   * @param ttl how long a batch is kept after it is stored
+   * @param maxBatches number of batches kept before the oldest are dropped
+   */
+  @Autowired
+  public BatchResultStore(
+      DocumentService documentService,
+      @Value("${validator.results.max-memory:64MB}") DataSize maxMemory,
+      @Value("${validator.results.spill-directory:}") String spillDirectory,
+      @Value("${validator.results.ttl:30m}") Duration ttl,
+      @Value("${validator.results.max-batches:1000}") int maxBatches) {
+    this.documentService = documentService;
+    this.maxMemory = maxMemory.toBytes();
+    this.ttl = ttl;
+    this.maxBatches = maxBatches;
+    try {
+      this.spillDirectory =
+          spillDirectory.isBlank()
+              ? Files.createTempDirectory("validator-results")
+              : Files.createDirectories(Path.of(spillDirectory));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.evictor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "batch-result-evictor");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    long period = Math.max(1, Math.min(ttl.toSeconds(), 60));
+    evictor.scheduleAtFixedRate(this::evictExpired, period, period, TimeUnit.SECONDS);
+  }
+
+  /** Stops the evictor and deletes the spilled batches when the application shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    evictor.shutdownNow();
+    batches.keySet().forEach(this::remove);
+  }
+
+  /**
+   * Validates a batch of newline-separated documents and stores its results.
+   *
+   * @param documents a string containing multiple documents separated by newline
+   * @return the identifier of the stored batch
+   * @throws UncheckedIOException if the batch had to be spilled and the file cannot be written
+   */
+  public String save(String documents) {
+    int[] lines = DocumentService.lineBounds(documents);
+    byte[] verdicts = documentService.verdicts(documents, lines);
+    byte[] block = encode(documents, lines, verdicts);
+
+    int count = verdicts.length;
+    int[] validBefore = new int[(count + INDEX_BLOCK - 1) / INDEX_BLOCK];
+    int valid = 0;
+    for (int i = 0; i < count; i++) {
+      if (i % INDEX_BLOCK == 0) {
+        validBefore[i / INDEX_BLOCK] = valid;
+      }
+      if (DocumentVerdict.has(verdicts[i], DocumentVerdict.VALIDATED)) {
+        valid++;
+      }
+    }
+
+    StoredBatch batch;
+    if (heapBytes.addAndGet(block.length) <= maxMemory) {
+      batch =
+          new StoredBatch(ByteBuffer.wrap(block), null, block.length, count, valid, validBefore);
+    } else {
+      heapBytes.addAndGet(-block.length);
+      Path file = spill(block);
+      batch = new StoredBatch(map(file), file, 0, count, valid, validBefore);
+    }
+
+    String id = UUID.randomUUID().toString();
+    batches.put(id, batch);
+    evictOldest();
+    return id;
+  }
+
+  /**
+   * Returns one page of the results of a stored batch.
+   *
+   * @param id the batch identifier
+   * @param filter the results to list
+   * @param page zero-based page number among the results matching the filter
+   * @param size maximum number of results per page
+   * @return the page, or empty if the batch does not exist or was dropped
+   */
+  public Optional<BatchResultPageModel> page(String id, ResultFilter filter, int page, int size) {
+    StoredBatch batch = batches.get(id);
+    if (batch == null) {
+      return Optional.empty();
+    }
+
+    int matching =
+        filter == ResultFilter.VALID
+            ? batch.valid
+            : filter == ResultFilter.INVALID ? batch.count - batch.valid : batch.count;
+    int skip = (int) Math.min((long) page * size, matching);
+    int taken = Math.min(size, matching - skip);
+
+    List<DocumentResultModel> results = new ArrayList<>(taken);
+    for (int i = batch.indexOfMatch(filter, skip); results.size() < taken; i++) {
+      int verdict = batch.verdict(i);
+      if (filter.matches(verdict)) {
+        results.add(new DocumentResultModel(batch.document(i), verdict));
+      }
+    }
+
+    return Optional.of(
+        new BatchResultPageModel(
+            id,
+            filter,
+            page,
+            size,
+            batch.count,
+            matching,
+            batch.valid,
+            batch.count - batch.valid,
+            results));
+  }
+
+  /**
+   * Returns the total size of the batches held on the heap.
+   *
+   * @return the size in bytes
+   */
+  long heapBytes() {
+    return heapBytes.get();
+  }
+
+  /**
+   * Indicates whether a batch was spilled to a file.
+   *
+   * @param id the batch identifier
+   * @return true if the batch exists and lives in a file
+   */
+  boolean isSpilled(String id) {
+    StoredBatch batch = batches.get(id);
+    return batch != null && batch.file != null;
+  }
+
+  /** Removes the batches stored longer than the time to live ago. */
+  void evictExpired() {
+    Instant expiry = Instant.now().minus(ttl);
+    batches.entrySet().stream()
+        .filter(entry -> entry.getValue().storedAt.isBefore(expiry))
+        .map(Map.Entry::getKey)
+        .forEach(this::remove);
+  }
+
+  /** Removes the oldest batches while more than the maximum number are stored. */
+  private void evictOldest() {
+    while (batches.size() > maxBatches) {
+      batches.entrySet().stream()
+          .min(Comparator.comparing(entry -> entry.getValue().storedAt))
+          .map(Map.Entry::getKey)
+          .ifPresent(this::remove);
+    }
+  }
+
+  private void remove(String id) {
+    StoredBatch batch = batches.remove(id);
+    if (batch == null) {
+      return;
+    }
+    heapBytes.addAndGet(-batch.heapBytes);
+    if (batch.file != null) {
+      try {
+        // Pages already served keep their strings; the mapping is released by the collector
+        Files.deleteIfExists(batch.file);
+      } catch (IOException e) {
+        log.warn("Falha ao remover o arquivo de resultados {}", batch.file, e);
+      }
+    }
+  }
+
+  private Path spill(byte[] block) {
+    try {
+      Path file = Files.createTempFile(spillDirectory, "batch-", ".results");
+      Files.write(file, block);
+      return file;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ByteBuffer map(Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Encodes a batch as the count of documents, the offsets of each document within the text
+   * (count + 1 ints), one verdict byte per document and the UTF-8 text of the documents.
+   */
+  private static byte[] encode(CharSequence documents, int[] lines, byte[] verdicts) {
+    int count = verdicts.length;
+    byte[] text = new byte[Math.max(16, documents.length())];
+    int[] offsets = new int[count + 1];
+    int length = 0;
+
+    for (int i = 0; i < count; i++) {
+      int start = lines[2 * i];
+      int end = lines[2 * i + 1];
+      byte[] encoded = null;
+      for (int c = start; c < end; c++) {
+        if (documents.charAt(c) >= 0x80) {
+          encoded = documents.subSequence(start, end).toString().getBytes(StandardCharsets.UTF_8);
+          break;
+        }
+      }
+      int size = encoded == null ? end - start : encoded.length;
+      if (length + size > text.length) {
+        text = Arrays.copyOf(text, Math.max(text.length * 2, length + size));
+      }
+      if (encoded == null) {
+        for (int c = start; c < end; c++) {
+          text[length++] = (byte) documents.charAt(c);
+        }
+      } else {
+        System.arraycopy(encoded, 0, text, length, encoded.length);
+        length += encoded.length;
+      }
+      offsets[i + 1] = length;
+    }
+
+    ByteBuffer block = ByteBuffer.allocate(4 + 4 * (count + 1) + count + length);
+    block.putInt(count);
+    for (int offset : offsets) {
+      block.putInt(offset);
+    }
+    block.put(verdicts).put(text, 0, length);
+    return block.array();
+  }
+
+  /** A stored batch in the layout written by {@link #encode}, on the heap or mapped from a file. */
+  private static final class StoredBatch {
+    final ByteBuffer block;
+    final Path file;
+    final long heapBytes;
+    final int count;
+    final int valid;
+    final int[] validBefore;
+    final Instant storedAt = Instant.now();
+    final int verdictsAt;
+    final int textAt;
+
+    StoredBatch(
+        ByteBuffer block, Path file, long heapBytes, int count, int valid, int[] validBefore) {
+      this.block = block;
+      this.file = file;
+      this.heapBytes = heapBytes;
+      this.count = count;
+      this.valid = valid;
+      this.validBefore = validBefore;
+      this.verdictsAt = 4 + 4 * (count + 1);
+      this.textAt = verdictsAt + count;
+    }
+
+    int verdict(int index) {
+      return block.get(verdictsAt + index);
+    }
+
+    String document(int index) {
+      int start = block.getInt(4 + 4 * index);
+      int end = block.getInt(4 + 4 * (index + 1));
+      byte[] bytes = new byte[end - start];
+      block.get(textAt + start, bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Number of results matching the filter before the first document of an index block. */
+    private int matchesBefore(ResultFilter filter, int indexBlock) {
+      switch (filter) {
+        case VALID:
+          return validBefore[indexBlock];
+        case INVALID:
+          return indexBlock * INDEX_BLOCK - validBefore[indexBlock];
+        default:
+          return indexBlock * INDEX_BLOCK;
+      }
+    }
+
+    /**
+     * Finds the document holding a result, skipping whole index blocks and scanning the verdicts
+     * of one block at most.
+     *
+     * @param filter the results counted
+     * @param skip the number of matching results before the wanted one
+     * @return the index of the wanted result
+     */
+    int indexOfMatch(ResultFilter filter, int skip) {
+      if (validBefore.length == 0) {
+        return 0;
+      }
+      int low = 0;
+      int high = validBefore.length - 1;
+      while (low < high) {
+        int middle = (low + high + 1) >>> 1;
+        if (matchesBefore(filter, middle) <= skip) {
+          low = middle;
+        } else {
+          high = middle - 1;
+        }
+      }
+
+      int index = low * INDEX_BLOCK;
+      for (int seen = matchesBefore(filter, low); index < count; index++) {
+        if (filter.matches(verdict(index))) {
+          if (seen == skip) {
+            break;
+          }
+          seen++;
+        }
+      }
+      return index;
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package br.edu.fesa.validator.service;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import br.edu.fesa.validator.utils.AsciiText;
+import br.edu.fesa.validator.utils.CpfBitmap;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects otherwise valid CPFs according to a list mapped from a {@link CpfBitmap} file. In block
+ * mode listed CPFs are rejected; in allow mode every CPF that is not listed is. Either way the
+ * verdict loses {@link DocumentVerdict#VALIDATED} and gains {@link DocumentVerdict#BLOCKED}.
+ *
+ * <p>The file is polled for changes and a new version is mapped next to the current one, then
+ * swapped in with a single volatile write: validations in flight finish on the old list and none
+ * waits for the reload. Replace the file by renaming a complete one over it, as {@link
+ * CpfBitmap#write} does.
+ */
+@Component
+public class CpfBlocklist {
+
+  private static final Logger log = LoggerFactory.getLogger(CpfBlocklist.class);
+
+  private final Path file;
+  private final boolean allowlist;
+  private final ScheduledExecutorService reloader;
+
+  private volatile CpfBitmap bitmap;
+  private Object loadedVersion;
+
+  /**
+   * Creates the list and maps its file, if one is configured.
+   *
+   * @param file the bitmap file, or empty to disable the list
+   * @param mode "block" to reject listed CPFs, "allow" to reject unlisted ones
+   * @param reloadInterval how often the file is checked for a new version, or zero to never reload
+   * @throws UncheckedIOException if the configured file cannot be mapped
+   */
+  @Autowired
+  public CpfBlocklist(
+      @Value("${validator.blocklist.file:}") String file,
+      @Value("${validator.blocklist.mode:block}") String mode,
+      @Value("${validator.blocklist.reload-interval:30s}") Duration reloadInterval) {
+    if (!mode.equalsIgnoreCase("block") && !mode.equalsIgnoreCase("allow")) {
+      throw new IllegalArgumentException("Modo de lista inválido: " + mode);
+    }
+    this.file = file.isBlank() ? null : Path.of(file);
+    this.allowlist = mode.equalsIgnoreCase("allow");
+
+    if (this.file == null) {
+      reloader = null;
+      return;
+    }
+    try {
+      reload();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    if (reloadInterval.isZero()) {
+      reloader = null;
+      return;
+    }
+    reloader =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "cpf-blocklist-reload");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long millis = reloadInterval.toMillis();
+    reloader.scheduleWithFixedDelay(this::reloadQuietly, millis, millis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates a list that rejects nothing, for services built outside the application context.
+   *
+   * @return a disabled list
+   */
+  public static CpfBlocklist disabled() {
+    return new CpfBlocklist("", "block", Duration.ZERO);
+  }
+
+  /** Stops polling the file when the application shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    if (reloader != null) {
+      reloader.shutdownNow();
+    }
+  }
+
+  /**
+   * Indicates whether a list file is configured.
+   *
+   * @return true if CPFs are checked against a list
+   */
+  public boolean isEnabled() {
+    return file != null;
+  }
+
+  /**
+   * Returns the number of CPF bases in the current list.
+   *
+   * @return the number of entries, or 0 when disabled
+   */
+  public long size() {
+    CpfBitmap current = bitmap;
+    return current == null ? 0 : current.size();
+  }
+
+  /**
+   * Maps the list file again if it changed since it was last mapped, and swaps it in.
+   *
+   * @return true if a new version was mapped
+   * @throws IOException if the file cannot be mapped; the current list is kept
+   */
+  public synchronized boolean reload() throws IOException {
+    if (file == null) {
+      return false;
+    }
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    Object version =
+        attributes.fileKey() != null
+            ? attributes.fileKey() + "@" + attributes.lastModifiedTime()
+            : attributes.lastModifiedTime();
+    if (version.equals(loadedVersion)) {
+      return false;
+    }
+
+    CpfBitmap mapped = CpfBitmap.map(file);
+    bitmap = mapped;
+    loadedVersion = version;
+    log.info("Lista de CPFs carregada de {}: {} entradas", file, mapped.size());
+    return true;
+  }
+
+  private void reloadQuietly() {
+    try {
+      reload();
+    } catch (IOException | RuntimeException e) {
+      log.warn("Falha ao recarregar a lista de CPFs de {}; a lista atual foi mantida", file, e);
+    }
+  }
+
+  /**
+   * Applies the list to the verdict of the document held in a range of a text. Only validated
+   * CPFs are looked up; any other verdict is returned unchanged.
+   *
+   * @param verdict the {@link DocumentVerdict} word of the document
+   * @param text the characters holding the document
+   * @param start the index of the first character of the document
+   * @param end the index after the last character of the document
+   * @return the verdict, blocked if the list rejects the CPF
+   */
+  public int apply(int verdict, CharSequence text, int start, int end) {
+    return applyText(verdict, text, start, end);
+  }
+
+  /**
+   * Applies the list to the verdict of the ASCII document held in a range of a byte array, see
+   * {@link #apply(int, CharSequence, int, int)}.
+   *
+   * @param verdict the {@link DocumentVerdict} word of the document
+   * @param bytes the bytes holding the document
+   * @param start the index of the first byte of the document
+   * @param end the index after the last byte of the document
+   * @return the verdict, blocked if the list rejects the CPF
+   */
+  public int apply(int verdict, byte[] bytes, int start, int end) {
+    return applyText(verdict, bytes, start, end);
+  }
+
+  /**
+   * Applies the list to the verdict of the ASCII document held in a range of a byte buffer, see
+   * {@link #apply(int, CharSequence, int, int)}.
+   *
+   * @param verdict the {@link DocumentVerdict} word of the document
+   * @param buffer the bytes holding the document
+   * @param start the index of the first byte of the document
+   * @param end the index after the last byte of the document
+   * @return the verdict, blocked if the list rejects the CPF
+   */
+  public int apply(int verdict, ByteBuffer buffer, int start, int end) {
+    return applyText(verdict, buffer, start, end);
+  }
+
+  private int applyText(int verdict, Object text, int start, int end) {
+    CpfBitmap current = bitmap;
+    if (current == null || !isValidatedCpf(verdict)) {
+      return verdict;
+    }
+
+    long cpf = 0;
+    int kind = AsciiText.kind(text);
+    for (int i = start; i < end; i++) {
+      char c = AsciiText.charAt(text, kind, i);
+      if (c >= '0' && c <= '9') {
+        cpf = cpf * 10 + (c - '0');
+      }
+    }
+    return current.contains(cpf) != allowlist ? block(verdict) : verdict;
+  }
+
+  private static boolean isValidatedCpf(int verdict) {
+    return (verdict & (DocumentVerdict.VALIDATED | DocumentVerdict.TYPE_MASK))
+        == (DocumentVerdict.VALIDATED | DocumentVerdict.TYPE_CPF);
+  }
+
+  private static int block(int verdict) {
+    return (verdict & ~DocumentVerdict.VALIDATED) | DocumentVerdict.BLOCKED;
+  }
+}
@@ -0,0 +1,808 @@
+package br.edu.fesa.validator.service;
+
+import br.edu.fesa.validator.diagnostics.ValidationTrace;
+import br.edu.fesa.validator.model.BatchResultModel;
+import br.edu.fesa.validator.model.DelimitedFormatModel;
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.model.DocumentVerdict;
+import br.edu.fesa.validator.model.ResultFormat;
+import br.edu.fesa.validator.service.ValidationMetrics.BatchMode;
+import br.edu.fesa.validator.upload.DelimitedQuotes;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import br.edu.fesa.validator.utils.DocumentValidator;
+import br.edu.fesa.validator.utils.LongIntHashMap;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/** Service class for validating documents. */
+@Service
+public class DocumentService {
+
+  /** Longest line kept by {@link #validateStream}; no valid document comes close to it. */
+  public static final int MAX_LINE_LENGTH = 1024;
+
+  /** Longest row kept by {@link #validateColumn}, line breaks inside quoted fields included. */
+  public static final int MAX_ROW_LENGTH = 1 << 20;
+
+  /** Default number of documents below which batches are validated sequentially. */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+  private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  private final DocumentScanner documentScanner;
+  private final ValidationMetrics metrics;
+  private final CpfBlocklist blocklist;
+  private final ForkJoinPool batchPool;
+  private final int parallelThreshold;
+
+  /**
+   * Creates a service that validates large batches on one thread per available processor.
+   *
+   * @param documentScanner the single-pass document validator
+   */
+  public DocumentService(DocumentScanner documentScanner) {
+    this(documentScanner, 0, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Creates a service with explicit batch parallelism settings and no metrics.
+   *
+   * @param documentScanner the single-pass document validator
+   * @param parallelism threads used for large batches, or 0 for one per available processor
+   * @param parallelThreshold number of documents below which batches are validated sequentially
+   */
+  public DocumentService(DocumentScanner documentScanner, int parallelism, int parallelThreshold) {
+    this(documentScanner, ValidationMetrics.disabled(), parallelism, parallelThreshold);
+  }
+
+  /**
+   * Creates a service with explicit batch parallelism settings and no CPF list.
+   *
+   * @param documentScanner the single-pass document validator
+   * @param metrics the validation metrics
+   * @param parallelism threads used for large batches, or 0 for one per available processor
+   * @param parallelThreshold number of documents below which batches are validated sequentially
+   */
+  public DocumentService(
+      DocumentScanner documentScanner,
+      ValidationMetrics metrics,
+      int parallelism,
+      int parallelThreshold) {
+    this(documentScanner, metrics, CpfBlocklist.disabled(), parallelism, parallelThreshold);
+  }
+
+  /**
+   * Creates a service with explicit batch parallelism settings.
+   *
+   * @param documentScanner the single-pass document validator
+   * @param metrics the validation metrics
+   * @param blocklist the list consulted for CPFs that pass every other validation
+   * @param parallelism threads used for large batches, or 0 for one per available processor
+   * @param parallelThreshold number of documents below which batches are validated sequentially
+   */
+  @Autowired
+  public DocumentService(
+      DocumentScanner documentScanner,
+      ValidationMetrics metrics,
+      CpfBlocklist blocklist,
+      @Value("${validator.batch.parallelism:0}") int parallelism,
+      @Value("${validator.batch.parallel-threshold:" + DEFAULT_PARALLEL_THRESHOLD + "}")
+          int parallelThreshold) {
+    this.documentScanner = documentScanner;
+    this.metrics = metrics;
+    this.blocklist = blocklist;
+    this.batchPool =
+        new ForkJoinPool(
+            parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    this.parallelThreshold = Math.max(1, parallelThreshold);
+  }
+
+  /** Stops the batch threads when the application shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    batchPool.shutdown();
+  }
+
+  /**
+   * Validates a single document.
+   *
+   * @param document the document to be validated
+   * @return a DocumentResult containing validation details
+   */
+  public DocumentResultModel validateDocument(String document) {
+    // Format, repeated digits and check digits are all validated in a single pass
+    long started = metrics.start();
+    ValidationTrace trace = ValidationTrace.start(ValidationTrace.DOCUMENT);
+
+    if (trace != null) trace.stage("scan");
+    int verdict = documentScanner.scan(document, 0, document.length());
+    if (blocklist.isEnabled()) {
+      if (trace != null) trace.stage("blocklist");
+      verdict = blocklist.apply(verdict, document, 0, document.length());
+    }
+
+    if (trace != null) trace.stage("result");
+    DocumentResultModel result = new DocumentResultModel(document, verdict);
+    if (trace != null) trace.finishDocument(verdict);
+    metrics.recordDocument(started, verdict);
+    return result;
+  }
+
+  /**
+   * Validates a single document without building a result object.
+   *
+   * @param document the document to be validated
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int verdict(CharSequence document) {
+    return scan(document, 0, document.length());
+  }
+
+  /**
+   * Validates the document held in a range of a text without building a result object.
+   *
+   * @param text the characters holding the document
+   * @param start the index of the first character of the document
+   * @param end the index after the last character of the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int verdict(CharSequence text, int start, int end) {
+    return scan(text, start, end);
+  }
+
+  /**
+   * Validates a single ASCII document held in a range of a byte array, as read from a socket or
+   * file, without decoding it first. Only the result object holds a decoded copy.
+   *
+   * @param bytes the bytes holding the document
+   * @param offset the index of the first byte of the document
+   * @param length the number of bytes of the document
+   * @return a DocumentResult containing validation details
+   */
+  public DocumentResultModel validateDocument(byte[] bytes, int offset, int length) {
+    long started = metrics.start();
+    int verdict = verdict(bytes, offset, length);
+    metrics.recordDocument(started, verdict);
+    return new DocumentResultModel(
+        new String(bytes, offset, length, StandardCharsets.ISO_8859_1), verdict);
+  }
+
+  /**
+   * Validates a single ASCII document held in a range of a byte array without building a result
+   * object or decoding the bytes.
+   *
+   * @param bytes the bytes holding the document
+   * @param offset the index of the first byte of the document
+   * @param length the number of bytes of the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int verdict(byte[] bytes, int offset, int length) {
+    return blocklist.apply(
+        documentScanner.scan(bytes, offset, length), bytes, offset, offset + length);
+  }
+
+  /**
+   * Validates a single ASCII document held between the position and the limit of a byte buffer,
+   * heap or direct, without building a result object, decoding the bytes or moving the buffer
+   * position.
+   *
+   * @param buffer the bytes holding the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int verdict(ByteBuffer buffer) {
+    return verdict(buffer, buffer.position(), buffer.limit());
+  }
+
+  /**
+   * Validates a single ASCII document held in a range of a byte buffer, heap or direct, with
+   * absolute reads, so that many documents can be validated in place without moving the buffer
+   * position or limit.
+   *
+   * @param buffer the bytes holding the document
+   * @param start the index of the first byte of the document
+   * @param end the index after the last byte of the document
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   */
+  public int verdict(ByteBuffer buffer, int start, int end) {
+    return blocklist.apply(documentScanner.scan(buffer, start, end), buffer, start, end);
+  }
+
+  /** Validates the document held in a range of a text and applies the CPF list to it. */
+  private int scan(CharSequence text, int start, int end) {
+    return blocklist.apply(documentScanner.scan(text, start, end), text, start, end);
+  }
+
+  /**
+   * Validates multiple documents provided in a newline-separated string.
+   *
+   * @param documents a string containing multiple documents separated by newline
+   * @return a list of DocumentResult objects for each document
+   */
+  public List<DocumentResultModel> validateDocuments(String documents) {
+    long started = metrics.start();
+    ValidationTrace trace = ValidationTrace.start(ValidationTrace.LIST);
+
+    if (trace != null) trace.stage("lines");
+    int[] lines = lineBounds(documents);
+    byte[] verdicts = scanLines(documents, lines, trace);
+
+    if (trace != null) trace.stage("result");
+    DocumentResultModel[] results = new DocumentResultModel[verdicts.length];
+    forEachIndex(
+        results.length,
+        i ->
+            results[i] =
+                new DocumentResultModel(
+                    documents.substring(lines[2 * i], lines[2 * i + 1]), verdicts[i]));
+
+    finishBatch(BatchMode.LIST, started, verdicts, trace);
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Validates multiple documents provided in a newline-separated string, validating each distinct
+   * document number only once. Well-formed lines are normalized to a primitive key (their digits
+   * and type, regardless of punctuation), and the verdict of the first line with a key is reused
+   * for every later line with the same key. Lines with an invalid format are validated on their
+   * own.
+   *
+   * @param documents a string containing multiple documents separated by newline
+   * @return the results of every line, with the duplicate ratio of the batch
+   */
+  public BatchResultModel validateDocumentsDeduplicated(String documents) {
+    long started = metrics.start();
+    long[] tally = new long[DocumentVerdict.VERDICT_COUNT];
+    int[] lines = lineBounds(documents);
+    int count = lines.length / 2;
+    DocumentResultModel[] results = new DocumentResultModel[count];
+    LongIntHashMap verdictsByKey = new LongIntHashMap(count);
+    int distinct = 0;
+
+    for (int i = 0; i < count; i++) {
+      int start = lines[2 * i];
+      int end = lines[2 * i + 1];
+      long key = documentScanner.key(documents, start, end);
+
+      int verdict;
+      if (key < 0) {
+        verdict = scan(documents, start, end);
+        distinct++;
+      } else {
+        verdict = verdictsByKey.get(key, -1);
+        if (verdict < 0) {
+          verdict = blocklist.apply(documentScanner.verdictForKey(key), documents, start, end);
+          verdictsByKey.put(key, verdict);
+          distinct++;
+        }
+      }
+
+      results[i] = new DocumentResultModel(documents.substring(start, end), verdict);
+      tally[verdict]++;
+    }
+    metrics.recordBatch(BatchMode.DEDUPLICATED, started, tally);
+
+    double duplicateRatio = count == 0 ? 0 : (double) (count - distinct) / count;
+    return new BatchResultModel(Arrays.asList(results), count, distinct, duplicateRatio);
+  }
+
+  /**
+   * Validates multiple documents provided in a newline-separated string, reporting only their
+   * verdicts.
+   *
+   * @param documents a string containing multiple documents separated by newline
+   * @return one {@link br.edu.fesa.validator.model.DocumentVerdict} per non-blank line, in order
+   */
+  public byte[] verdicts(CharSequence documents) {
+    long started = metrics.start();
+    ValidationTrace trace = ValidationTrace.start(ValidationTrace.VERDICTS);
+
+    if (trace != null) trace.stage("lines");
+    return verdicts(documents, lineBounds(documents), started, trace);
+  }
+
+  /**
+   * Validates a batch whose line bounds the caller already found, see {@link
+   * #verdicts(CharSequence)}, so that callers keeping the bounds do not split the text twice.
+   *
+   * @param documents the newline-separated documents
+   * @param lines the bounds of the lines, as returned by {@link #lineBounds}
+   * @return one {@link br.edu.fesa.validator.model.DocumentVerdict} per line, in order
+   */
+  byte[] verdicts(CharSequence documents, int[] lines) {
+    return verdicts(
+        documents, lines, metrics.start(), ValidationTrace.start(ValidationTrace.VERDICTS));
+  }
+
+  private byte[] verdicts(
+      CharSequence documents, int[] lines, long started, ValidationTrace trace) {
+    byte[] verdicts = scanLines(documents, lines, trace);
+    finishBatch(BatchMode.VERDICTS, started, verdicts, trace);
+    return verdicts;
+  }
+
+  /**
+   * Validates the lines of a batch. Each line is scanned and checked against the CPF list in the
+   * same pass, unless a trace times the scan and the list as separate stages.
+   *
+   * @param documents the newline-separated documents
+   * @param lines the bounds of the lines, as returned by {@link #lineBounds}
+   * @param trace the trace receiving the stages, or null
+   * @return one verdict per line, in order
+   */
+  private byte[] scanLines(CharSequence documents, int[] lines, ValidationTrace trace) {
+    byte[] verdicts = new byte[lines.length / 2];
+    boolean separateBlocklist = trace != null && blocklist.isEnabled();
+
+    if (trace != null) trace.stage("scan");
+    forEachIndex(
+        verdicts.length,
+        i -> {
+          int start = lines[2 * i];
+          int end = lines[2 * i + 1];
+          verdicts[i] =
+              (byte)
+                  (separateBlocklist
+                      ? documentScanner.scan(documents, start, end)
+                      : scan(documents, start, end));
+        });
+
+    if (separateBlocklist) {
+      trace.stage("blocklist");
+      forEachIndex(
+          verdicts.length,
+          i ->
+              verdicts[i] =
+                  (byte) blocklist.apply(verdicts[i], documents, lines[2 * i], lines[2 * i + 1]));
+    }
+    return verdicts;
+  }
+
+  /** Reports the verdicts of a batch to the trace, if any, and to the metrics, if enabled. */
+  private void finishBatch(BatchMode mode, long started, byte[] verdicts, ValidationTrace trace) {
+    if (trace == null && !metrics.isEnabled()) {
+      return;
+    }
+
+    long[] tally = new long[DocumentVerdict.VERDICT_COUNT];
+    for (byte verdict : verdicts) {
+      tally[verdict]++;
+    }
+    if (trace != null) trace.finishBatch(tally);
+    metrics.recordBatch(mode, started, tally);
+  }
+
+  /**
+   * Runs an action for every index of a batch, splitting the index range across the batch pool
+   * when the batch reaches the parallel threshold. Each index is handled exactly once, so actions
+   * that write to their own slot keep the input order.
+   *
+   * @param count the number of indexes
+   * @param action the action to run for each index
+   */
+  private void forEachIndex(int count, IntConsumer action) {
+    if (count < parallelThreshold) {
+      for (int i = 0; i < count; i++) {
+        action.accept(i);
+      }
+      return;
+    }
+
+    // Split into a few ranges per thread so that work stealing can balance uneven lines
+    int leafSize = Math.max(1024, count / (batchPool.getParallelism() * 8));
+    batchPool.invoke(new RangeTask(0, count, leafSize, action));
+  }
+
+  /** Fork/join task running an action over a range of indexes. */
+  private static final class RangeTask extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final int leafSize;
+    private final IntConsumer action;
+
+    RangeTask(int from, int to, int leafSize, IntConsumer action) {
+      this.from = from;
+      this.to = to;
+      this.leafSize = leafSize;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= leafSize) {
+        for (int i = from; i < to; i++) {
+          action.accept(i);
+        }
+        return;
+      }
+
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new RangeTask(from, middle, leafSize, action), new RangeTask(middle, to, leafSize, action));
+    }
+  }
+
+  /**
+   * Finds the bounds of the trimmed, non-blank lines of a text.
+   *
+   * @param text the newline-separated text
+   * @return the start and end of each line, stored in consecutive slots
+   */
+  static int[] lineBounds(CharSequence text) {
+    LineBounds lines = new LineBounds();
+    DocumentValidator.forEachLine(text, lines);
+    return Arrays.copyOf(lines.bounds, lines.size);
+  }
+
+  /** Collects line bounds into a growable array. */
+  private static final class LineBounds implements DocumentValidator.LineConsumer {
+    private int[] bounds = new int[256];
+    private int size;
+
+    @Override
+    public void accept(int start, int end) {
+      if (size + 2 > bounds.length) {
+        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+      }
+      bounds[size++] = start;
+      bounds[size++] = end;
+    }
+  }
+
+  /**
+   * Validates an unbounded stream of newline-separated documents, writing one result per line as
+   * soon as each document is read. Memory use stays constant: characters are read through a fixed
+   * buffer into a single reusable line. Lines longer than {@value #MAX_LINE_LENGTH} characters are
+   * reported as invalid format, echoing only their first {@value #MAX_LINE_LENGTH} characters.
+   *
+   * @param reader the source of newline-separated documents
+   * @param writer the destination of the results
+   * @param format the format of the results
+   * @return the number of documents validated
+   * @throws IOException if the source cannot be read or the destination cannot be written
+   */
+  public long validateStream(Reader reader, Writer writer, ResultFormat format)
+      throws IOException {
+    long started = metrics.start();
+    long[] tally = new long[DocumentVerdict.VERDICT_COUNT];
+    char[] buffer = new char[8192];
+    StringBuilder line = new StringBuilder(MAX_LINE_LENGTH);
+    boolean overflow = false;
+    int read;
+
+    format.writeHeader(writer);
+    while ((read = reader.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++) {
+        char c = buffer[i];
+        if (c == '\n') {
+          writeStreamedLine(line, overflow, writer, format, tally);
+          line.setLength(0);
+          overflow = false;
+        } else if (line.length() < MAX_LINE_LENGTH) {
+          line.append(c);
+        } else {
+          overflow = true;
+        }
+      }
+    }
+    writeStreamedLine(line, overflow, writer, format, tally);
+    writer.flush();
+
+    metrics.recordBatch(BatchMode.STREAM, started, tally);
+    return Arrays.stream(tally).sum();
+  }
+
+  private void writeStreamedLine(
+      StringBuilder line, boolean overflow, Writer writer, ResultFormat format, long[] tally)
+      throws IOException {
+    int start = 0;
+    int end = line.length();
+    while (start < end && line.charAt(start) <= ' ') start++;
+    while (end > start && line.charAt(end - 1) <= ' ') end--;
+
+    if (!overflow && DocumentValidator.isBlank(line, start, end)) {
+      return;
+    }
+
+    line.setLength(end);
+    line.delete(0, start);
+    // The dropped characters may hold anything, so a truncated line never passes
+    int verdict = overflow ? 0 : scan(line, 0, line.length());
+    format.writeResult(writer, line, verdict);
+    tally[verdict]++;
+  }
+
+  /**
+   * Validates one column of an unbounded stream of delimited rows, such as a CSV or TSV file,
+   * copying every row to the output with two columns appended: whether the document passed every
+   * validation and, if not, the reasons. Rows are scanned as bytes, in place, and copied without
+   * being decoded or split, so memory use stays constant and throughput is bounded by the
+   * streams; only a row longer than the read buffer makes it grow, up to {@value #MAX_ROW_LENGTH}
+   * bytes. Quoted fields may hold separators and line breaks, row endings are kept, and empty rows
+   * are copied unchanged.
+   *
+   * @param input the rows, in an ASCII-compatible encoding such as UTF-8
+   * @param output the destination of the rows with the result columns
+   * @param format the separator, header and column of the rows
+   * @return the number of documents validated
+   * @throws IOException if the input cannot be read or the output cannot be written, or if a row
+   *     is longer than {@value #MAX_ROW_LENGTH} bytes
+   * @throws IllegalArgumentException if the column is not in the header or is not the only column
+   *     of a file without separator
+   */
+  public long validateColumn(InputStream input, OutputStream output, DelimitedFormatModel format)
+      throws IOException {
+    long started = metrics.start();
+    ColumnWriter writer = new ColumnWriter(new BufferedOutputStream(output, 1 << 16), format);
+    boolean delimited = format.getDelimiter() != 0;
+    byte separator = (byte) format.getDelimiter();
+
+    byte[] buffer = new byte[1 << 16];
+    int limit = 0;
+    int rowStart = 0;
+    int position = 0;
+    while (true) {
+      if (position == limit) {
+        if (rowStart > 0) {
+          System.arraycopy(buffer, rowStart, buffer, 0, limit - rowStart);
+          limit -= rowStart;
+          position -= rowStart;
+          rowStart = 0;
+        }
+        if (limit == buffer.length) {
+          if (buffer.length >= MAX_ROW_LENGTH) {
+            throw new IOException("Linha excede " + MAX_ROW_LENGTH + " bytes");
+          }
+          buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+          break;
+        }
+        limit += read;
+      }
+
+      byte b = buffer[position];
+      int quote = writer.quote;
+      if (delimited) {
+        writer.quote = DelimitedQuotes.next(quote, b, b == separator || b == '\n');
+      }
+      if (!DelimitedQuotes.isQuoted(quote)) {
+        if (b == '\n') {
+          writer.writeRow(buffer, rowStart, position, true);
+          rowStart = position + 1;
+        } else if (delimited && b == separator) {
+          writer.endField(position - rowStart);
+        }
+      }
+      position++;
+    }
+
+    if (rowStart < limit) {
+      writer.writeRow(buffer, rowStart, limit, false);
+    }
+    writer.out.flush();
+
+    metrics.recordBatch(BatchMode.UPLOAD, started, writer.tally);
+    return Arrays.stream(writer.tally).sum();
+  }
+
+  /**
+   * Parses the column of a {@link DelimitedFormatModel}.
+   *
+   * @param column a zero-based index, a header name, or null or blank for the first column
+   * @return the index, or -1 for a header name
+   */
+  public static int parseColumn(String column) {
+    if (column == null || column.isBlank()) {
+      return 0;
+    }
+    String trimmed = column.trim();
+    for (int i = 0; i < trimmed.length(); i++) {
+      if (trimmed.charAt(i) < '0' || trimmed.charAt(i) > '9') {
+        return -1;
+      }
+    }
+    return trimmed.length() > 9 ? Integer.MAX_VALUE : Integer.parseInt(trimmed);
+  }
+
+  /**
+   * Finds a named column among the fields of a header row, ignoring case, surrounding quotes and a
+   * leading UTF-8 byte order mark.
+   *
+   * @param row the bytes holding the header row
+   * @param start the index of the first byte of the row
+   * @param end the index after the last byte of the row, line ending excluded
+   * @param delimiter the field separator
+   * @param name the column name
+   * @return the zero-based index of the column, or -1 if no field has the name
+   */
+  public static int columnIndex(byte[] row, int start, int end, char delimiter, String name) {
+    if (end - start >= 3 && Arrays.equals(row, start, start + 3, UTF8_BOM, 0, 3)) {
+      start += 3;
+    }
+
+    int index = 0;
+    int fieldStart = start;
+    int quote = DelimitedQuotes.FIELD_START;
+    for (int i = start; i <= end; i++) {
+      boolean boundary = i == end || (row[i] == delimiter && !DelimitedQuotes.isQuoted(quote));
+      if (i < end) {
+        quote = DelimitedQuotes.next(quote, row[i], row[i] == delimiter);
+      }
+      if (boundary) {
+        String field = new String(row, fieldStart, i - fieldStart, StandardCharsets.UTF_8).trim();
+        if (field.length() >= 2 && field.startsWith("\"") && field.endsWith("\"")) {
+          field = field.substring(1, field.length() - 1).replace("\"\"", "\"").trim();
+        }
+        if (field.equalsIgnoreCase(name.trim())) {
+          return index;
+        }
+        index++;
+        fieldStart = i + 1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Tracks the selected column of the row being scanned by {@link #validateColumn} and writes
+   * finished rows with their result columns. Field bounds are kept relative to the row start, so
+   * they survive the row being moved within the read buffer.
+   */
+  private final class ColumnWriter {
+    final OutputStream out;
+    final long[] tally = new long[DocumentVerdict.VERDICT_COUNT];
+    int quote;
+
+    private final byte separator;
+    private final String columnName;
+    private final byte[][] resultColumns = new byte[DocumentVerdict.VERDICT_COUNT][];
+    private boolean header;
+    private boolean firstRow = true;
+    private int column;
+    private int field;
+    private int columnStart;
+    private int columnEnd;
+
+    ColumnWriter(OutputStream out, DelimitedFormatModel format) {
+      this.out = out;
+      boolean delimited = format.getDelimiter() != 0;
+      this.separator = (byte) (delimited ? format.getDelimiter() : ',');
+      this.header = format.isHeader();
+      this.column = parseColumn(format.getColumn());
+      this.columnName = column < 0 ? format.getColumn().trim() : null;
+
+      if (columnName != null && !header) {
+        throw new IllegalArgumentException(
+            "Coluna por nome exige linha de cabeçalho: " + columnName);
+      }
+      if (!delimited && column != 0) {
+        throw new IllegalArgumentException("Arquivo sem separador tem uma única coluna");
+      }
+
+      for (int verdict = 0; verdict < resultColumns.length; verdict++) {
+        boolean valid = DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED);
+        resultColumns[verdict] =
+            columns(valid ? "true" : "false", DocumentVerdict.reason(verdict));
+      }
+      resetRow();
+    }
+
+    void endField(int offset) {
+      if (field == column) {
+        columnEnd = offset;
+      }
+      field++;
+      if (field == column) {
+        columnStart = offset + 1;
+      }
+    }
+
+    /**
+     * Writes a finished row followed by its result columns and its original line ending.
+     *
+     * @param buffer the bytes holding the row
+     * @param start the index of the first byte of the row
+     * @param end the index of the line feed ending the row, or after its last byte
+     * @param terminated whether the row ends with a line feed
+     */
+    void writeRow(byte[] buffer, int start, int end, boolean terminated) throws IOException {
+      int contentEnd = end > start && buffer[end - 1] == '\r' ? end - 1 : end;
+      int lineEnd = terminated ? end + 1 : end;
+      boolean bom =
+          firstRow && end - start >= 3 && Arrays.equals(buffer, start, start + 3, UTF8_BOM, 0, 3);
+      firstRow = false;
+
+      byte[] result;
+      if (header) {
+        header = false;
+        if (columnName != null) {
+          column = columnIndex(buffer, start, contentEnd, (char) separator, columnName);
+          if (column < 0) {
+            throw new IllegalArgumentException(
+                "Coluna não encontrada no cabeçalho: " + columnName);
+          }
+        }
+        result = columns("validated", "reason");
+      } else if (isBlank(buffer, start, contentEnd)) {
+        result = null;
+      } else {
+        int documentStart = columnStart < 0 ? contentEnd : start + columnStart;
+        int documentEnd = columnEnd < 0 ? contentEnd : start + columnEnd;
+        if (bom && columnStart == 0) {
+          documentStart += 3;
+        }
+        while (documentStart < documentEnd && (buffer[documentStart] & 0xFF) <= ' ') {
+          documentStart++;
+        }
+        while (documentEnd > documentStart && (buffer[documentEnd - 1] & 0xFF) <= ' ') {
+          documentEnd--;
+        }
+        if (documentEnd - documentStart >= 2
+            && buffer[documentStart] == '"'
+            && buffer[documentEnd - 1] == '"') {
+          documentStart++;
+          documentEnd--;
+        }
+
+        int verdict = verdict(buffer, documentStart, documentEnd - documentStart);
+        tally[verdict]++;
+        result = resultColumns[verdict];
+      }
+
+      out.write(buffer, start, contentEnd - start);
+      if (result != null) {
+        out.write(result);
+      }
+      out.write(buffer, contentEnd, lineEnd - contentEnd);
+      resetRow();
+    }
+
+    private void resetRow() {
+      quote = DelimitedQuotes.FIELD_START;
+      field = 0;
+      columnStart = column == 0 ? 0 : -1;
+      columnEnd = -1;
+    }
+
+    /** Two columns, each preceded by the separator and quoted if it holds the separator. */
+    private byte[] columns(String first, String second) {
+      String separatorText = String.valueOf((char) (separator & 0xFF));
+      StringBuilder columns = new StringBuilder();
+      for (String value : new String[] {first, second}) {
+        columns.append(separatorText);
+        if (value.contains(separatorText) || value.contains("\"")) {
+          columns.append('"').append(value.replace("\"", "\"\"")).append('"');
+        } else {
+          columns.append(value);
+        }
+      }
+      return columns.toString().getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  private static boolean isBlank(byte[] bytes, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if ((bytes[i] & 0xFF) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
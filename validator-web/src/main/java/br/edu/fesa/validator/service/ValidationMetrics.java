@@ -0,0 +1,207 @@
+package br.edu.fesa.validator.service;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records validation metrics through Micrometer. Every meter is registered up front and looked up
+ * by verdict word, so recording a document costs two clock reads and a few adder increments, and
+ * batches are tallied into a local histogram that is added to the counters in bulk. When disabled
+ * no meter is registered and recording does nothing.
+ */
+@Component
+public class ValidationMetrics {
+
+  /** Kinds of batch validation, reported as the {@code mode} tag of the batch meters. */
+  public enum BatchMode {
+    LIST,
+    DEDUPLICATED,
+    VERDICTS,
+    STREAM,
+    UPLOAD
+  }
+
+  private final boolean enabled;
+  private final Timer documentTimer;
+  private final Timer[] batchTimers;
+  private final DistributionSummary[] batchSizes;
+
+  // Outcome counter followed by one counter per failure reason, for every verdict word
+  private final Counter[][] countersByVerdict;
+
+  /**
+   * Creates the metrics of the validation service.
+   *
+   * @param registry the registry the meters are published to
+   * @param enabled whether metrics are recorded at all
+   */
+  @Autowired
+  public ValidationMetrics(
+      MeterRegistry registry, @Value("${validator.metrics.enabled:true}") boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      documentTimer = null;
+      batchTimers = null;
+      batchSizes = null;
+      countersByVerdict = null;
+      return;
+    }
+
+    documentTimer =
+        Timer.builder("validator.document.validation")
+            .description("Single-pass validation of one document (format, repeated and check digits)")
+            .publishPercentileHistogram()
+            .register(registry);
+
+    BatchMode[] modes = BatchMode.values();
+    batchTimers = new Timer[modes.length];
+    batchSizes = new DistributionSummary[modes.length];
+    for (BatchMode mode : modes) {
+      String tag = mode.name().toLowerCase(Locale.ROOT);
+      batchTimers[mode.ordinal()] =
+          Timer.builder("validator.batch.validation")
+              .description("Validation of a whole batch of documents")
+              .tag("mode", tag)
+              .publishPercentileHistogram()
+              .register(registry);
+      batchSizes[mode.ordinal()] =
+          DistributionSummary.builder("validator.batch.size")
+              .description("Number of documents per batch")
+              .baseUnit("documents")
+              .tag("mode", tag)
+              .publishPercentileHistogram()
+              .register(registry);
+    }
+
+    countersByVerdict = new Counter[DocumentVerdict.VERDICT_COUNT][];
+    for (int verdict = 0; verdict < countersByVerdict.length; verdict++) {
+      countersByVerdict[verdict] = counters(registry, verdict);
+    }
+  }
+
+  /**
+   * Creates metrics that record nothing, for services built outside the application context.
+   *
+   * @return disabled metrics
+   */
+  public static ValidationMetrics disabled() {
+    return new ValidationMetrics(null, false);
+  }
+
+  /**
+   * Indicates whether metrics are recorded.
+   *
+   * @return true if recording is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Reads the clock at the start of a timed validation.
+   *
+   * @return the start time to pass to the matching record method, or 0 when disabled
+   */
+  public long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Records the validation of a single document.
+   *
+   * @param start the value returned by {@link #start()}
+   * @param verdict the {@link DocumentVerdict} word of the document
+   */
+  public void recordDocument(long start, int verdict) {
+    if (!enabled) {
+      return;
+    }
+    documentTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    for (Counter counter : countersByVerdict[verdict]) {
+      counter.increment();
+    }
+  }
+
+  /**
+   * Records the validation of a batch from the tally of its verdicts.
+   *
+   * @param mode the kind of batch
+   * @param start the value returned by {@link #start()}
+   * @param tally the number of documents per {@link DocumentVerdict} word
+   */
+  public void recordBatch(BatchMode mode, long start, long[] tally) {
+    if (!enabled) {
+      return;
+    }
+    batchTimers[mode.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+    long size = 0;
+    for (int verdict = 0; verdict < tally.length; verdict++) {
+      long count = tally[verdict];
+      if (count > 0) {
+        size += count;
+        for (Counter counter : countersByVerdict[verdict]) {
+          counter.increment(count);
+        }
+      }
+    }
+    batchSizes[mode.ordinal()].record(size);
+  }
+
+  /**
+   * Registers the counters incremented for a verdict: its outcome and type, and each failure
+   * reason of its message.
+   *
+   * @param registry the registry the meters are published to
+   * @param verdict the verdict word
+   * @return the counters of the verdict
+   */
+  private static Counter[] counters(MeterRegistry registry, int verdict) {
+    boolean validated = DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED);
+    String type = DocumentVerdict.type(verdict);
+    List<Counter> counters = new ArrayList<>();
+
+    counters.add(
+        Counter.builder("validator.documents")
+            .description("Validated documents by outcome and detected type")
+            .tag("outcome", validated ? "valid" : "invalid")
+            .tag("type", type == null ? "none" : type.toLowerCase(Locale.ROOT))
+            .register(registry));
+
+    if (!validated) {
+      // Same categories as the validation message
+      boolean validFormat = DocumentVerdict.has(verdict, DocumentVerdict.VALID_FORMAT);
+      if (DocumentVerdict.has(verdict, DocumentVerdict.REPEATED_DIGITS)) {
+        counters.add(failure(registry, "repeated_digits"));
+      }
+      if (!validFormat) {
+        counters.add(failure(registry, "invalid_format"));
+      }
+      if (validFormat && !DocumentVerdict.has(verdict, DocumentVerdict.CHECK_DIGITS_VALID)) {
+        counters.add(failure(registry, "check_digits"));
+      }
+      if (DocumentVerdict.has(verdict, DocumentVerdict.BLOCKED)) {
+        counters.add(failure(registry, "blocked"));
+      }
+    }
+
+    return counters.toArray(new Counter[0]);
+  }
+
+  private static Counter failure(MeterRegistry registry, String reason) {
+    return Counter.builder("validator.document.failures")
+        .description("Invalid documents by failure reason")
+        .tag("reason", reason)
+        .register(registry);
+  }
+}
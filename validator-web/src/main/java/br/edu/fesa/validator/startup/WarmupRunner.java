@@ -0,0 +1,191 @@
+package br.edu.fesa.validator.startup;
+
+import br.edu.fesa.validator.model.DelimitedFormatModel;
+import br.edu.fesa.validator.model.ResultFormat;
+import br.edu.fesa.validator.service.CpfBlocklist;
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.service.ValidationMetrics;
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a synthetic corpus through the validation code before the instance accepts traffic, so that
+ * the first real requests find the automaton, the check digit loops and the batch paths already
+ * compiled by the JIT. Application runners complete before Spring Boot publishes the readiness
+ * state, so {@code /actuator/health/readiness} reports {@code OUT_OF_SERVICE} until the warm-up
+ * ends.
+ *
+ * <p>The corpus goes through a {@link DocumentService} of its own, sharing the scanner and the CPF
+ * list of the application but with metrics disabled, so validation dashboards do not count it. A
+ * few requests to the local HTTP endpoints then load the web stack; the handful of documents they
+ * carry are counted like any other. The bean always exists and checks {@code
+ * validator.warmup.enabled} when it runs, so the switch also works on AOT-processed builds, whose
+ * beans are fixed at build time.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+  // Documents per batch; the default parallel threshold, so both batch paths get compiled
+  private static final int BATCH_SIZE = DocumentService.DEFAULT_PARALLEL_THRESHOLD;
+
+  private final DocumentScanner documentScanner;
+  private final CpfBlocklist blocklist;
+  private final Environment environment;
+  private final boolean enabled;
+  private final int documents;
+  private final Duration timeLimit;
+  private final int requests;
+
+  /**
+   * Creates the warm-up runner.
+   *
+   * @param documentScanner the single-pass document validator used by the application
+   * @param blocklist the CPF list used by the application
+   * @param environment the environment holding the port of the running web server
+   * @param enabled whether the warm-up runs at all
+   * @param documents number of synthetic documents validated
+   * @param timeLimit time after which the warm-up stops, even if documents are left
+   * @param requests number of requests sent to each local HTTP endpoint
+   */
+  @Autowired
+  public WarmupRunner(
+      DocumentScanner documentScanner,
+      CpfBlocklist blocklist,
+      Environment environment,
+      @Value("${validator.warmup.enabled:false}") boolean enabled,
+      @Value("${validator.warmup.documents:500000}") int documents,
+      @Value("${validator.warmup.time-limit:20s}") Duration timeLimit,
+      @Value("${validator.warmup.requests:20}") int requests) {
+    this.documentScanner = documentScanner;
+    this.blocklist = blocklist;
+    this.environment = environment;
+    this.enabled = enabled;
+    this.documents = documents;
+    this.timeLimit = timeLimit;
+    this.requests = requests;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!enabled) {
+      return;
+    }
+
+    long started = System.nanoTime();
+    long validated = warmUpService(started + timeLimit.toNanos());
+    int sent = warmUpEndpoints();
+    long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+    log.info(
+        "Aquecimento concluído em {} ms: {} documentos validados, {} requisições locais",
+        elapsedMillis,
+        validated,
+        sent);
+  }
+
+  /**
+   * Validates the corpus batch by batch through every validation path of the service.
+   *
+   * @param deadline the {@link System#nanoTime} value after which no new batch is started
+   * @return the number of documents validated
+   */
+  long warmUpService(long deadline) {
+    DocumentService service =
+        new DocumentService(
+            documentScanner,
+            ValidationMetrics.disabled(),
+            blocklist,
+            0,
+            DocumentService.DEFAULT_PARALLEL_THRESHOLD);
+    DocumentGenerator generator = new DocumentGenerator(42L);
+    long validated = 0;
+
+    try {
+      while (validated < documents && System.nanoTime() < deadline) {
+        String[] corpus = generator.documents((int) Math.min(BATCH_SIZE, documents - validated));
+        String batch = String.join("\n", corpus);
+
+        for (String document : corpus) {
+          service.validateDocument(document);
+        }
+        service.verdicts(batch);
+        service.validateDocuments(batch);
+        service.validateDocumentsDeduplicated(batch);
+        service.validateStream(new StringReader(batch), Writer.nullWriter(), ResultFormat.NDJSON);
+        service.validateColumn(
+            new ByteArrayInputStream(batch.getBytes(StandardCharsets.US_ASCII)),
+            OutputStream.nullOutputStream(),
+            new DelimitedFormatModel('\0', false, "0"));
+        validated += corpus.length;
+      }
+    } catch (IOException e) {
+      // Reading from memory and writing to a null writer cannot fail
+      throw new IllegalStateException(e);
+    } finally {
+      service.shutdown();
+    }
+    return validated;
+  }
+
+  /**
+   * Sends a few requests to the local endpoints, if a web server is running.
+   *
+   * @return the number of requests answered
+   */
+  int warmUpEndpoints() {
+    String port = environment.getProperty("local.server.port");
+    if (port == null || requests <= 0) {
+      return 0;
+    }
+
+    String base = "http://localhost:" + port;
+    String batch = String.join("\n", new DocumentGenerator(7L).documents(10));
+    HttpRequest[] warmups = {
+      HttpRequest.newBuilder(URI.create(base + "/")).GET().build(),
+      HttpRequest.newBuilder(URI.create(base + "/api/validate/stream?format=ndjson"))
+          .header("Content-Type", "text/plain")
+          .POST(HttpRequest.BodyPublishers.ofString(batch))
+          .build(),
+      HttpRequest.newBuilder(URI.create(base + "/actuator/health")).GET().build()
+    };
+
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    int answered = 0;
+    for (int i = 0; i < requests; i++) {
+      for (HttpRequest request : warmups) {
+        try {
+          client.send(request, HttpResponse.BodyHandlers.discarding());
+          answered++;
+        } catch (IOException e) {
+          log.warn("Falha na requisição de aquecimento para {}", request.uri(), e);
+          return answered;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return answered;
+        }
+      }
+    }
+    return answered;
+  }
+}
@@ -0,0 +1,29 @@
+package br.edu.fesa.validator.tcp;
+
+/**
+ * Binary protocol of the TCP validation service. Integers are big-endian.
+ *
+ * <ul>
+ *   <li>Request frame: {@code int32} payload length, then the payload: one entry per document,
+ *       each a {@code u8} length followed by that many ASCII bytes.
+ *   <li>Response frame: {@code int32} document count {@code N}, then {@code N} bytes, each the
+ *       {@link br.edu.fesa.validator.model.DocumentVerdict} word of the document at the same
+ *       position in the request.
+ * </ul>
+ *
+ * <p>Frames may be pipelined: responses are written in request order. A malformed frame closes the
+ * connection.
+ */
+public final class TcpProtocol {
+
+  /** Size of the length and count headers. */
+  public static final int HEADER_SIZE = Integer.BYTES;
+
+  /** Longest document of a request entry. */
+  public static final int MAX_DOCUMENT_LENGTH = 255;
+
+  /** Default largest request payload accepted by the server. */
+  public static final int DEFAULT_MAX_FRAME_SIZE = 64 * 1024;
+
+  private TcpProtocol() {}
+}
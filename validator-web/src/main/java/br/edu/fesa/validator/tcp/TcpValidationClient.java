@@ -0,0 +1,115 @@
+package br.edu.fesa.validator.tcp;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Blocking client of the {@link TcpProtocol}. A client owns one connection and two reusable
+ * buffers, so it must not be shared between threads; requests allocate nothing.
+ */
+public class TcpValidationClient implements Closeable {
+
+  private final SocketChannel channel;
+  private final ByteBuffer request;
+  private final ByteBuffer response;
+
+  /**
+   * Connects to a validation server that accepts the default frame size.
+   *
+   * @param host the server host
+   * @param port the server port
+   * @throws IOException if the connection fails
+   */
+  public TcpValidationClient(String host, int port) throws IOException {
+    this(host, port, TcpProtocol.DEFAULT_MAX_FRAME_SIZE);
+  }
+
+  /**
+   * Connects to a validation server.
+   *
+   * @param host the server host
+   * @param port the server port
+   * @param maxFrameSize the largest request payload accepted by the server
+   * @throws IOException if the connection fails
+   */
+  public TcpValidationClient(String host, int port, int maxFrameSize) throws IOException {
+    channel = SocketChannel.open(new InetSocketAddress(host, port));
+    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    request = ByteBuffer.allocateDirect(TcpProtocol.HEADER_SIZE + maxFrameSize);
+    response = ByteBuffer.allocateDirect(TcpProtocol.HEADER_SIZE + maxFrameSize);
+  }
+
+  /**
+   * Validates a single document.
+   *
+   * @param document the document, at most {@value TcpProtocol#MAX_DOCUMENT_LENGTH} characters
+   * @return a {@link br.edu.fesa.validator.model.DocumentVerdict} word
+   * @throws IOException if the server cannot be reached
+   */
+  public int validate(CharSequence document) throws IOException {
+    request.clear().position(TcpProtocol.HEADER_SIZE);
+    put(document);
+    exchange(1);
+    return response.get(TcpProtocol.HEADER_SIZE);
+  }
+
+  /**
+   * Validates a batch of documents in a single frame.
+   *
+   * @param documents the documents, each at most {@value TcpProtocol#MAX_DOCUMENT_LENGTH}
+   *     characters
+   * @param count the number of documents to validate, from the start of the array
+   * @param verdicts receives the {@link br.edu.fesa.validator.model.DocumentVerdict} word of each
+   *     document
+   * @throws IOException if the server cannot be reached
+   * @throws IllegalArgumentException if the documents do not fit in a frame
+   */
+  public void validate(CharSequence[] documents, int count, byte[] verdicts) throws IOException {
+    request.clear().position(TcpProtocol.HEADER_SIZE);
+    for (int i = 0; i < count; i++) {
+      put(documents[i]);
+    }
+    exchange(count);
+    response.get(TcpProtocol.HEADER_SIZE, verdicts, 0, count);
+  }
+
+  private void put(CharSequence document) {
+    int length = document.length();
+    if (length > TcpProtocol.MAX_DOCUMENT_LENGTH || request.remaining() < 1 + length) {
+      throw new IllegalArgumentException("Documento não cabe no quadro de requisição");
+    }
+    request.put((byte) length);
+    for (int i = 0; i < length; i++) {
+      // Non-ASCII characters are sent as a byte the automaton rejects
+      char c = document.charAt(i);
+      request.put(c < 0x80 ? (byte) c : (byte) 0xFF);
+    }
+  }
+
+  private void exchange(int count) throws IOException {
+    request.putInt(0, request.position() - TcpProtocol.HEADER_SIZE).flip();
+    while (request.hasRemaining()) {
+      channel.write(request);
+    }
+
+    response.clear().limit(TcpProtocol.HEADER_SIZE + count);
+    while (response.hasRemaining()) {
+      if (channel.read(response) < 0) {
+        throw new EOFException("Conexão encerrada pelo servidor");
+      }
+    }
+    if (response.getInt(0) != count) {
+      throw new IOException("Resposta com número de documentos inesperado");
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,307 @@
+package br.edu.fesa.validator.tcp;
+
+import br.edu.fesa.validator.service.DocumentService;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves the {@link TcpProtocol} on a plain NIO listener. An acceptor thread hands connections
+ * to a few selector threads; each of them reads frames into pooled direct buffers, validates every
+ * document in place with the {@link DocumentService}, CPF list included, and writes the verdict
+ * bytes back, without allocating per request.
+ */
+@Component
+@ConditionalOnProperty(name = "validator.tcp.enabled", havingValue = "true")
+public class TcpValidationServer implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(TcpValidationServer.class);
+
+  private final DocumentService documentService;
+  private final int port;
+  private final int threads;
+  private final int maxFrameSize;
+  private ServerSocketChannel serverChannel;
+  private Thread acceptor;
+  private Worker[] workers;
+
+  /**
+   * Creates the server.
+   *
+   * @param documentService the document validation service
+   * @param port the port to listen on, or 0 for any free port
+   * @param threads selector threads serving connections
+   * @param maxFrameSize the largest request payload accepted
+   */
+  @Autowired
+  public TcpValidationServer(
+      DocumentService documentService,
+      @Value("${validator.tcp.port:9090}") int port,
+      @Value("${validator.tcp.threads:1}") int threads,
+      @Value("${validator.tcp.max-frame-size:" + TcpProtocol.DEFAULT_MAX_FRAME_SIZE + "}")
+          int maxFrameSize) {
+    this.documentService = documentService;
+    this.port = port;
+    this.threads = Math.max(1, threads);
+    this.maxFrameSize = maxFrameSize;
+  }
+
+  @Override
+  public synchronized void start() {
+    try {
+      serverChannel = ServerSocketChannel.open();
+      serverChannel.bind(new InetSocketAddress(port));
+      workers = new Worker[threads];
+      for (int i = 0; i < threads; i++) {
+        workers[i] = new Worker(Selector.open());
+        Thread thread = new Thread(workers[i], "validator-tcp-" + i);
+        thread.setDaemon(true);
+        workers[i].thread = thread;
+        thread.start();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Não foi possível iniciar o servidor TCP", e);
+    }
+
+    acceptor = new Thread(this::accept, "validator-tcp-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+    log.info("Servidor TCP ouvindo na porta {}", getPort());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (serverChannel == null) {
+      return;
+    }
+    try {
+      serverChannel.close();
+      acceptor.join();
+      for (Worker worker : workers) {
+        worker.running = false;
+        worker.selector.wakeup();
+        worker.thread.join();
+      }
+    } catch (IOException e) {
+      log.warn("Falha ao encerrar o servidor TCP", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    serverChannel = null;
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return serverChannel != null;
+  }
+
+  /**
+   * Returns the port the server is bound to.
+   *
+   * @return the bound port, or -1 when not running
+   */
+  public synchronized int getPort() {
+    try {
+      return serverChannel == null
+          ? -1
+          : ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private void accept() {
+    int next = 0;
+    while (serverChannel.isOpen()) {
+      try {
+        SocketChannel channel = serverChannel.accept();
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        workers[next++ % workers.length].register(channel);
+      } catch (ClosedChannelException e) {
+        return;
+      } catch (IOException e) {
+        log.warn("Falha ao aceitar conexão TCP", e);
+      }
+    }
+  }
+
+  /**
+   * Validates every complete frame held in a buffer, as long as the response buffer has room for
+   * the response.
+   *
+   * @param in the received bytes, in read mode; consumed frames are skipped
+   * @param out the response bytes, in write mode
+   * @return false if a malformed frame was found
+   */
+  boolean process(ByteBuffer in, ByteBuffer out) {
+    while (in.remaining() >= TcpProtocol.HEADER_SIZE) {
+      int start = in.position();
+      int length = in.getInt(start);
+      if (length < 0 || length > maxFrameSize) {
+        return false;
+      }
+      if (in.remaining() < TcpProtocol.HEADER_SIZE + length
+          || out.remaining() < TcpProtocol.HEADER_SIZE + length) {
+        return true;
+      }
+
+      // Every entry takes at least one byte, so the response can never outgrow the request
+      int countPosition = out.position();
+      out.position(countPosition + TcpProtocol.HEADER_SIZE);
+      int end = start + TcpProtocol.HEADER_SIZE + length;
+      int count = 0;
+      for (int i = start + TcpProtocol.HEADER_SIZE; i < end; count++) {
+        int documentEnd = i + 1 + (in.get(i) & 0xFF);
+        if (documentEnd > end) {
+          return false;
+        }
+        out.put((byte) documentService.verdict(in, i + 1, documentEnd));
+        i = documentEnd;
+      }
+      out.putInt(countPosition, count);
+      in.position(end);
+    }
+    return true;
+  }
+
+  /** Selector thread serving a share of the connections. */
+  private final class Worker implements Runnable {
+    private final Selector selector;
+    private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+
+    // Direct buffers of closed connections, reused by new ones
+    private final ArrayDeque<ByteBuffer> pool = new ArrayDeque<>();
+
+    private volatile boolean running = true;
+    private Thread thread;
+
+    Worker(Selector selector) {
+      this.selector = selector;
+    }
+
+    void register(SocketChannel channel) {
+      pending.add(channel);
+      selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        try {
+          selector.select();
+          SocketChannel channel;
+          while ((channel = pending.poll()) != null) {
+            channel.register(selector, SelectionKey.OP_READ, new Connection(acquire(), acquire()));
+          }
+
+          Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+          while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            serve(key);
+          }
+        } catch (IOException e) {
+          log.warn("Falha no seletor TCP", e);
+        }
+      }
+
+      for (SelectionKey key : selector.keys()) {
+        close(key);
+      }
+      try {
+        selector.close();
+      } catch (IOException e) {
+        log.warn("Falha ao fechar o seletor TCP", e);
+      }
+    }
+
+    private void serve(SelectionKey key) {
+      SocketChannel channel = (SocketChannel) key.channel();
+      Connection connection = (Connection) key.attachment();
+      try {
+        if (key.isReadable() && channel.read(connection.in) < 0) {
+          close(key);
+          return;
+        }
+
+        // Alternate between validating and flushing until no more progress can be made
+        boolean progress = true;
+        while (progress) {
+          connection.in.flip();
+          int before = connection.in.remaining();
+          boolean valid = process(connection.in, connection.out);
+          progress = connection.in.remaining() < before;
+          connection.in.compact();
+          if (!valid) {
+            close(key);
+            return;
+          }
+
+          connection.out.flip();
+          channel.write(connection.out);
+          progress &= !connection.out.hasRemaining();
+          connection.out.compact();
+        }
+
+        int interest = connection.in.hasRemaining() ? SelectionKey.OP_READ : 0;
+        if (connection.out.position() > 0) {
+          interest |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(interest);
+      } catch (IOException e) {
+        close(key);
+      }
+    }
+
+    private ByteBuffer acquire() {
+      ByteBuffer buffer = pool.poll();
+      return buffer != null
+          ? buffer
+          : ByteBuffer.allocateDirect(TcpProtocol.HEADER_SIZE + maxFrameSize);
+    }
+
+    private void close(SelectionKey key) {
+      if (!key.isValid()) {
+        return;
+      }
+      Connection connection = (Connection) key.attachment();
+      key.cancel();
+      try {
+        key.channel().close();
+      } catch (IOException e) {
+        log.debug("Falha ao fechar conexão TCP", e);
+      }
+      pool.push(connection.in.clear());
+      pool.push(connection.out.clear());
+    }
+  }
+
+  /** Buffers of an open connection, both kept in write mode between events. */
+  private static final class Connection {
+    private final ByteBuffer in;
+    private final ByteBuffer out;
+
+    Connection(ByteBuffer in, ByteBuffer out) {
+      this.in = in;
+      this.out = out;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package br.edu.fesa.validator.upload;
+
+/**
+ * Tracks quoting across the bytes of a delimited row, as in RFC 4180: a field is quoted only when
+ * it starts with a quote, and a doubled quote inside a quoted field stands for one quote. A quote
+ * anywhere else, such as in {@code 12" disk}, is an ordinary character, so a stray quote never
+ * swallows the separators and line breaks of the rows after it.
+ *
+ * <p>The state is a plain int, advanced one byte at a time with {@link #next}; scanners start
+ * every row at {@link #FIELD_START} and treat a separator or line feed as a boundary only when
+ * {@link #isQuoted} is false for the state it was read in.
+ */
+public final class DelimitedQuotes {
+
+  /** At the first byte of a field, where a quote opens a quoted field. */
+  public static final int FIELD_START = 0;
+
+  // Inside a field that did not start with a quote
+  private static final int UNQUOTED = 1;
+
+  // Inside a quoted field, where separators and line breaks are data
+  private static final int QUOTED = 2;
+
+  // Just after a quote inside a quoted field: the field ends here unless another quote follows
+  private static final int QUOTE_IN_QUOTED = 3;
+
+  private DelimitedQuotes() {}
+
+  /**
+   * Advances the state over one byte.
+   *
+   * @param state the state before the byte
+   * @param b the byte
+   * @param boundary whether the byte is a field separator or a line feed
+   * @return the state after the byte
+   */
+  public static int next(int state, int b, boolean boundary) {
+    switch (state) {
+      case QUOTED:
+        return b == '"' ? QUOTE_IN_QUOTED : QUOTED;
+      case QUOTE_IN_QUOTED:
+        if (b == '"') {
+          return QUOTED;
+        }
+        // Bytes after the closing quote are kept as unquoted data
+        return boundary ? FIELD_START : UNQUOTED;
+      case FIELD_START:
+        if (b == '"') {
+          return QUOTED;
+        }
+        return boundary ? FIELD_START : UNQUOTED;
+      default:
+        return boundary ? FIELD_START : UNQUOTED;
+    }
+  }
+
+  /**
+   * Indicates whether a separator or line feed read in a state is part of a quoted field.
+   *
+   * @param state the state before the byte
+   * @return true if the byte is data rather than a boundary
+   */
+  public static boolean isQuoted(int state) {
+    return state == QUOTED;
+  }
+}
@@ -0,0 +1,366 @@
+package br.edu.fesa.validator.upload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Reads the parts of a {@code multipart/form-data} body in order, straight from the request
+ * stream. Unlike the servlet multipart support, which stores each file in memory or on disk
+ * before the handler runs, a part is read while it arrives: its stream ends at the next boundary,
+ * and only a fixed buffer is held. Parts must be read in the order they were sent; moving to the
+ * next part skips whatever is left of the current one.
+ */
+public final class MultipartStream {
+
+  /** Size of the read buffer, which bounds the memory used by a multipart body. */
+  static final int BUFFER_SIZE = 1 << 16;
+
+  /** Largest header block accepted for a single part. */
+  static final int MAX_HEADER_SIZE = 8192;
+
+  private final InputStream input;
+  private final byte[] delimiter;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+
+  // Index of the next delimiter in the buffer, or -1 if none starts before searchFrom
+  private int delimiterAt = -1;
+  private int searchFrom;
+  private boolean finished;
+
+  private String name;
+  private String filename;
+  private String contentType;
+  private PartInputStream part;
+
+  /**
+   * Creates a reader over a multipart body.
+   *
+   * @param input the request body
+   * @param boundary the boundary from the content type of the request, without leading dashes
+   */
+  public MultipartStream(InputStream input, String boundary) {
+    this.input = input;
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+
+    // The first boundary is not preceded by a line break; pretend it is, and read whatever comes
+    // before it as a preamble part that is skipped
+    buffer[0] = '\r';
+    buffer[1] = '\n';
+    limit = 2;
+    part = new PartInputStream();
+  }
+
+  /**
+   * Extracts the boundary of a multipart content type.
+   *
+   * @param contentType the content type of the request
+   * @return the boundary, or null if the content type is not {@code multipart/form-data} or has no
+   *     boundary
+   */
+  public static String boundary(String contentType) {
+    if (contentType == null
+        || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+      return null;
+    }
+    String boundary = parameter(contentType, "boundary");
+    return boundary == null || boundary.isEmpty() || boundary.length() > 70 ? null : boundary;
+  }
+
+  /**
+   * Skips the rest of the current part and reads the headers of the next one.
+   *
+   * @return true if there is a next part, false once the closing boundary is reached
+   * @throws IOException if the body cannot be read or is not well-formed
+   */
+  public boolean nextPart() throws IOException {
+    if (finished) {
+      return false;
+    }
+
+    part.skipRemaining();
+    position += delimiter.length;
+
+    require(2);
+    if (buffer[position] == '-' && buffer[position + 1] == '-') {
+      finished = true;
+      return false;
+    }
+
+    // Transport padding may follow the boundary before its line break
+    String padding = readLine();
+    if (!padding.isBlank()) {
+      throw new IOException("Delimitador multipart malformado");
+    }
+
+    name = null;
+    filename = null;
+    contentType = null;
+    int headerSize = 0;
+    String line;
+    while (!(line = readLine()).isEmpty()) {
+      headerSize += line.length();
+      if (headerSize > MAX_HEADER_SIZE) {
+        throw new IOException("Cabeçalhos multipart excedem " + MAX_HEADER_SIZE + " bytes");
+      }
+
+      int colon = line.indexOf(':');
+      if (colon < 0) {
+        continue;
+      }
+      String header = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+      String value = line.substring(colon + 1).trim();
+      if (header.equals("content-disposition")) {
+        name = parameter(value, "name");
+        filename = parameter(value, "filename");
+      } else if (header.equals("content-type")) {
+        contentType = value;
+      }
+    }
+
+    part = new PartInputStream();
+    return true;
+  }
+
+  /**
+   * Returns the field name of the current part.
+   *
+   * @return the name from its {@code Content-Disposition} header, or null if it has none
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the file name of the current part.
+   *
+   * @return the file name from its {@code Content-Disposition} header, or null for a plain field
+   */
+  public String getFilename() {
+    return filename;
+  }
+
+  /**
+   * Returns the content type of the current part.
+   *
+   * @return the value of its {@code Content-Type} header, or null if it has none
+   */
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * Returns the body of the current part. The stream ends at the next boundary and must not be
+   * used after {@link #nextPart()}.
+   *
+   * @return the stream of the part body
+   */
+  public InputStream getInputStream() {
+    return part;
+  }
+
+  /**
+   * Reads the whole body of the current part as UTF-8 text, for small form fields.
+   *
+   * @param maxLength the largest number of bytes accepted
+   * @return the field value
+   * @throws IOException if the body cannot be read or is longer than {@code maxLength}
+   */
+  public String readString(int maxLength) throws IOException {
+    ByteArrayOutputStream value = new ByteArrayOutputStream();
+    byte[] chunk = new byte[256];
+    int read;
+    while ((read = part.read(chunk)) != -1) {
+      if (value.size() + read > maxLength) {
+        throw new IOException("Campo multipart excede " + maxLength + " bytes: " + name);
+      }
+      value.write(chunk, 0, read);
+    }
+    return value.toString(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Makes at least a number of unread bytes available in the buffer.
+   *
+   * @param count the number of bytes needed, at most the buffer size
+   * @return false if the body ended first
+   * @throws IOException if the body cannot be read
+   */
+  private boolean fill(int count) throws IOException {
+    if (limit - position >= count) {
+      return true;
+    }
+
+    int shift = position;
+    System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+    limit -= shift;
+    position = 0;
+    delimiterAt = delimiterAt >= shift ? delimiterAt - shift : -1;
+    searchFrom = Math.max(0, searchFrom - shift);
+    while (limit < count) {
+      int read = input.read(buffer, limit, buffer.length - limit);
+      if (read == -1) {
+        return false;
+      }
+      limit += read;
+    }
+    return true;
+  }
+
+  private void require(int count) throws IOException {
+    if (!fill(count)) {
+      throw new IOException("Corpo multipart truncado");
+    }
+  }
+
+  /** Reads a header line terminated by CRLF, decoded as UTF-8 as browsers send file names. */
+  private String readLine() throws IOException {
+    int end = position;
+    while (true) {
+      if (end + 1 >= limit) {
+        int scanned = end - position;
+        if (scanned + 2 > MAX_HEADER_SIZE) {
+          throw new IOException("Cabeçalhos multipart excedem " + MAX_HEADER_SIZE + " bytes");
+        }
+        require(scanned + 2);
+        end = position + scanned;
+      }
+      if (buffer[end] == '\r' && buffer[end + 1] == '\n') {
+        String line = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+        position = end + 2;
+        return line;
+      }
+      end++;
+    }
+  }
+
+  /**
+   * Finds the delimiter in the unread bytes of the buffer.
+   *
+   * @return the index of the delimiter, or -1 if it does not start before the last bytes that
+   *     could be a prefix of it
+   */
+  private int findDelimiter() {
+    if (delimiterAt >= position) {
+      return delimiterAt;
+    }
+
+    int last = limit - delimiter.length;
+    for (int i = Math.max(position, searchFrom); i <= last; i++) {
+      if (buffer[i] != '\r') {
+        continue;
+      }
+      int j = 1;
+      while (j < delimiter.length && buffer[i + j] == delimiter[j]) {
+        j++;
+      }
+      if (j == delimiter.length) {
+        delimiterAt = i;
+        searchFrom = i + 1;
+        return i;
+      }
+    }
+    searchFrom = Math.max(position, last + 1);
+    return -1;
+  }
+
+  /** Parameter of a header value, such as {@code name="file"}; quotes are removed. */
+  private static String parameter(String header, String parameter) {
+    int index = 0;
+    String lower = header.toLowerCase(Locale.ROOT);
+    while ((index = lower.indexOf(parameter + "=", index)) >= 0) {
+      boolean separated = index == 0 || " ;\t".indexOf(lower.charAt(index - 1)) >= 0;
+      int start = index + parameter.length() + 1;
+      index = start;
+      if (!separated) {
+        continue;
+      }
+
+      if (start < header.length() && header.charAt(start) == '"') {
+        int end = header.indexOf('"', start + 1);
+        return header.substring(start + 1, end < 0 ? header.length() : end);
+      }
+      int end = header.indexOf(';', start);
+      return header.substring(start, end < 0 ? header.length() : end).trim();
+    }
+    return null;
+  }
+
+  /** Body of one part, ending where the next delimiter starts. */
+  private final class PartInputStream extends InputStream {
+    private boolean ended;
+
+    @Override
+    public int read() throws IOException {
+      if (remaining() == -1) {
+        return -1;
+      }
+      return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+
+      int remaining = remaining();
+      if (remaining == -1) {
+        return -1;
+      }
+      int count = Math.min(length, remaining);
+      System.arraycopy(buffer, position, bytes, offset, count);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return ended || part != this ? 0 : partBytes();
+    }
+
+    void skipRemaining() throws IOException {
+      int remaining;
+      while ((remaining = remaining()) != -1) {
+        position += remaining;
+      }
+    }
+
+    /**
+     * Buffers more of the part when needed.
+     *
+     * @return the number of buffered bytes of the part, at least one, or -1 at its end
+     */
+    private int remaining() throws IOException {
+      if (ended || part != this) {
+        return -1;
+      }
+
+      int count = partBytes();
+      if (count == 0) {
+        // Either the delimiter is next or too few bytes are buffered to tell
+        require(delimiter.length);
+        count = partBytes();
+        if (count == 0) {
+          ended = true;
+          return -1;
+        }
+      }
+      return count;
+    }
+
+    /** Unread bytes that certainly belong to the part. */
+    private int partBytes() {
+      int delimiterStart = findDelimiter();
+      if (delimiterStart >= 0) {
+        return delimiterStart - position;
+      }
+      // Keep the bytes that could still turn out to be the start of the delimiter
+      return Math.max(0, limit - position - (delimiter.length - 1));
+    }
+  }
+}
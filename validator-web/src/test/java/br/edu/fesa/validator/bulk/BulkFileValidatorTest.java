@@ -0,0 +1,99 @@
+package br.edu.fesa.validator.bulk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.ResultFormat;
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the BulkFileValidator class. */
+class BulkFileValidatorTest {
+
+  private final DocumentScanner scanner = new DocumentScanner(new AFDValidator());
+  private final DocumentService documentService = new DocumentService(scanner);
+  private final BulkFileValidator validator = new BulkFileValidator(documentService);
+
+  @TempDir Path directory;
+
+  @AfterEach
+  void tearDown() {
+    documentService.shutdown();
+  }
+
+  // Mixed file split across threads – Should match the streamed CSV results line by line
+  @Test
+  void validate_MixedFile_ShouldMatchStreamedResults() throws Exception {
+    String[] samples = {
+      "811.835.170-09", "34.998.152-8", "33.331.427-X", "111.111.111-11", "12a34-56b7", "  ", "",
+      "811835170-00\r", "349981528"
+    };
+    SplittableRandom random = new SplittableRandom(3L);
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      content.append(samples[random.nextInt(samples.length)]).append('\n');
+    }
+
+    Path input = directory.resolve("documents.txt");
+    Path output = directory.resolve("results.csv");
+    Files.writeString(input, content, StandardCharsets.US_ASCII);
+
+    BulkSummary summary = validator.validate(input, output, 4);
+
+    StringWriter expected = new StringWriter();
+    long documents =
+        documentService.validateStream(
+            new StringReader(content.toString()), expected, ResultFormat.CSV);
+    assertEquals(expected.toString(), Files.readString(output, StandardCharsets.UTF_8));
+    assertEquals(documents, summary.getDocuments());
+    assertEquals(summary.getDocuments(), summary.getValid() + summary.getInvalid());
+    assertTrue(summary.getValid() > 0);
+  }
+
+  // Lines with CSV metacharacters and a long line – Should quote them and echo them whole
+  @Test
+  void validate_SpecialLines_ShouldEscapeDocuments() throws Exception {
+    String longLine = "12".repeat(DocumentService.MAX_LINE_LENGTH);
+    Path input = directory.resolve("documents.txt");
+    Path output = directory.resolve("results.csv");
+    Files.writeString(
+        input, "811,835\n12\"34\n12\r34\n" + longLine + "\n", StandardCharsets.US_ASCII);
+
+    BulkSummary summary = validator.validate(input, output, 1);
+
+    String invalid = ",,false,false,false,false,Documento inválido: formato inválido\n";
+    assertEquals(
+        "document,type,validated,validFormat,repeatedDigits,checkDigitsValid,message\n"
+            + "\"811,835\""
+            + invalid
+            + "\"12\"\"34\""
+            + invalid
+            + "\"12\r34\""
+            + invalid
+            + longLine
+            + invalid,
+        Files.readString(output, StandardCharsets.UTF_8));
+    assertEquals(4, summary.getInvalid());
+  }
+
+  // Empty file – Should write only the header
+  @Test
+  void validate_EmptyFile_ShouldWriteHeader() throws Exception {
+    Path input = Files.createFile(directory.resolve("empty.txt"));
+    Path output = directory.resolve("results.csv");
+
+    BulkSummary summary = validator.validate(input, output, 2);
+
+    assertEquals(0, summary.getDocuments());
+    assertEquals(1, Files.readAllLines(output).size());
+  }
+}
@@ -0,0 +1,100 @@
+package br.edu.fesa.validator.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/** Unit tests for the DocumentStreamController class. */
+class DocumentStreamControllerTest {
+
+  private static final String BOUNDARY = "----limite42";
+
+  private final DocumentService documentService =
+      new DocumentService(new DocumentScanner(new AFDValidator()));
+  private final MockMvc mvc;
+
+  DocumentStreamControllerTest() {
+    DocumentStreamController controller = new DocumentStreamController();
+    ReflectionTestUtils.setField(controller, "documentService", documentService);
+    mvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    documentService.shutdown();
+  }
+
+  // ====================== Upload Tests ======================
+
+  // Pipe-separated file without a delimiter option – Should detect the pipe and find the column
+  @Test
+  void validateUpload_PipeFile_ShouldDetectDelimiter() throws Exception {
+    MockHttpServletResponse response =
+        upload("clientes.txt", "nome|cpf\n\"Silva, Ana\"|811.835.170-09\n", "column=cpf");
+
+    assertEquals(200, response.getStatus());
+    assertEquals(
+        "nome|cpf|validated|reason\n\"Silva, Ana\"|811.835.170-09|true|\n",
+        response.getContentAsString(StandardCharsets.UTF_8));
+  }
+
+  // Uploads with each separator – Should name and type the result after its separator
+  @Test
+  void validateUpload_Separators_ShouldNameResults() throws Exception {
+    assertResult("clientes.csv", "cpf,nome\n", "clientes-validado.csv", "text/csv");
+    assertResult(
+        "clientes.tsv", "cpf\tnome\n", "clientes-validado.tsv", "text/tab-separated-values");
+    assertResult("clientes.csv", "cpf;nome\n", "clientes-validado.txt", "text/plain");
+    assertResult("clientes.csv", "cpf|nome\n", "clientes-validado.txt", "text/plain");
+    assertResult("cpfs.txt", "811.835.170-09\n", "cpfs-validado.txt", "text/plain");
+  }
+
+  private void assertResult(String filename, String content, String result, String type)
+      throws Exception {
+    MockHttpServletResponse response = upload(filename, content, "column=0");
+
+    assertEquals(200, response.getStatus());
+    assertEquals(type + ";charset=UTF-8", response.getContentType());
+    assertEquals(
+        result,
+        ContentDisposition.parse(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+            .getFilename());
+  }
+
+  private MockHttpServletResponse upload(String filename, String content, String query)
+      throws Exception {
+    String body =
+        "--"
+            + BOUNDARY
+            + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\""
+            + filename
+            + "\"\r\nContent-Type: application/octet-stream\r\n\r\n"
+            + content
+            + "\r\n--"
+            + BOUNDARY
+            + "--\r\n";
+    MvcResult result =
+        mvc.perform(
+                post("/api/validate/upload?" + query)
+                    .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                    .content(body.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    return mvc.perform(asyncDispatch(result)).andReturn().getResponse();
+  }
+}
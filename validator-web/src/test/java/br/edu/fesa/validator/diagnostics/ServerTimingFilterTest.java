@@ -0,0 +1,57 @@
+package br.edu.fesa.validator.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Unit tests for the ServerTimingFilter class. */
+class ServerTimingFilterTest {
+
+  private final DocumentService documentService =
+      new DocumentService(new DocumentScanner(new AFDValidator()));
+
+  // Handler validating a document, then writing its body
+  private final FilterChain chain =
+      (request, response) -> {
+        documentService.validateDocument("811.835.170-09");
+        response.getWriter().write("ok");
+      };
+
+  @AfterEach
+  void tearDown() {
+    documentService.shutdown();
+  }
+
+  // Enabled filter – Should add the stages before the body is written
+  @Test
+  void doFilter_Enabled_ShouldAddHeader() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new ServerTimingFilter(true).doFilter(new MockHttpServletRequest(), response, chain);
+
+    String header = response.getHeader(ServerTiming.HEADER);
+    assertNotNull(header);
+    assertTrue(header.startsWith("scan;dur="), header);
+    assertTrue(header.contains(", result;dur="), header);
+    assertEquals("ok", response.getContentAsString());
+    assertNull(ServerTiming.current());
+  }
+
+  // Disabled filter – Should leave the response untouched
+  @Test
+  void doFilter_Disabled_ShouldNotAddHeader() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new ServerTimingFilter(false).doFilter(new MockHttpServletRequest(), response, chain);
+
+    assertNull(response.getHeader(ServerTiming.HEADER));
+    assertEquals("ok", response.getContentAsString());
+  }
+}
@@ -0,0 +1,140 @@
+package br.edu.fesa.validator.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.service.CpfBlocklist;
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.service.ValidationMetrics;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.CpfBitmap;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the ValidationTrace class. */
+class ValidationTraceTest {
+
+  private final DocumentService documentService =
+      new DocumentService(new DocumentScanner(new AFDValidator()));
+
+  @TempDir Path directory;
+
+  @AfterEach
+  void tearDown() {
+    ServerTiming.unbind();
+    documentService.shutdown();
+  }
+
+  // ====================== Disabled Tests ======================
+
+  // No recording and no collector – Should not trace at all
+  @Test
+  void start_Disabled_ShouldReturnNull() {
+    assertNull(ValidationTrace.start(ValidationTrace.DOCUMENT));
+  }
+
+  // ====================== Flight Recorder Tests ======================
+
+  // Recording with both events enabled – Should report the call and each stage
+  @Test
+  void validateDocument_Recording_ShouldCommitEvents() throws Exception {
+    Path file = Files.createTempFile("validation-", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(ValidationEvent.class);
+      recording.enable(ValidationStageEvent.class);
+      recording.start();
+      documentService.validateDocument("811.835.170-08");
+      documentService.validateDocuments("811.835.170-09\n12a");
+      recording.stop();
+      recording.dump(file);
+
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      List<RecordedEvent> calls = named(events, "br.edu.fesa.validator.Validation");
+      List<RecordedEvent> stages = named(events, "br.edu.fesa.validator.ValidationStage");
+
+      assertEquals(2, calls.size());
+      RecordedEvent document = calls.get(0);
+      assertEquals("document", document.getString("operation"));
+      assertEquals("CPF", document.getString("documentType"));
+      assertEquals("invalid", document.getString("outcome"));
+      assertEquals("dígitos verificadores incorretos", document.getString("reason"));
+
+      RecordedEvent batch = calls.get(1);
+      assertEquals("list", batch.getString("operation"));
+      assertEquals(2, batch.getLong("documents"));
+      assertEquals(1, batch.getLong("valid"));
+
+      assertEquals(
+          List.of("scan", "result", "lines", "scan", "result"),
+          stages.stream().map(event -> event.getString("stage")).collect(Collectors.toList()));
+      assertEquals("CPF", stages.get(0).getString("documentType"));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  // ====================== Server-Timing Tests ======================
+
+  // Bound collector – Should sum the nanoseconds of every stage run on the thread
+  @Test
+  void validateDocument_BoundCollector_ShouldRecordStages() {
+    ServerTiming timing = ServerTiming.bind();
+
+    documentService.validateDocument("811.835.170-09");
+    documentService.verdicts("811.835.170-09\n33.331.427-X");
+
+    assertTrue(
+        timing.header().matches("scan;dur=\\d+\\.\\d{6}, result;dur=\\d+\\.\\d{6}, lines;.*"),
+        timing.header());
+  }
+
+  // ====================== Equivalence Tests ======================
+
+  // Same calls with and without a trace, CPF list enabled – Should return identical results
+  @Test
+  void tracedCalls_ShouldMatchUntracedCalls() throws Exception {
+    Path file = directory.resolve("blocklist.bin");
+    CpfBitmap.write(file, LongStream.of(81183517009L));
+    DocumentService listed =
+        new DocumentService(
+            new DocumentScanner(new AFDValidator()),
+            ValidationMetrics.disabled(),
+            new CpfBlocklist(file.toString(), "block", Duration.ZERO),
+            1,
+            2);
+    String documents = "811.835.170-09\n111.444.777-35\n\n33.331.427-X\n12a\n81183517009";
+
+    try {
+      DocumentResultModel document = listed.validateDocument("811.835.170-09");
+      List<DocumentResultModel> results = listed.validateDocuments(documents);
+      byte[] verdicts = listed.verdicts(documents);
+      assertTrue(document.isBlocked());
+
+      ServerTiming timing = ServerTiming.bind();
+      assertEquals(document, listed.validateDocument("811.835.170-09"));
+      assertEquals(results, listed.validateDocuments(documents));
+      assertArrayEquals(verdicts, listed.verdicts(documents));
+      assertTrue(timing.header().contains("blocklist;dur="), timing.header());
+    } finally {
+      listed.shutdown();
+    }
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(name))
+        .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+        .collect(Collectors.toList());
+  }
+}
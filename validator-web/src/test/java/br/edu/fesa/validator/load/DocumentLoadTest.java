@@ -0,0 +1,164 @@
+package br.edu.fesa.validator.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.load.OpenLoopLoadGenerator.Scenario;
+import br.edu.fesa.validator.reactive.ReactiveValidationServer;
+import br.edu.fesa.validator.utils.DocumentGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Load test of the validation endpoints over localhost, excluded from the default build. Run it
+ * with {@code mvn -Pload test}; every setting is a system property:
+ *
+ * <ul>
+ *   <li>{@code load.scenarios}: comma-separated subset of single, batch, stream and reactive
+ *   <li>{@code load.rate}: arrival rate of single-document requests, per second
+ *   <li>{@code load.batch-rate}: arrival rate of batch, stream and reactive requests, per second
+ *   <li>{@code load.batch-size}: documents per batch request
+ *   <li>{@code load.concurrency}: connections per scenario
+ *   <li>{@code load.warmup} and {@code load.duration}: phase lengths, in seconds
+ *   <li>{@code load.output}: JSON report file, by default under {@code target/load}
+ * </ul>
+ */
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"validator.reactive.enabled=true", "validator.reactive.port=0"})
+class DocumentLoadTest {
+
+  private static final int SINGLE_BODIES = 4096;
+  private static final int BATCH_BODIES = 16;
+
+  @LocalServerPort private int port;
+
+  @Autowired private ReactiveValidationServer reactiveServer;
+
+  private final DocumentGenerator generator = new DocumentGenerator(42L);
+
+  // Every scenario at its planned rate – Should answer without errors and save the JSON report
+  @Test
+  void endpoints_OpenLoopLoad_ShouldReportLatencyPercentiles() throws Exception {
+    String scenarios = System.getProperty("load.scenarios", "single,batch,stream,reactive");
+    double rate = Double.parseDouble(System.getProperty("load.rate", "2000"));
+    double batchRate = Double.parseDouble(System.getProperty("load.batch-rate", "20"));
+    int batchSize = Integer.getInteger("load.batch-size", 1000);
+    int concurrency = Integer.getInteger("load.concurrency", 32);
+    Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 20));
+
+    OpenLoopLoadGenerator load = new OpenLoopLoadGenerator(concurrency);
+    List<LoadResult> results = new ArrayList<>();
+    for (String name : scenarios.split(",")) {
+      Scenario scenario = scenario(name.trim().toLowerCase(Locale.ROOT), batchSize);
+      double scenarioRate = scenario.documentsPerRequest == 1 ? rate : batchRate;
+      LoadResult result = load.run(scenario, scenarioRate, warmup, duration);
+      results.add(result);
+      System.out.printf(
+          Locale.ROOT,
+          "%-8s %9.1f req/s %11.1f docs/s  p50 %9.1f  p99 %9.1f  p999 %9.1f  max %9.1f us"
+              + "  errors %d%n",
+          result.getScenario(),
+          result.getAchievedRate(),
+          result.getDocumentsPerSecond(),
+          result.getResponseTimeMicros().getP50(),
+          result.getResponseTimeMicros().getP99(),
+          result.getResponseTimeMicros().getP999(),
+          result.getResponseTimeMicros().getMax(),
+          result.getErrors());
+    }
+
+    Path output = save(results);
+    System.out.println("Load test report: " + output.toAbsolutePath());
+    for (LoadResult result : results) {
+      assertEquals(0, result.getErrors(), result.getScenario());
+    }
+  }
+
+  private Scenario scenario(String name, int batchSize) {
+    switch (name) {
+      case "single":
+        return new Scenario(name, formRequests("/validate", "document", SINGLE_BODIES, 1), 1);
+      case "batch":
+        return new Scenario(
+            name, formRequests("/validate/batch", "documents", BATCH_BODIES, batchSize), batchSize);
+      case "stream":
+        return new Scenario(name, textRequests(port, "/api/validate/stream", batchSize), batchSize);
+      case "reactive":
+        int reactivePort = reactiveServer.getPort();
+        return new Scenario(
+            name, textRequests(reactivePort, "/api/reactive/validate", batchSize), batchSize);
+      default:
+        throw new IllegalArgumentException("Unknown load scenario: " + name);
+    }
+  }
+
+  /** Form posts of the web interface, one or more newline-separated documents each. */
+  private List<HttpRequest> formRequests(String path, String field, int count, int documents) {
+    List<HttpRequest> requests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String value = String.join("\n", generator.documents(documents));
+      String body = field + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8);
+      requests.add(
+          HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+              .header("Content-Type", "application/x-www-form-urlencoded")
+              .POST(HttpRequest.BodyPublishers.ofString(body))
+              .build());
+    }
+    return requests;
+  }
+
+  /** Plain-text posts of newline-separated documents to a streaming endpoint. */
+  private List<HttpRequest> textRequests(int targetPort, String path, int documents) {
+    List<HttpRequest> requests = new ArrayList<>(BATCH_BODIES);
+    for (int i = 0; i < BATCH_BODIES; i++) {
+      String body = String.join("\n", generator.documents(documents));
+      requests.add(
+          HttpRequest.newBuilder(URI.create("http://localhost:" + targetPort + path))
+              .header("Content-Type", "text/plain")
+              .POST(HttpRequest.BodyPublishers.ofString(body))
+              .build());
+    }
+    return requests;
+  }
+
+  private static Path save(List<LoadResult> results) throws Exception {
+    Instant finishedAt = Instant.now();
+    Path output =
+        Path.of(
+            System.getProperty(
+                "load.output", "target/load/load-" + finishedAt.toEpochMilli() + ".json"));
+    if (output.getParent() != null) {
+      Files.createDirectories(output.getParent());
+    }
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("finishedAt", finishedAt.toString());
+    report.put("javaVersion", System.getProperty("java.version"));
+    report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+    report.put("results", results);
+    new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(output.toFile(), report);
+    return output;
+  }
+}
@@ -0,0 +1,78 @@
+package br.edu.fesa.validator.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+/** Represents the outcome of one load-test scenario, as saved in the JSON report. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadResult {
+  /** Name of the scenario */
+  private String scenario;
+
+  /** Planned arrival rate, in requests per second */
+  private double targetRate;
+
+  /** Completed requests per second over the measured phase */
+  private double achievedRate;
+
+  /** Validated documents per second over the measured phase */
+  private double documentsPerSecond;
+
+  /** Documents carried by each request */
+  private int documentsPerRequest;
+
+  /** Concurrent connections used to keep up with the arrival rate */
+  private int concurrency;
+
+  /** Requests issued during the measured phase */
+  private long requests;
+
+  /** Requests that failed or got an error status */
+  private long errors;
+
+  /** Length of the measured phase, in seconds */
+  private double durationSeconds;
+
+  /** Time from the planned send time to the response, queueing in the client included */
+  private Percentiles responseTimeMicros;
+
+  /** Time from the actual send time to the response */
+  private Percentiles serviceTimeMicros;
+
+  /** Latency percentiles of a histogram recorded in nanoseconds, in microseconds. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Percentiles {
+    private double p50;
+    private double p90;
+    private double p99;
+    private double p999;
+    private double max;
+    private double mean;
+
+    /**
+     * Reads the percentiles of a histogram.
+     *
+     * @param histogram latencies in nanoseconds
+     * @return the percentiles in microseconds
+     */
+    public static Percentiles of(Histogram histogram) {
+      return new Percentiles(
+          micros(histogram.getValueAtPercentile(50)),
+          micros(histogram.getValueAtPercentile(90)),
+          micros(histogram.getValueAtPercentile(99)),
+          micros(histogram.getValueAtPercentile(99.9)),
+          micros(histogram.getMaxValue()),
+          histogram.getMean() / 1_000.0);
+    }
+
+    private static double micros(long nanos) {
+      return nanos / 1_000.0;
+    }
+  }
+}
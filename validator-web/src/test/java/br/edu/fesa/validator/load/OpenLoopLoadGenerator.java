@@ -0,0 +1,182 @@
+package br.edu.fesa.validator.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Drives an endpoint at a fixed arrival rate, independent of how fast it answers (open loop).
+ *
+ * <p>Request {@code i} is planned at {@code start + i / rate} and its response time is measured
+ * from that planned instant, not from when it was actually sent. When the server stalls, requests
+ * that should have been sent meanwhile are charged with the wait, so the percentiles are free of
+ * coordinated omission. Each of the {@code concurrency} connections owns every
+ * {@code concurrency}-th slot of the schedule and sends synchronously.
+ */
+final class OpenLoopLoadGenerator {
+
+  /** Requests sent to one endpoint, cycled through in order. */
+  static final class Scenario {
+    final String name;
+    final List<HttpRequest> requests;
+    final int documentsPerRequest;
+
+    Scenario(String name, List<HttpRequest> requests, int documentsPerRequest) {
+      this.name = name;
+      this.requests = requests;
+      this.documentsPerRequest = documentsPerRequest;
+    }
+  }
+
+  /** Delay between building the schedule and its first slot, so every worker starts on time. */
+  private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+  private final int concurrency;
+  private final HttpClient client;
+
+  /**
+   * Creates a load generator.
+   *
+   * @param concurrency the number of connections, each served by its own thread
+   */
+  OpenLoopLoadGenerator(int concurrency) {
+    this.concurrency = concurrency;
+    this.client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+  }
+
+  /**
+   * Runs a scenario: a warm-up phase whose measurements are discarded, then the measured phase.
+   *
+   * @param scenario the requests to send
+   * @param rate the arrival rate, in requests per second
+   * @param warmup the length of the warm-up phase
+   * @param duration the length of the measured phase
+   * @return the measurements of the measured phase
+   * @throws InterruptedException if interrupted while waiting for the workers
+   */
+  LoadResult run(Scenario scenario, double rate, Duration warmup, Duration duration)
+      throws InterruptedException {
+    if (!warmup.isZero()) {
+      phase(scenario, rate, warmup);
+    }
+    Phase measured = phase(scenario, rate, duration);
+
+    double seconds = measured.elapsedNanos / 1e9;
+    return new LoadResult(
+        scenario.name,
+        rate,
+        measured.completed / seconds,
+        measured.completed * scenario.documentsPerRequest / seconds,
+        scenario.documentsPerRequest,
+        concurrency,
+        measured.completed,
+        measured.errors,
+        seconds,
+        LoadResult.Percentiles.of(measured.responseTimes),
+        LoadResult.Percentiles.of(measured.serviceTimes));
+  }
+
+  private Phase phase(Scenario scenario, double rate, Duration duration)
+      throws InterruptedException {
+    long interval = Math.max(1, Math.round(1e9 / rate));
+    long total = Math.max(1, duration.toNanos() / interval);
+    long start = System.nanoTime() + START_DELAY_NANOS;
+
+    Worker[] workers = new Worker[concurrency];
+    Thread[] threads = new Thread[concurrency];
+    for (int k = 0; k < concurrency; k++) {
+      workers[k] = new Worker(scenario, k, start, interval, total);
+      threads[k] = new Thread(workers[k], "load-" + scenario.name + "-" + k);
+      threads[k].start();
+    }
+
+    Phase phase = new Phase();
+    long end = start;
+    for (int k = 0; k < concurrency; k++) {
+      threads[k].join();
+      phase.responseTimes.add(workers[k].responseTimes);
+      phase.serviceTimes.add(workers[k].serviceTimes);
+      phase.completed += workers[k].completed;
+      phase.errors += workers[k].errors;
+      end = Math.max(end, workers[k].lastCompletion);
+    }
+    phase.elapsedNanos = end - start;
+    return phase;
+  }
+
+  /** Measurements of one phase, merged from every worker. */
+  private static final class Phase {
+    final Histogram responseTimes = new Histogram(3);
+    final Histogram serviceTimes = new Histogram(3);
+    long completed;
+    long errors;
+    long elapsedNanos;
+  }
+
+  /** Sends the slots of the schedule owned by one connection. */
+  private final class Worker implements Runnable {
+    final Histogram responseTimes = new Histogram(3);
+    final Histogram serviceTimes = new Histogram(3);
+    final Scenario scenario;
+    final int first;
+    final long start;
+    final long interval;
+    final long total;
+    long completed;
+    long errors;
+    long lastCompletion;
+
+    Worker(Scenario scenario, int first, long start, long interval, long total) {
+      this.scenario = scenario;
+      this.first = first;
+      this.start = start;
+      this.interval = interval;
+      this.total = total;
+    }
+
+    @Override
+    public void run() {
+      List<HttpRequest> requests = scenario.requests;
+      for (long slot = first; slot < total; slot += concurrency) {
+        long planned = start + slot * interval;
+        long wait;
+        while ((wait = planned - System.nanoTime()) > 0) {
+          LockSupport.parkNanos(wait);
+        }
+
+        long sent = System.nanoTime();
+        try {
+          HttpResponse<Void> response =
+              client.send(
+                  requests.get((int) (slot % requests.size())),
+                  HttpResponse.BodyHandlers.discarding());
+          if (response.statusCode() >= 400) {
+            errors++;
+          }
+        } catch (IOException e) {
+          errors++;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        long done = System.nanoTime();
+
+        responseTimes.recordValue(done - planned);
+        serviceTimes.recordValue(done - sent);
+        completed++;
+        lastCompletion = done;
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package br.edu.fesa.validator.reactive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+/** Unit tests for the ReactiveDocumentHandler and ReactiveValidationServer classes. */
+class ReactiveDocumentHandlerTest {
+
+  private final DocumentService documentService =
+      new DocumentService(new DocumentScanner(new AFDValidator()));
+  private final ReactiveDocumentHandler handler =
+      new ReactiveDocumentHandler(documentService, new ObjectMapper(), 2);
+  private final WebTestClient client = WebTestClient.bindToRouterFunction(handler.route()).build();
+
+  @AfterEach
+  void tearDown() {
+    handler.shutdown();
+    documentService.shutdown();
+  }
+
+  private List<DocumentResultModel> post(MediaType contentType, String body) {
+    return client
+        .post()
+        .uri("/api/reactive/validate")
+        .contentType(contentType)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .returnResult(DocumentResultModel.class)
+        .getResponseBody()
+        .collectList()
+        .block();
+  }
+
+  // Line-delimited body with blank lines – Should stream one result per document, in order
+  @Test
+  void validate_PlainText_ShouldStreamResultsInOrder() {
+    List<DocumentResultModel> results =
+        post(MediaType.TEXT_PLAIN, "811.835.170-09\n\n  33.331.427-X \n12a34");
+
+    assertEquals(3, results.size());
+    assertTrue(results.get(0).isValidated());
+    assertEquals("33.331.427-X", results.get(1).getDocument());
+    assertTrue(results.get(1).isValidated());
+    assertFalse(results.get(2).isValidFormat());
+  }
+
+  // NDJSON body with strings and objects – Should validate the document of each line
+  @Test
+  void validate_Ndjson_ShouldReadStringsAndObjects() {
+    List<DocumentResultModel> results =
+        post(MediaType.APPLICATION_NDJSON, "\"811.835.170-09\"\n{\"document\":\"111.111.111-11\"}\n");
+
+    assertEquals(2, results.size());
+    assertTrue(results.get(0).isValidated());
+    assertTrue(results.get(1).isRepeatedDigits());
+  }
+
+  // Large body – Should stream every result
+  @Test
+  void validate_LargeBody_ShouldStreamEveryResult() {
+    String body = "811.835.170-09\n".repeat(100_000);
+
+    assertEquals(100_000, post(MediaType.TEXT_PLAIN, body).size());
+  }
+
+  // Many concurrent clients on two event-loop threads – Should answer all of them
+  @Test
+  void server_ConcurrentClients_ShouldAnswerAll() {
+    ReactiveValidationServer server = new ReactiveValidationServer(handler, 0, 2);
+    server.start();
+    try {
+      WebClient webClient = WebClient.create("http://localhost:" + server.getPort());
+      String body = "811.835.170-09\n33.331.427-X\n".repeat(50);
+
+      Long total =
+          Flux.range(0, 200)
+              .flatMap(
+                  i ->
+                      webClient
+                          .post()
+                          .uri("/api/reactive/validate")
+                          .contentType(MediaType.TEXT_PLAIN)
+                          .bodyValue(body)
+                          .retrieve()
+                          .bodyToFlux(DocumentResultModel.class)
+                          .filter(DocumentResultModel::isValidated)
+                          .count(),
+                  200)
+              .reduce(0L, Long::sum)
+              .block();
+
+      assertEquals(200L * 100, total);
+    } finally {
+      server.stop();
+    }
+    assertFalse(server.isRunning());
+  }
+}
@@ -0,0 +1,111 @@
+package br.edu.fesa.validator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.BatchJobModel;
+import br.edu.fesa.validator.model.BatchJobPageModel;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the BatchJobService class. */
+class BatchJobServiceTest {
+
+  private final DocumentService documentService =
+      new DocumentService(new DocumentScanner(new AFDValidator()));
+
+  private final BatchJobService batchJobService =
+      new BatchJobService(documentService, 1, 1, Duration.ofMinutes(30));
+
+  @AfterEach
+  void tearDown() {
+    batchJobService.shutdown();
+  }
+
+  // Submitted batch – Should complete with progress counts and paged results
+  @Test
+  void submit_ShouldCompleteWithPagedResults() throws InterruptedException {
+    String documents = "811.835.170-09\n34.998.152-9\n\n33.331.427-X\n12a34";
+
+    BatchJobModel job = batchJobService.submit(documents);
+    BatchJobModel status = awaitFinished(job.getId());
+
+    assertEquals(BatchJobModel.Status.COMPLETED, status.getStatus());
+    assertEquals(4, status.getTotal());
+    assertEquals(4, status.getProcessed());
+    assertEquals(2, status.getValid());
+    assertEquals(2, status.getInvalid());
+
+    BatchJobPageModel page = batchJobService.results(job.getId(), 1, 3).orElseThrow();
+    assertEquals(4, page.getTotalResults());
+    assertEquals(1, page.getResults().size());
+    assertEquals("12a34", page.getResults().get(0).getDocument());
+    assertFalse(page.getResults().get(0).isValidated());
+  }
+
+  // Job polled while queued – Should report no progress and an unknown total
+  @Test
+  void status_QueuedJob_ShouldNotLookFinished() throws InterruptedException {
+    String large = "811.835.170-09\n".repeat(4_000_000);
+    BatchJobModel running = batchJobService.submit(large);
+    BatchJobModel queued = batchJobService.submit("811.835.170-09\n34.998.152-9");
+
+    BatchJobModel status = batchJobService.status(queued.getId()).orElseThrow();
+
+    assertEquals(BatchJobModel.Status.QUEUED, status.getStatus());
+    assertNull(status.getTotal());
+    assertEquals(0, status.getProcessed());
+    assertNull(status.getFinishedAt());
+    batchJobService.cancel(running.getId());
+    assertEquals(2, awaitFinished(queued.getId()).getTotal());
+  }
+
+  // Queued job cancelled – Should never run and refuse to serve results
+  @Test
+  void cancel_QueuedJob_ShouldBeCancelled() throws InterruptedException {
+    String large = "811.835.170-09\n".repeat(4_000_000);
+    BatchJobModel running = batchJobService.submit(large);
+    BatchJobModel queued = batchJobService.submit("811.835.170-09");
+
+    BatchJobModel cancelled = batchJobService.cancel(queued.getId()).orElseThrow();
+
+    assertEquals(BatchJobModel.Status.CANCELLED, cancelled.getStatus());
+    assertThrows(
+        IllegalStateException.class, () -> batchJobService.results(queued.getId(), 0, 10));
+    batchJobService.cancel(running.getId());
+    assertTrue(awaitFinished(running.getId()).getStatus().isFinished());
+  }
+
+  // Finished job past its time to live – Should be evicted
+  @Test
+  void evictExpired_ShouldRemoveFinishedJobs() throws InterruptedException {
+    BatchJobService shortLived = new BatchJobService(documentService, 1, 1, Duration.ZERO);
+    try {
+      BatchJobModel job = shortLived.submit("811.835.170-09");
+      while (!shortLived.status(job.getId()).orElseThrow().getStatus().isFinished()) {
+        Thread.sleep(5);
+      }
+      Thread.sleep(5);
+
+      shortLived.evictExpired();
+
+      assertTrue(shortLived.status(job.getId()).isEmpty());
+    } finally {
+      shortLived.shutdown();
+    }
+  }
+
+  private BatchJobModel awaitFinished(String id) throws InterruptedException {
+    for (int attempt = 0; attempt < 1000; attempt++) {
+      BatchJobModel status = batchJobService.status(id).orElseThrow();
+      if (status.getStatus().isFinished()) {
+        return status;
+      }
+      Thread.sleep(10);
+    }
+    fail("Job did not finish: " + id);
+    return null;
+  }
+}
@@ -0,0 +1,133 @@
+package br.edu.fesa.validator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.BatchResultPageModel;
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.model.ResultFilter;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+/** Unit tests for the BatchResultStore class. */
+class BatchResultStoreTest {
+
+  private static final String DOCUMENTS = "811.835.170-09\n34.998.152-9\n\n33.331.427-X\n12a34";
+
+  private final DocumentService documentService =
+      new DocumentService(new DocumentScanner(new AFDValidator()));
+
+  @TempDir Path spillDirectory;
+
+  private BatchResultStore store;
+
+  @AfterEach
+  void tearDown() {
+    if (store != null) {
+      store.shutdown();
+    }
+  }
+
+  private BatchResultStore store(DataSize maxMemory, int maxBatches) {
+    store =
+        new BatchResultStore(
+            documentService,
+            maxMemory,
+            spillDirectory.toString(),
+            Duration.ofMinutes(30),
+            maxBatches);
+    return store;
+  }
+
+  // Stored batch – Should serve its results page by page with batch-wide counts
+  @Test
+  void page_ShouldServeResultsPageByPage() {
+    BatchResultStore results = store(DataSize.ofMegabytes(1), 10);
+    String id = results.save(DOCUMENTS);
+
+    BatchResultPageModel first = results.page(id, ResultFilter.ALL, 0, 3).orElseThrow();
+    BatchResultPageModel second = results.page(id, ResultFilter.ALL, 1, 3).orElseThrow();
+
+    assertEquals(4, first.getTotalResults());
+    assertEquals(2, first.getValid());
+    assertEquals(2, first.getInvalid());
+    assertEquals(2, first.getTotalPages());
+    assertEquals(
+        List.of("811.835.170-09", "34.998.152-9", "33.331.427-X"), documents(first));
+    assertEquals(List.of("12a34"), documents(second));
+    assertFalse(second.getResults().get(0).isValidated());
+    assertTrue(results.page(id, ResultFilter.ALL, 5, 3).orElseThrow().getResults().isEmpty());
+    assertFalse(results.isSpilled(id));
+  }
+
+  // Filtered pages across index blocks – Should list only the matching results in order
+  @Test
+  void page_OnlyInvalid_ShouldSkipValidResults() {
+    BatchResultStore results = store(DataSize.ofMegabytes(16), 10);
+    StringBuilder documents = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      documents.append(i % 3 == 0 ? "invalido-" + i : "811.835.170-09").append('\n');
+    }
+    String id = results.save(documents.toString());
+
+    BatchResultPageModel page = results.page(id, ResultFilter.INVALID, 20, 100).orElseThrow();
+
+    assertEquals(3334, page.getMatchingResults());
+    assertEquals(100, page.getResults().size());
+    assertEquals("invalido-6000", page.getResults().get(0).getDocument());
+    assertTrue(page.getResults().stream().noneMatch(DocumentResultModel::isValidated));
+    BatchResultPageModel valid = results.page(id, ResultFilter.VALID, 66, 100).orElseThrow();
+    assertEquals(6666, valid.getMatchingResults());
+    assertEquals(66, valid.getResults().size());
+    assertTrue(valid.getResults().stream().allMatch(DocumentResultModel::isValidated));
+  }
+
+  // Batch beyond the memory budget – Should be spilled to a file and deleted on eviction
+  @Test
+  void save_OverMemoryBudget_ShouldSpillToFile() throws Exception {
+    BatchResultStore results = store(DataSize.ofBytes(64), 10);
+    String id = results.save(DOCUMENTS + "\nçãé");
+
+    assertTrue(results.isSpilled(id));
+    assertEquals(0, results.heapBytes());
+    try (var files = Files.list(spillDirectory)) {
+      assertEquals(1, files.count());
+    }
+    BatchResultPageModel page = results.page(id, ResultFilter.INVALID, 0, 10).orElseThrow();
+    assertEquals(List.of("34.998.152-9", "12a34", "çãé"), documents(page));
+
+    results.shutdown();
+    try (var files = Files.list(spillDirectory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  // More batches than the maximum – Should drop the oldest ones
+  @Test
+  void save_BeyondMaxBatches_ShouldDropOldest() throws InterruptedException {
+    BatchResultStore results = store(DataSize.ofMegabytes(1), 2);
+    String oldest = results.save(DOCUMENTS);
+    Thread.sleep(2);
+    String middle = results.save(DOCUMENTS);
+    Thread.sleep(2);
+    String newest = results.save(DOCUMENTS);
+
+    assertTrue(results.page(oldest, ResultFilter.ALL, 0, 10).isEmpty());
+    assertTrue(results.page(middle, ResultFilter.ALL, 0, 10).isPresent());
+    assertTrue(results.page(newest, ResultFilter.ALL, 0, 10).isPresent());
+  }
+
+  private static List<String> documents(BatchResultPageModel page) {
+    return page.getResults().stream()
+        .map(DocumentResultModel::getDocument)
+        .collect(Collectors.toList());
+  }
+}
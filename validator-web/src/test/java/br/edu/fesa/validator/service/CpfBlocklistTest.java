@@ -0,0 +1,103 @@
+package br.edu.fesa.validator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.model.DocumentVerdict;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.CpfBitmap;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the CpfBlocklist class and its use by the DocumentService. */
+class CpfBlocklistTest {
+
+  @TempDir Path directory;
+
+  private DocumentService service(CpfBlocklist blocklist) {
+    return new DocumentService(
+        new DocumentScanner(new AFDValidator()),
+        ValidationMetrics.disabled(),
+        blocklist,
+        1,
+        DocumentService.DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  private Path list(long... cpfs) throws IOException {
+    Path file = directory.resolve("blocklist.bin");
+    CpfBitmap.write(file, LongStream.of(cpfs));
+    return file;
+  }
+
+  // Listed CPF in any punctuation – Should be blocked, other documents unchanged
+  @Test
+  void validateDocument_ListedCpf_ShouldBeBlocked() throws IOException {
+    Path file = list(81183517009L);
+    CpfBlocklist blocklist = new CpfBlocklist(file.toString(), "block", Duration.ZERO);
+    DocumentService service = service(blocklist);
+
+    DocumentResultModel result = service.validateDocument("811.835.170-09");
+    assertTrue(result.isBlocked());
+    assertFalse(result.isValidated());
+    assertTrue(result.isCheckDigitsValid());
+    assertEquals("Documento inválido: CPF bloqueado", result.getMessage());
+
+    assertTrue(service.validateDocument("111.444.777-35").isValidated());
+    assertTrue(service.validateDocument("34.998.152-8").isValidated());
+    assertFalse(service.validateDocument("811.835.170-00").isBlocked());
+
+    byte[] verdicts = service.verdicts("81183517009\n811835170-09\n111.444.777-35");
+    assertTrue(DocumentVerdict.has(verdicts[0], DocumentVerdict.BLOCKED));
+    assertTrue(DocumentVerdict.has(verdicts[1], DocumentVerdict.BLOCKED));
+    assertFalse(DocumentVerdict.has(verdicts[2], DocumentVerdict.BLOCKED));
+    assertTrue(
+        service
+            .validateDocumentsDeduplicated("811.835.170-09\n81183517009")
+            .getResults()
+            .stream()
+            .allMatch(DocumentResultModel::isBlocked));
+    service.shutdown();
+  }
+
+  // Allow mode – Should block every valid CPF that is not listed
+  @Test
+  void validateDocument_AllowMode_ShouldBlockUnlistedCpfs() throws IOException {
+    Path file = list(81183517009L);
+    CpfBlocklist blocklist = new CpfBlocklist(file.toString(), "allow", Duration.ZERO);
+    DocumentService service = service(blocklist);
+
+    assertTrue(service.validateDocument("811.835.170-09").isValidated());
+    assertTrue(service.validateDocument("111.444.777-35").isBlocked());
+    service.shutdown();
+  }
+
+  // New file version – Should be swapped in on reload
+  @Test
+  void reload_ReplacedFile_ShouldSwapList() throws IOException {
+    Path file = list(81183517009L);
+    CpfBlocklist blocklist = new CpfBlocklist(file.toString(), "block", Duration.ZERO);
+    assertFalse(blocklist.reload());
+
+    CpfBitmap.write(file, LongStream.of(11144477735L, 52998224725L));
+    assertTrue(blocklist.reload());
+    assertEquals(2, blocklist.size());
+
+    DocumentService service = service(blocklist);
+    assertTrue(service.validateDocument("811.835.170-09").isValidated());
+    assertTrue(service.validateDocument("111.444.777-35").isBlocked());
+    service.shutdown();
+  }
+
+  // No file – Should leave every verdict unchanged
+  @Test
+  void disabled_ShouldNotBlock() {
+    CpfBlocklist blocklist = CpfBlocklist.disabled();
+    assertFalse(blocklist.isEnabled());
+    assertTrue(service(blocklist).validateDocument("811.835.170-09").isValidated());
+  }
+}
@@ -0,0 +1,505 @@
+package br.edu.fesa.validator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.BatchResultModel;
+import br.edu.fesa.validator.model.DelimitedFormatModel;
+import br.edu.fesa.validator.model.DocumentResultModel;
+import br.edu.fesa.validator.model.DocumentVerdict;
+import br.edu.fesa.validator.model.ResultFormat;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the DocumentService class. */
+public class DocumentServiceTest {
+
+  private final DocumentService documentService =
+      new DocumentService(new DocumentScanner(new AFDValidator()));
+
+  // ====================== Empty String Test ======================
+
+  // Empty string – Should be invalid
+  @Test
+  void validateDocument_EmptyString() {
+    String document = "";
+
+    DocumentResultModel result = documentService.validateDocument(document);
+
+    assertFalse(result.isValidated());
+    assertFalse(result.isValidFormat());
+    assertEquals("Documento inválido: formato inválido", result.getMessage());
+  }
+
+  // ====================== CPF Tests ======================
+
+  // Case 1: CPF with full punctuation (e.g.: 811.835.170-09) – Should be valid
+  @Test
+  void validateCPF_ValidFullPunctuation() {
+    String cpf = "811.835.170-09";
+
+    DocumentResultModel result = documentService.validateDocument(cpf);
+
+    assertTrue(result.isValidated());
+    assertEquals("Documento válido", result.getMessage());
+  }
+
+  // Case 2: CPF with incomplete punctuation (e.g.: 811.835170-09) – Should be valid
+  @Test
+  void validateCPF_ValidIncompletePunctuation() {
+    String cpf = "811.835170-09";
+
+    DocumentResultModel result = documentService.validateDocument(cpf);
+
+    assertTrue(result.isValidated());
+    assertEquals("Documento válido", result.getMessage());
+  }
+
+  // Case 3: CPF without punctuation (e.g.: 81183517009) – Should be valid
+  @Test
+  void validateCPF_ValidNoPunctuation() {
+    String cpf = "81183517009";
+
+    DocumentResultModel result = documentService.validateDocument(cpf);
+
+    assertTrue(result.isValidated());
+    assertEquals("Documento válido", result.getMessage());
+  }
+
+  // Case 4: CPF with all digits equal (e.g.: 111.111.111-11) – Should be invalid
+  @Test
+  void validateCPF_InvalidAllSameDigits() {
+    String cpf = "111.111.111-11";
+
+    DocumentResultModel result = documentService.validateDocument(cpf);
+
+    assertFalse(result.isValidated());
+    assertTrue(result.isRepeatedDigits());
+    assertEquals(
+        "Documento inválido: dígitos repetidos + dígitos verificadores incorretos",
+        result.getMessage());
+  }
+
+  // Case 5: CPF with wrong characters (e.g.: 123a456b789-0c) – Should be invalid
+  @Test
+  void validateCPF_InvalidWrongCharacters() {
+    String cpf = "123a456b789-0c";
+
+    DocumentResultModel result = documentService.validateDocument(cpf);
+
+    assertFalse(result.isValidated());
+    assertFalse(result.isValidFormat());
+    assertEquals("Documento inválido: formato inválido", result.getMessage());
+  }
+
+  // Case 6: CPF with too few characters (e.g.: 1234567890) – Should be invalid
+  @Test
+  void validateCPF_InvalidTooShort() {
+    String cpf = "1234567890";
+
+    DocumentResultModel result = documentService.validateDocument(cpf);
+
+    assertFalse(result.isValidated());
+    assertFalse(result.isValidFormat());
+    assertEquals("Documento inválido: formato inválido", result.getMessage());
+  }
+
+  // ====================== RG Tests ======================
+
+  // Case 1: RG with full punctuation (e.g.: 34.998.152-8) – Should be valid
+  @Test
+  void validateRG_ValidFullPunctuation() {
+    String rg = "34.998.152-8";
+
+    DocumentResultModel result = documentService.validateDocument(rg);
+
+    assertTrue(result.isValidated());
+    assertEquals("Documento válido", result.getMessage());
+  }
+
+  // Case 2: RG with incomplete punctuation (e.g.: 34.998152-8) – Should be valid
+  @Test
+  void validateRG_ValidIncompletePunctuation() {
+    String rg = "34.998152-8";
+
+    DocumentResultModel result = documentService.validateDocument(rg);
+
+    assertTrue(result.isValidated());
+    assertEquals("Documento válido", result.getMessage());
+  }
+
+  // Case 3: RG without punctuation (e.g.: 349981528) – Should be valid
+  @Test
+  void validateRG_ValidNoPunctuation() {
+    String rg = "349981528";
+
+    DocumentResultModel result = documentService.validateDocument(rg);
+
+    assertTrue(result.isValidated());
+    assertEquals("Documento válido", result.getMessage());
+  }
+
+  // Case 4: RG with all digits equal (e.g.: 11.111.111-1) – Should be invalid
+  @Test
+  void validateRG_InvalidAllSameDigits() {
+    String rg = "11.111.111-1";
+
+    DocumentResultModel result = documentService.validateDocument(rg);
+
+    assertFalse(result.isValidated());
+    assertTrue(result.isRepeatedDigits());
+    assertEquals(
+        "Documento inválido: dígitos repetidos + dígitos verificadores incorretos",
+        result.getMessage());
+  }
+
+  // Case 5: RG with wrong characters (e.g.: 12a34-56b7) – Should be invalid
+  @Test
+  void validateRG_InvalidWrongCharacters() {
+    String rg = "12a34-56b7";
+
+    DocumentResultModel result = documentService.validateDocument(rg);
+
+    assertFalse(result.isValidated());
+    assertFalse(result.isValidFormat());
+    assertEquals("Documento inválido: formato inválido", result.getMessage());
+  }
+
+  // Case 6: RG with too few characters (e.g.: 12345678) – Should be invalid
+  @Test
+  void validateRG_InvalidTooShort() {
+    String rg = "12345678";
+
+    DocumentResultModel result = documentService.validateDocument(rg);
+
+    assertFalse(result.isValidated());
+    assertFalse(result.isValidFormat());
+    assertEquals("Documento inválido: formato inválido", result.getMessage());
+  }
+
+  // ====================== CNPJ Tests ======================
+
+  // Case 1: Valid numeric CNPJ (e.g.: 11.222.333/0001-81) – Should be valid
+  @Test
+  void validateCNPJ_ValidNumeric() {
+    DocumentResultModel result = documentService.validateDocument("11.222.333/0001-81");
+
+    assertTrue(result.isValidated());
+    assertEquals("CNPJ", result.getType());
+    assertEquals("Documento válido", result.getMessage());
+  }
+
+  // Case 2: Valid alphanumeric CNPJ (e.g.: 12.ABC.345/01DE-35) – Should be valid
+  @Test
+  void validateCNPJ_ValidAlphanumeric() {
+    DocumentResultModel result = documentService.validateDocument("12ABC34501DE35");
+
+    assertTrue(result.isValidated());
+    assertFalse(result.isRepeatedDigits());
+    assertEquals("CNPJ", result.getType());
+  }
+
+  // Case 3: CNPJ with wrong check digits (e.g.: 12.ABC.345/01DE-36) – Should be invalid
+  @Test
+  void validateCNPJ_InvalidCheckDigits() {
+    DocumentResultModel result = documentService.validateDocument("12.ABC.345/01DE-36");
+
+    assertFalse(result.isValidated());
+    assertTrue(result.isValidFormat());
+    assertEquals("Documento inválido: dígitos verificadores incorretos", result.getMessage());
+  }
+
+  // Case 4: CNPJ with repeated digits (e.g.: 00.000.000/0000-00) – Should be invalid
+  @Test
+  void validateCNPJ_InvalidRepeatedDigits() {
+    DocumentResultModel result = documentService.validateDocument("00.000.000/0000-00");
+
+    assertFalse(result.isValidated());
+    assertTrue(result.isRepeatedDigits());
+    assertEquals("CNPJ", result.getType());
+  }
+
+  // Case 5: Mixed CPF/RG/CNPJ batch, deduplicated – Should match the plain batch
+  @Test
+  void validateDocumentsDeduplicated_MixedWithCnpj() {
+    String documents =
+        "11.222.333/0001-81\n12.ABC.345/01DE-35\n11222333000181\n811.835.170-09\n"
+            + "12ABC34501DE35\n33.331.427-X";
+
+    BatchResultModel batch = documentService.validateDocumentsDeduplicated(documents);
+
+    assertEquals(documentService.validateDocuments(documents), batch.getResults());
+    assertEquals(5, batch.getDistinctDocuments());
+  }
+
+  // ====================== Batch Tests ======================
+
+  // Batch with blank lines and padding – Should validate each trimmed, non-blank line in order
+  @Test
+  void validateDocuments_BlankLinesAndPadding() {
+    String documents = " 811.835.170-09 \n\n  \r\n34.998.152-9\r\n12a34-56b7";
+
+    List<DocumentResultModel> results = documentService.validateDocuments(documents);
+
+    assertEquals(3, results.size());
+    assertEquals("811.835.170-09", results.get(0).getDocument());
+    assertTrue(results.get(0).isValidated());
+    assertEquals("CPF", results.get(0).getType());
+    assertEquals("Documento inválido: dígitos verificadores incorretos", results.get(1).getMessage());
+    assertEquals("Documento inválido: formato inválido", results.get(2).getMessage());
+  }
+
+  // Batch verdicts – Should match the verdicts of the full results
+  @Test
+  void verdicts_ShouldMatchResults() {
+    String documents = "811.835.170-09\n33.331.427-X\n111.111.111-11\n12345678";
+
+    byte[] verdicts = documentService.verdicts(documents);
+    List<DocumentResultModel> results = documentService.validateDocuments(documents);
+
+    assertEquals(results.size(), verdicts.length);
+    assertArrayEquals(
+        verdicts, documentService.verdicts(documents, DocumentService.lineBounds(documents)));
+    for (int i = 0; i < verdicts.length; i++) {
+      assertEquals(results.get(i).getVerdict(), verdicts[i]);
+      assertEquals(results.get(i).getMessage(), DocumentVerdict.message(verdicts[i]));
+    }
+  }
+
+  // Large batch split across threads – Should keep the input order
+  @Test
+  void validateDocuments_Parallel_ShouldKeepOrder() {
+    DocumentService parallelService =
+        new DocumentService(new DocumentScanner(new AFDValidator()), 4, 1);
+    DocumentService sequentialService =
+        new DocumentService(new DocumentScanner(new AFDValidator()), 1, Integer.MAX_VALUE);
+    String[] samples = {"811.835.170-09", "34.998.152-9", "33.331.427-X", "12a34-56b7", ""};
+    StringBuilder documents = new StringBuilder();
+    for (int i = 0; i < 50_000; i++) {
+      documents.append(samples[i % samples.length]).append(i % 7 == 0 ? "\r\n" : "\n");
+    }
+
+    try {
+      assertEquals(
+          sequentialService.validateDocuments(documents.toString()),
+          parallelService.validateDocuments(documents.toString()));
+      assertArrayEquals(
+          sequentialService.verdicts(documents), parallelService.verdicts(documents));
+    } finally {
+      parallelService.shutdown();
+      sequentialService.shutdown();
+    }
+  }
+
+  // Deduplicated batch – Should validate each document number once and fan results out
+  @Test
+  void validateDocumentsDeduplicated_ShouldMatchFullValidation() {
+    String documents =
+        "111.444.777-35\n11144477735\n111444777-35\n34.998.152-8\n349981528\n"
+            + "12a34\n12a34\n111.111.111-11\n11111111111\n33.331.427-x";
+
+    BatchResultModel deduplicated = documentService.validateDocumentsDeduplicated(documents);
+
+    assertEquals(documentService.validateDocuments(documents), deduplicated.getResults());
+    assertEquals(10, deduplicated.getDocuments());
+    assertEquals(6, deduplicated.getDistinctDocuments());
+    assertEquals(0.4, deduplicated.getDuplicateRatio(), 1e-9);
+  }
+
+  // ====================== Stream Tests ======================
+
+  // Streamed NDJSON – Should write one JSON object per non-blank line
+  @Test
+  void validateStream_Ndjson() throws IOException {
+    StringWriter writer = new StringWriter();
+
+    long count =
+        documentService.validateStream(
+            new StringReader("811.835.170-09\r\n\n12a\"34"), writer, ResultFormat.NDJSON);
+
+    assertEquals(2, count);
+    assertEquals(
+        "{\"document\":\"811.835.170-09\",\"type\":\"CPF\",\"validated\":true,"
+            + "\"validFormat\":true,\"repeatedDigits\":false,\"checkDigitsValid\":true,"
+            + "\"message\":\"Documento válido\"}\n"
+            + "{\"document\":\"12a\\\"34\",\"type\":null,\"validated\":false,"
+            + "\"validFormat\":false,\"repeatedDigits\":false,\"checkDigitsValid\":false,"
+            + "\"message\":\"Documento inválido: formato inválido\"}\n",
+        writer.toString());
+  }
+
+  // Streamed CSV – Should write a header and one row per non-blank line
+  @Test
+  void validateStream_Csv() throws IOException {
+    StringWriter writer = new StringWriter();
+
+    documentService.validateStream(new StringReader("33.331.427-X\n"), writer, ResultFormat.CSV);
+
+    assertEquals(
+        "document,type,validated,validFormat,repeatedDigits,checkDigitsValid,message\n"
+            + "33.331.427-X,RG,true,true,false,true,Documento válido\n",
+        writer.toString());
+  }
+
+  // Line longer than the limit – Should report invalid format instead of validating the prefix
+  @Test
+  void validateStream_LongLine_ShouldBeInvalid() throws IOException {
+    String padding = " ".repeat(DocumentService.MAX_LINE_LENGTH - 14);
+    StringWriter writer = new StringWriter();
+
+    long count =
+        documentService.validateStream(
+            new StringReader(padding + "811.835.170-09 extra\n811.835.170-09"),
+            writer,
+            ResultFormat.CSV);
+
+    assertEquals(2, count);
+    assertEquals(
+        "document,type,validated,validFormat,repeatedDigits,checkDigitsValid,message\n"
+            + "811.835.170-09,,false,false,false,false,Documento inválido: formato inválido\n"
+            + "811.835.170-09,CPF,true,true,false,true,Documento válido\n",
+        writer.toString());
+  }
+
+  // ====================== Column Tests ======================
+
+  // CSV with header, quoted fields and CRLF – Should append results and keep every row intact
+  @Test
+  void validateColumn_QuotedFieldsAndLineEndings() throws IOException {
+    String input =
+        "\uFEFFnome;cpf;cidade\r\n"
+            + "Ana;\"811.835.170-09\";\"São Paulo; SP\"\r\n"
+            + "\r\n"
+            + "Caio;111.111.111-11;\"linha\ncom quebra\"\r\n"
+            + "Davi";
+
+    String output = validateColumn(input, new DelimitedFormatModel(';', true, "CPF"));
+
+    assertEquals(
+        "\uFEFFnome;cpf;cidade;validated;reason\r\n"
+            + "Ana;\"811.835.170-09\";\"São Paulo; SP\";true;\r\n"
+            + "\r\n"
+            + "Caio;111.111.111-11;\"linha\ncom quebra\";false;"
+            + "dígitos repetidos + dígitos verificadores incorretos\r\n"
+            + "Davi;false;formato inválido",
+        output);
+  }
+
+  // Quote in the middle of a field and escaped quotes – Should not merge the following rows
+  @Test
+  void validateColumn_MidFieldQuote_ShouldKeepRows() throws IOException {
+    String input =
+        "cpf,produto\n"
+            + "811.835.170-09,12\" disk\n"
+            + "111.444.777-35,\"monitor \"\"24\"\", 60 Hz\"\n"
+            + "811.835.170-08,cabo\n";
+
+    String output = validateColumn(input, new DelimitedFormatModel(',', true, "cpf"));
+
+    assertEquals(
+        "cpf,produto,validated,reason\n"
+            + "811.835.170-09,12\" disk,true,\n"
+            + "111.444.777-35,\"monitor \"\"24\"\", 60 Hz\",true,\n"
+            + "811.835.170-08,cabo,false,dígitos verificadores incorretos\n",
+        output);
+  }
+
+  // Plain file without header – Should validate every line as a document
+  @Test
+  void validateColumn_PlainFile() throws IOException {
+    String output =
+        validateColumn("33.331.427-X\n12a\n", new DelimitedFormatModel('\0', false, "0"));
+
+    assertEquals("33.331.427-X,true,\n12a,false,formato inválido\n", output);
+  }
+
+  // Rows longer than the read buffer – Should be kept whole
+  @Test
+  void validateColumn_LongRows() throws IOException {
+    String filler = "x".repeat(200_000);
+    String input = filler + "\t811.835.170-09\n" + filler + "\t811.835.170-08\n";
+
+    String output = validateColumn(input, new DelimitedFormatModel('\t', false, "1"));
+
+    assertEquals(
+        filler
+            + "\t811.835.170-09\ttrue\t\n"
+            + filler
+            + "\t811.835.170-08\tfalse\tdígitos verificadores incorretos\n",
+        output);
+  }
+
+  // Unknown column name or row beyond the limit – Should be rejected
+  @Test
+  void validateColumn_InvalidInput() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> validateColumn("nome,cpf\n", new DelimitedFormatModel(',', true, "rg")));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> validateColumn("cpf\n", new DelimitedFormatModel(',', false, "cpf")));
+
+    String row = "a".repeat(DocumentService.MAX_ROW_LENGTH + 1);
+    assertThrows(
+        IOException.class, () -> validateColumn(row, new DelimitedFormatModel(',', false, "0")));
+  }
+
+  // Header row – Should find the column regardless of case, quotes and byte order mark
+  @Test
+  void columnIndex_ShouldMatchHeaderNames() {
+    byte[] header = "\uFEFFid,\"Nome, completo\",\" CPF \"".getBytes(StandardCharsets.UTF_8);
+
+    assertEquals(0, DocumentService.columnIndex(header, 0, header.length, ',', "ID"));
+    assertEquals(1, DocumentService.columnIndex(header, 0, header.length, ',', "nome, completo"));
+    assertEquals(2, DocumentService.columnIndex(header, 0, header.length, ',', "cpf"));
+    assertEquals(-1, DocumentService.columnIndex(header, 0, header.length, ',', "rg"));
+
+    byte[] stray = "tela 12\",\"a \"\"b\"\", c\",cpf".getBytes(StandardCharsets.UTF_8);
+    assertEquals(1, DocumentService.columnIndex(stray, 0, stray.length, ',', "a \"b\", c"));
+    assertEquals(2, DocumentService.columnIndex(stray, 0, stray.length, ',', "cpf"));
+    assertEquals(-1, DocumentService.parseColumn("cpf"));
+    assertEquals(3, DocumentService.parseColumn(" 3 "));
+  }
+
+  private String validateColumn(String input, DelimitedFormatModel format) throws IOException {
+    InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    documentService.validateColumn(in, out, format);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  // ====================== Byte Input Tests ======================
+
+  // ASCII bytes inside a larger array – Should match the String validation
+  @Test
+  void validateDocument_ByteRange_ShouldMatchString() {
+    byte[] bytes = "811.835.170-09\n33.331.427-X\n".getBytes(StandardCharsets.US_ASCII);
+
+    DocumentResultModel result = documentService.validateDocument(bytes, 15, 12);
+
+    assertEquals(documentService.validateDocument("33.331.427-X"), result);
+    assertEquals(documentService.verdict("811.835.170-09"), documentService.verdict(bytes, 0, 14));
+  }
+
+  // Direct buffer with a non-ASCII byte – Should be rejected without moving the position
+  @Test
+  void verdict_DirectBuffer_ShouldMatchString() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+    buffer.put("811.835.170-09".getBytes(StandardCharsets.US_ASCII)).flip();
+    assertEquals(documentService.verdict("811.835.170-09"), documentService.verdict(buffer));
+    assertEquals(0, buffer.position());
+
+    buffer.clear();
+    buffer.put("811.835.170-0\u00e9".getBytes(StandardCharsets.UTF_8)).flip();
+    assertFalse(DocumentVerdict.has(documentService.verdict(buffer), DocumentVerdict.VALID_FORMAT));
+  }
+}
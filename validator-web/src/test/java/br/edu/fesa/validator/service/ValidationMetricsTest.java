@@ -0,0 +1,82 @@
+package br.edu.fesa.validator.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.ResultFormat;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the ValidationMetrics class. */
+class ValidationMetricsTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  private DocumentService service(boolean enabled) {
+    return new DocumentService(
+        new DocumentScanner(new AFDValidator()),
+        new ValidationMetrics(registry, enabled),
+        1,
+        DocumentService.DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  private double documents(String outcome, String type) {
+    return registry.get("validator.documents").tag("outcome", outcome).tag("type", type).counter()
+        .count();
+  }
+
+  private double failures(String reason) {
+    return registry.get("validator.document.failures").tag("reason", reason).counter().count();
+  }
+
+  // Single documents – Should be timed and counted by outcome, type and failure reason
+  @Test
+  void validateDocument_ShouldRecordTimerAndCounters() {
+    DocumentService service = service(true);
+
+    service.validateDocument("811.835.170-09");
+    service.validateDocument("111.111.111-11");
+    service.validateDocument("34.998.152-1");
+
+    assertEquals(3, registry.get("validator.document.validation").timer().count());
+    assertEquals(1, documents("valid", "cpf"));
+    assertEquals(1, documents("invalid", "cpf"));
+    assertEquals(1, documents("invalid", "rg"));
+    assertEquals(1, failures("repeated_digits"));
+    assertEquals(2, failures("check_digits"));
+    assertEquals(0, failures("invalid_format"));
+  }
+
+  // Batches – Should record their size and count every document
+  @Test
+  void batches_ShouldRecordSizeAndCounters() throws IOException {
+    DocumentService service = service(true);
+
+    service.validateDocuments("811.835.170-09\n12a34\n\n33.331.427-X");
+    service.validateStream(
+        new StringReader("811.835.170-09\n12a34\n"), new StringWriter(), ResultFormat.CSV);
+
+    assertEquals(
+        3, registry.get("validator.batch.size").tag("mode", "list").summary().totalAmount());
+    assertEquals(
+        2, registry.get("validator.batch.size").tag("mode", "stream").summary().totalAmount());
+    assertEquals(1, registry.get("validator.batch.validation").tag("mode", "list").timer().count());
+    assertEquals(2, documents("valid", "cpf"));
+    assertEquals(1, documents("valid", "rg"));
+    assertEquals(2, documents("invalid", "none"));
+    assertEquals(2, failures("invalid_format"));
+  }
+
+  // Disabled metrics – Should register no meter
+  @Test
+  void disabled_ShouldRegisterNothing() {
+    service(false).validateDocuments("811.835.170-09\n12a34");
+
+    assertTrue(registry.getMeters().isEmpty());
+  }
+}
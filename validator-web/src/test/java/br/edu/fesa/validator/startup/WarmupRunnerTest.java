@@ -0,0 +1,47 @@
+package br.edu.fesa.validator.startup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.service.CpfBlocklist;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/** Unit tests for the WarmupRunner class. */
+class WarmupRunnerTest {
+
+  private static WarmupRunner runner(int documents, Duration timeLimit) {
+    return new WarmupRunner(
+        new DocumentScanner(new AFDValidator()),
+        CpfBlocklist.disabled(),
+        new MockEnvironment(),
+        true,
+        documents,
+        timeLimit,
+        20);
+  }
+
+  // Corpus smaller than a batch – Should validate exactly the configured number of documents
+  @Test
+  void warmUpService_ShouldValidateConfiguredDocuments() {
+    long validated = runner(25_000, Duration.ofMinutes(1)).warmUpService(Long.MAX_VALUE);
+
+    assertEquals(25_000, validated);
+  }
+
+  // Deadline already passed – Should stop before the first batch
+  @Test
+  void warmUpService_PastDeadline_ShouldStop() {
+    long validated = runner(25_000, Duration.ZERO).warmUpService(System.nanoTime() - 1);
+
+    assertEquals(0, validated);
+  }
+
+  // No web server running – Should send no requests
+  @Test
+  void warmUpEndpoints_WithoutServer_ShouldSkip() {
+    assertEquals(0, runner(1, Duration.ofMinutes(1)).warmUpEndpoints());
+  }
+}
@@ -0,0 +1,170 @@
+package br.edu.fesa.validator.tcp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.edu.fesa.validator.model.DocumentVerdict;
+import br.edu.fesa.validator.service.CpfBlocklist;
+import br.edu.fesa.validator.service.DocumentService;
+import br.edu.fesa.validator.service.ValidationMetrics;
+import br.edu.fesa.validator.utils.AFDValidator;
+import br.edu.fesa.validator.utils.CpfBitmap;
+import br.edu.fesa.validator.utils.DocumentScanner;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the TcpValidationServer and TcpValidationClient classes. */
+class TcpValidationServerTest {
+
+  private static final String ALPHABET = "0123456789.-xX a";
+
+  private final DocumentScanner scanner = new DocumentScanner(new AFDValidator());
+  private final DocumentService documentService = new DocumentService(scanner);
+  private final TcpValidationServer server =
+      new TcpValidationServer(documentService, 0, 2, TcpProtocol.DEFAULT_MAX_FRAME_SIZE);
+
+  @TempDir Path directory;
+
+  @BeforeEach
+  void setUp() {
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop();
+    documentService.shutdown();
+  }
+
+  private static String randomDocument(SplittableRandom random) {
+    StringBuilder document = new StringBuilder();
+    for (int i = random.nextInt(16); i > 0; i--) {
+      document.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return document.toString();
+  }
+
+  // Single documents – Should return the scanner verdict
+  @Test
+  void validate_SingleDocument_ShouldMatchScanner() throws IOException {
+    try (TcpValidationClient client = new TcpValidationClient("localhost", server.getPort())) {
+      for (String document : new String[] {"811.835.170-09", "33.331.427-X", "111.111.111-11", ""}) {
+        assertEquals(scanner.scan(document), client.validate(document));
+      }
+    }
+  }
+
+  // Concurrent clients sending random batches – Should match the scanner for every document
+  @Test
+  void validate_ConcurrentBatches_ShouldMatchScanner() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<?>[] futures = new Future<?>[8];
+      for (int c = 0; c < futures.length; c++) {
+        long seed = c;
+        futures[c] =
+            executor.submit(
+                () -> {
+                  SplittableRandom random = new SplittableRandom(seed);
+                  String[] documents = new String[3000];
+                  byte[] verdicts = new byte[documents.length];
+                  try (TcpValidationClient client =
+                      new TcpValidationClient("localhost", server.getPort())) {
+                    for (int round = 0; round < 20; round++) {
+                      for (int i = 0; i < documents.length; i++) {
+                        documents[i] = randomDocument(random);
+                      }
+                      client.validate(documents, documents.length, verdicts);
+                      for (int i = 0; i < documents.length; i++) {
+                        assertEquals(scanner.scan(documents[i]), verdicts[i], documents[i]);
+                      }
+                    }
+                  }
+                  return null;
+                });
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // Pipelined frames written at once – Should be answered in order
+  @Test
+  void validate_PipelinedFrames_ShouldAnswerInOrder() throws IOException {
+    byte[] cpf = "811.835.170-09".getBytes();
+    byte[] frame = new byte[4 + 1 + cpf.length];
+    frame[3] = (byte) (1 + cpf.length);
+    frame[4] = (byte) cpf.length;
+    System.arraycopy(cpf, 0, frame, 5, cpf.length);
+
+    try (Socket socket = new Socket("localhost", server.getPort())) {
+      OutputStream output = socket.getOutputStream();
+      for (int i = 0; i < 1000; i++) {
+        output.write(frame);
+      }
+      output.flush();
+
+      byte[] response = socket.getInputStream().readNBytes(1000 * 5);
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(1, response[i * 5 + 3]);
+        assertEquals(scanner.scan("811.835.170-09"), response[i * 5 + 4]);
+      }
+    }
+  }
+
+  // Listed CPF – Should come back blocked, as from the service
+  @Test
+  void validate_ListedCpf_ShouldBeBlocked() throws IOException {
+    Path file = directory.resolve("blocklist.bin");
+    CpfBitmap.write(file, LongStream.of(81183517009L));
+    CpfBlocklist blocklist = new CpfBlocklist(file.toString(), "block", Duration.ZERO);
+    DocumentService listedService =
+        new DocumentService(
+            scanner,
+            ValidationMetrics.disabled(),
+            blocklist,
+            1,
+            DocumentService.DEFAULT_PARALLEL_THRESHOLD);
+    TcpValidationServer listedServer =
+        new TcpValidationServer(listedService, 0, 1, TcpProtocol.DEFAULT_MAX_FRAME_SIZE);
+    listedServer.start();
+
+    try (TcpValidationClient client =
+        new TcpValidationClient("localhost", listedServer.getPort())) {
+      int verdict = client.validate("811.835.170-09");
+      assertTrue(DocumentVerdict.has(verdict, DocumentVerdict.BLOCKED));
+      assertFalse(DocumentVerdict.has(verdict, DocumentVerdict.VALIDATED));
+      assertEquals(listedService.verdict("81183517009"), verdict);
+      assertTrue(
+          DocumentVerdict.has(client.validate("111.444.777-35"), DocumentVerdict.VALIDATED));
+    } finally {
+      listedServer.stop();
+      listedService.shutdown();
+    }
+  }
+
+  // Entry longer than its frame – Should close the connection
+  @Test
+  void validate_MalformedFrame_ShouldCloseConnection() throws IOException {
+    try (Socket socket = new Socket("localhost", server.getPort())) {
+      socket.getOutputStream().write(new byte[] {0, 0, 0, 2, 9, '1'});
+      InputStream input = socket.getInputStream();
+      assertEquals(-1, input.read());
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package br.edu.fesa.validator.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the MultipartStream class. */
+class MultipartStreamTest {
+
+  private static final String BOUNDARY = "----limite42";
+
+  // ====================== Boundary Tests ======================
+
+  // Multipart content types – Should extract the boundary only from form data
+  @Test
+  void boundary_ShouldParseContentType() {
+    assertEquals(BOUNDARY, MultipartStream.boundary("multipart/form-data; boundary=" + BOUNDARY));
+    assertEquals("a b", MultipartStream.boundary("Multipart/Form-Data; boundary=\"a b\""));
+    assertNull(MultipartStream.boundary("multipart/form-data"));
+    assertNull(MultipartStream.boundary("text/plain; boundary=x"));
+    assertNull(MultipartStream.boundary(null));
+  }
+
+  // ====================== Part Tests ======================
+
+  // Preamble, a field and a file read a few bytes at a time – Should yield each part in order
+  @Test
+  void nextPart_ShouldReadFieldsAndFiles() throws IOException {
+    // The file holds text resembling the delimiter, which must not end the part
+    String file = "cpf\r\n811.835.170-09\r\n--" + BOUNDARY.substring(0, 8) + "\r\n--x";
+    String body =
+        "preâmbulo\r\n--"
+            + BOUNDARY
+            + "\r\nContent-Disposition: form-data; name=\"column\"\r\n\r\ncpf\r\n--"
+            + BOUNDARY
+            + "  \r\nContent-Disposition: form-data; name=\"file\"; filename=\"dados.csv\"\r\n"
+            + "Content-Type: text/csv\r\n\r\n"
+            + file
+            + "\r\n--"
+            + BOUNDARY
+            + "--\r\nepílogo";
+
+    MultipartStream multipart = new MultipartStream(trickle(body), BOUNDARY);
+
+    assertTrue(multipart.nextPart());
+    assertEquals("column", multipart.getName());
+    assertNull(multipart.getFilename());
+    assertEquals("cpf", multipart.readString(16));
+
+    assertTrue(multipart.nextPart());
+    assertEquals("file", multipart.getName());
+    assertEquals("dados.csv", multipart.getFilename());
+    assertEquals("text/csv", multipart.getContentType());
+    assertEquals(
+        file, new String(multipart.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+    assertFalse(multipart.nextPart());
+    assertFalse(multipart.nextPart());
+  }
+
+  // Part left unread – Should be skipped when moving to the next part
+  @Test
+  void nextPart_ShouldSkipUnreadParts() throws IOException {
+    String body =
+        "--"
+            + BOUNDARY
+            + "\r\nContent-Disposition: form-data; name=\"a\"; filename=\"a.txt\"\r\n\r\n"
+            + "x".repeat(200_000)
+            + "\r\n--"
+            + BOUNDARY
+            + "\r\nContent-Disposition: form-data; name=\"b\"\r\n\r\nvalor\r\n--"
+            + BOUNDARY
+            + "--\r\n";
+
+    MultipartStream multipart = new MultipartStream(stream(body), BOUNDARY);
+
+    assertTrue(multipart.nextPart());
+    assertEquals('x', multipart.getInputStream().read());
+    assertTrue(multipart.nextPart());
+    assertEquals("b", multipart.getName());
+    assertEquals("valor", multipart.readString(16));
+    assertFalse(multipart.nextPart());
+  }
+
+  // Body cut before the closing boundary or oversized field – Should be rejected
+  @Test
+  void nextPart_MalformedBody_ShouldThrow() throws IOException {
+    String truncated =
+        "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"a\"\r\n\r\nvalor";
+    MultipartStream multipart = new MultipartStream(stream(truncated), BOUNDARY);
+    assertTrue(multipart.nextPart());
+    assertThrows(IOException.class, () -> multipart.getInputStream().readAllBytes());
+
+    String oversized =
+        "--"
+            + BOUNDARY
+            + "\r\nContent-Disposition: form-data; name=\"a\"\r\n\r\n0123456789\r\n--"
+            + BOUNDARY
+            + "--";
+    MultipartStream field = new MultipartStream(stream(oversized), BOUNDARY);
+    assertTrue(field.nextPart());
+    assertThrows(IOException.class, () -> field.readString(4));
+  }
+
+  private static InputStream stream(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Returns at most three bytes per read, as a slow network would. */
+  private static InputStream trickle(String body) {
+    return new FilterInputStream(stream(body)) {
+      @Override
+      public int read(byte[] bytes, int offset, int length) throws IOException {
+        return super.read(bytes, offset, Math.min(length, 3));
+      }
+    };
+  }
+}